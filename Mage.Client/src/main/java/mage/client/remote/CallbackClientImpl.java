@@ -28,7 +28,9 @@
 package mage.client.remote;
 
 import java.awt.event.KeyEvent;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import javax.swing.*;
 import mage.cards.decks.Deck;
@@ -45,6 +47,7 @@ import mage.client.util.GameManager;
 import mage.client.util.IgnoreList;
 import mage.client.util.audio.AudioManager;
 import mage.client.util.object.SaveObjectUtil;
+import mage.constants.PlayerAction;
 import mage.interfaces.callback.CallbackClient;
 import mage.interfaces.callback.ClientCallback;
 import mage.remote.ActionData;
@@ -64,15 +67,48 @@ public class CallbackClientImpl implements CallbackClient {
     private final MageFrame frame;
     private int messageId = 0;
     private int gameInformMessageId = 0;
+    private final Map<UUID, GameViewDecoder> gameViewDecoders = new HashMap<>();
 
     public CallbackClientImpl(MageFrame frame) {
         this.frame = frame;
     }
 
+    /**
+     * The server only sends the changed card views of a game, so the game
+     * views have to be restored (in the order they arrive) before they are
+     * used.
+     *
+     * @param callback
+     */
+    private void decodeGameView(ClientCallback callback) {
+        GameView gameView = null;
+        switch (callback.getMethod()) {
+            case GAME_INIT:
+            case GAME_UPDATE:
+                gameView = (GameView) callback.getData();
+                break;
+            case GAME_OVER:
+                gameViewDecoders.remove(callback.getObjectId());
+                break;
+            default:
+                if (callback.getData() instanceof GameClientMessage) {
+                    gameView = ((GameClientMessage) callback.getData()).getGameView();
+                }
+        }
+        if (gameView != null) {
+            GameViewDecoder decoder = gameViewDecoders.computeIfAbsent(callback.getObjectId(), id -> new GameViewDecoder());
+            if (decoder.decode(gameView)) {
+                logger.warn("Game view update missed - requesting full game view, messageId = " + callback.getMessageId());
+                SessionHandler.sendPlayerAction(PlayerAction.REQUEST_FULL_GAME_VIEW, callback.getObjectId(), null);
+            }
+        }
+    }
+
     @Override
     public synchronized void processCallback(final ClientCallback callback) {
         SaveObjectUtil.saveObject(callback.getData(), callback.getMethod().toString());
         callback.setData(CompressUtil.decompress(callback.getData()));
+        decodeGameView(callback);
         SwingUtilities.invokeLater(() -> {
             try {
                 logger.debug(callback.getMessageId() + " -- " + callback.getMethod());
@@ -53,6 +53,8 @@ import mage.interfaces.ServerState;
 import mage.interfaces.callback.ClientCallback;
 import mage.players.PlayerType;
 import mage.players.net.UserData;
+import mage.remote.nio.NioClient;
+import mage.remote.nio.NioFrames;
 import mage.utils.CompressUtil;
 import mage.view.*;
 import org.apache.log4j.Logger;
@@ -80,11 +82,15 @@ public class SessionImpl implements Session {
     private String sessionId;
     private MageServer server;
     private Client callbackClient;
+    private NioClient nioClient;
     private CallbackHandler callbackHandler;
     private ServerState serverState;
     private SessionState sessionState = SessionState.DISCONNECTED;
     private Connection connection;
     private final static int PING_CYCLES = 10;
+    private final static int NIO_CONNECT_TIMEOUT = 15000;
+    // same as the default socket timeout of JBoss Remoting
+    private final static int NIO_REQUEST_TIMEOUT = 60000;
     private final LinkedList<Long> pingTime = new LinkedList<>();
     private String pingInfo = "";
     private static boolean debugMode = false;
@@ -174,7 +180,7 @@ public class SessionImpl implements Session {
 
     @Override
     public synchronized boolean register(final Connection connection) {
-        return establishJBossRemotingConnection(connection) && handleRemotingTaskExceptions(new RemotingTask() {
+        return establishConnection(connection) && handleRemotingTaskExceptions(new RemotingTask() {
             @Override
             public boolean run() throws Throwable {
                 logger.info("Trying to register as " + getUserName() + " to XMAGE server at " + connection.getHost() + ':' + connection.getPort());
@@ -190,7 +196,7 @@ public class SessionImpl implements Session {
 
     @Override
     public synchronized boolean emailAuthToken(final Connection connection) {
-        return establishJBossRemotingConnection(connection) && handleRemotingTaskExceptions(new RemotingTask() {
+        return establishConnection(connection) && handleRemotingTaskExceptions(new RemotingTask() {
             @Override
             public boolean run() throws Throwable {
                 logger.info("Trying to ask for an auth token to " + getEmail() + " to XMAGE server at " + connection.getHost() + ':' + connection.getPort());
@@ -205,7 +211,7 @@ public class SessionImpl implements Session {
 
     @Override
     public synchronized boolean resetPassword(final Connection connection) {
-        return establishJBossRemotingConnection(connection) && handleRemotingTaskExceptions(new RemotingTask() {
+        return establishConnection(connection) && handleRemotingTaskExceptions(new RemotingTask() {
             @Override
             public boolean run() throws Throwable {
                 logger.info("Trying reset the password in XMAGE server at " + connection.getHost() + ':' + connection.getPort());
@@ -220,7 +226,7 @@ public class SessionImpl implements Session {
 
     @Override
     public synchronized boolean connect(final Connection connection) {
-        return establishJBossRemotingConnection(connection)
+        return establishConnection(connection)
                 && handleRemotingTaskExceptions(new RemotingTask() {
                     @Override
                     public boolean run() throws Throwable {
@@ -261,6 +267,42 @@ public class SessionImpl implements Session {
         return true;
     }
 
+    private boolean establishConnection(final Connection connection) {
+        if (NioFrames.isEnabled()) {
+            return establishNioConnection(connection);
+        }
+        return establishJBossRemotingConnection(connection);
+    }
+
+    private boolean establishNioConnection(final Connection connection) {
+        if (isConnected()) {
+            disconnect(true);
+        }
+        this.connection = connection;
+        this.canceled = false;
+        sessionState = SessionState.CONNECTING;
+        boolean result = handleRemotingTaskExceptions(new RemotingTask() {
+            @Override
+            public boolean run() throws Throwable {
+                int port = NioFrames.getPort(connection.getPort());
+                logger.info("Trying to connect to XMAGE server at " + connection.getHost() + ':' + port + " (NIO)");
+                nioClient = new NioClient(connection.getHost(), port, NIO_CONNECT_TIMEOUT, NIO_REQUEST_TIMEOUT,
+                        callback -> client.processCallback(callback),
+                        throwable -> reconnect(throwable));
+                server = nioClient.getServer();
+                sessionId = nioClient.getSessionId();
+                sessionState = SessionState.CONNECTED;
+                logger.info("Connected to MAGE server at " + connection.getHost() + ':' + port + " (NIO)");
+                return true;
+            }
+        });
+        if (result) {
+            return true;
+        }
+        disconnect(false);
+        return false;
+    }
+
     private boolean establishJBossRemotingConnection(final Connection connection) {
         if (isConnected()) {
             disconnect(true);
@@ -489,9 +531,14 @@ public class SessionImpl implements Session {
         }
 
         try {
-            callbackClient.removeListener(callbackHandler);
-            callbackClient.disconnect();
-            TransporterClient.destroyTransporterClient(server);
+            if (nioClient != null) {
+                nioClient.disconnect();
+                nioClient = null;
+            } else {
+                callbackClient.removeListener(callbackHandler);
+                callbackClient.disconnect();
+                TransporterClient.destroyTransporterClient(server);
+            }
         } catch (Throwable ex) {
             logger.fatal("Error disconnecting ...", ex);
         }
@@ -547,6 +594,9 @@ public class SessionImpl implements Session {
 
     @Override
     public boolean isConnected() {
+        if (nioClient != null) {
+            return nioClient.isConnected();
+        }
         if (callbackClient == null) {
             return false;
         }
@@ -0,0 +1,282 @@
+package mage.remote.nio;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import mage.interfaces.MageServer;
+import mage.interfaces.callback.ClientCallback;
+import org.apache.log4j.Logger;
+
+/**
+ * Client side of the NIO transport. All calls and callbacks of a client go
+ * over one socket: the calls of all threads are sent with their own request
+ * id and the reader thread hands each response to the waiting caller, the
+ * callbacks pushed by the server are handed to the callback consumer in the
+ * order they were sent.
+ *
+ * The callbacks are delivered by an own thread, so a callback consumer can
+ * call the server and wait for the response that is read by the reader
+ * thread.
+ *
+ * The transport is used instead of JBoss Remoting if the system property
+ * {@value NioFrames#TRANSPORT_PROPERTY} is set to "nio".
+ */
+public class NioClient implements InvocationHandler {
+
+    private static final Logger logger = Logger.getLogger(NioClient.class);
+
+    private final Socket socket;
+    private final DataInputStream in;
+    private final DataOutputStream out;
+    private final String sessionId;
+    private final MageServer server;
+    private final Consumer<ClientCallback> callbackConsumer;
+    private final Consumer<Throwable> connectionListener;
+    private final ExecutorService callbackExecutor;
+    private final int requestTimeout;
+    private final Map<Integer, CompletableFuture<Object>> pendingRequests = new ConcurrentHashMap<>();
+    private final AtomicInteger nextRequestId = new AtomicInteger();
+    private volatile boolean connected;
+
+    /**
+     * Connects to the server and waits for the session id.
+     *
+     * @param host
+     * @param port NIO port of the server
+     * @param timeout connect timeout in milliseconds
+     * @param requestTimeout time in milliseconds to wait for the response of
+     * a call
+     * @param callbackConsumer gets the callbacks of the server
+     * @param connectionListener informed if the connection is lost
+     * @throws IOException
+     */
+    public NioClient(String host, int port, int timeout, int requestTimeout, Consumer<ClientCallback> callbackConsumer, Consumer<Throwable> connectionListener) throws IOException {
+        this.callbackConsumer = callbackConsumer;
+        this.connectionListener = connectionListener;
+        this.requestTimeout = requestTimeout;
+        this.socket = new Socket();
+        try {
+            socket.setTcpNoDelay(true);
+            socket.connect(new InetSocketAddress(host, port), timeout);
+            socket.setSoTimeout(timeout);
+            in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            Frame hello = readFrame();
+            if (hello.type != NioFrames.HELLO) {
+                throw new IOException("Server didn't send the session id");
+            }
+            sessionId = (String) NioFrames.decode(hello.payload);
+            socket.setSoTimeout(0);
+        } catch (IOException | ClassNotFoundException | RuntimeException ex) {
+            closeSocket();
+            throw ex instanceof IOException ? (IOException) ex : new IOException("Unable to connect to " + host + ':' + port, ex);
+        }
+        connected = true;
+        server = (MageServer) Proxy.newProxyInstance(MageServer.class.getClassLoader(), new Class<?>[]{MageServer.class}, this);
+        // single thread, so the callbacks keep their order
+        callbackExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "NIO CALLBACK " + host + ':' + port);
+            thread.setDaemon(true);
+            return thread;
+        });
+        Thread reader = new Thread(this::readFrames, "NIO CLIENT " + host + ':' + port);
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    /**
+     * @return proxy that sends the calls to the server
+     */
+    public MageServer getServer() {
+        return server;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public boolean isConnected() {
+        return connected;
+    }
+
+    /**
+     * Closes the connection without informing the connection listener.
+     */
+    public void disconnect() {
+        close(null);
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return "NioClient[" + sessionId + ']';
+            }
+        }
+        if (!connected) {
+            throw new IOException("Not connected");
+        }
+        int requestId = nextRequestId.incrementAndGet();
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        pendingRequests.put(requestId, result);
+        if (!connected && pendingRequests.remove(requestId) != null) {
+            // closed meanwhile, nobody would complete the request
+            throw new IOException("Not connected");
+        }
+        try {
+            write(NioFrames.frame(NioFrames.REQUEST, requestId, new NioRequest(method, args)));
+        } catch (IOException ex) {
+            pendingRequests.remove(requestId);
+            lost(ex);
+            throw ex;
+        }
+        try {
+            return result.get(requestTimeout, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            throw ex.getCause();
+        } catch (TimeoutException ex) {
+            pendingRequests.remove(requestId);
+            throw new SocketTimeoutException("No response for " + method.getName() + " within " + requestTimeout + " ms");
+        } catch (InterruptedException ex) {
+            pendingRequests.remove(requestId);
+            Thread.currentThread().interrupt();
+            throw ex;
+        }
+    }
+
+    private void write(ByteBuffer frame) throws IOException {
+        synchronized (out) {
+            out.write(frame.array(), frame.position(), frame.remaining());
+            out.flush();
+        }
+    }
+
+    private Frame readFrame() throws IOException {
+        int length = in.readInt();
+        NioFrames.checkLength(length);
+        byte type = in.readByte();
+        int requestId = in.readInt();
+        byte[] payload = new byte[length - NioFrames.HEADER_SIZE + 4];
+        in.readFully(payload);
+        return new Frame(type, requestId, payload);
+    }
+
+    private void readFrames() {
+        try {
+            while (connected) {
+                Frame frame = readFrame();
+                switch (frame.type) {
+                    case NioFrames.RESPONSE:
+                    case NioFrames.FAILURE:
+                        complete(frame);
+                        break;
+                    case NioFrames.CALLBACK:
+                        try {
+                            callbackExecutor.execute(() -> handleCallback(frame));
+                        } catch (RejectedExecutionException ex) {
+                            // closed meanwhile
+                        }
+                        break;
+                    default:
+                        logger.warn("Unexpected frame type " + frame.type);
+                }
+            }
+        } catch (IOException ex) {
+            lost(ex);
+        }
+    }
+
+    private void complete(Frame frame) {
+        CompletableFuture<Object> result = pendingRequests.remove(frame.requestId);
+        if (result == null) {
+            return;
+        }
+        try {
+            Object value = NioFrames.decode(frame.payload);
+            if (frame.type == NioFrames.FAILURE) {
+                result.completeExceptionally((Throwable) value);
+            } else {
+                result.complete(value);
+            }
+        } catch (IOException | ClassNotFoundException | RuntimeException ex) {
+            result.completeExceptionally(ex);
+        }
+    }
+
+    private void handleCallback(Frame frame) {
+        try {
+            callbackConsumer.accept((ClientCallback) NioFrames.decode(frame.payload));
+        } catch (IOException | ClassNotFoundException | RuntimeException ex) {
+            logger.error("Error while handling callback", ex);
+        }
+    }
+
+    private void lost(Throwable cause) {
+        if (close(cause)) {
+            logger.info("Connection to server lost - " + cause.getMessage());
+            connectionListener.accept(cause);
+        }
+    }
+
+    private synchronized boolean close(Throwable cause) {
+        if (!connected) {
+            return false;
+        }
+        connected = false;
+        closeSocket();
+        callbackExecutor.shutdown();
+        IOException closed = new IOException("Connection closed", cause);
+        for (Iterator<CompletableFuture<Object>> it = pendingRequests.values().iterator(); it.hasNext();) {
+            it.next().completeExceptionally(closed);
+            it.remove();
+        }
+        return true;
+    }
+
+    private void closeSocket() {
+        try {
+            socket.close();
+        } catch (IOException ex) {
+            logger.debug("Error while closing socket", ex);
+        }
+    }
+
+    private static class Frame {
+
+        final byte type;
+        final int requestId;
+        final byte[] payload;
+
+        Frame(byte type, int requestId, byte[] payload) {
+            this.type = type;
+            this.requestId = requestId;
+            this.payload = payload;
+        }
+    }
+}
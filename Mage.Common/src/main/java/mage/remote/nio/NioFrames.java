@@ -0,0 +1,111 @@
+package mage.remote.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import mage.remote.traffic.Codec;
+import mage.remote.traffic.Codecs;
+
+/**
+ * Wire format of the NIO transport. Every message is one frame:
+ *
+ * <pre>
+ * int  length of the rest of the frame
+ * byte type
+ * int  request id (0 for HELLO and CALLBACK)
+ * byte codec id + encoded payload
+ * </pre>
+ *
+ * The requests of one connection are answered in any order, the request id
+ * assigns the RESPONSE or FAILURE to the waiting caller.
+ */
+public final class NioFrames {
+
+    public static final String TRANSPORT_PROPERTY = "transport";
+    public static final String PORT_PROPERTY = "nioPort";
+
+    /**
+     * server -> client after accept, payload is the session id
+     */
+    public static final byte HELLO = 0;
+    /**
+     * client -> server, payload is a {@link NioRequest}
+     */
+    public static final byte REQUEST = 1;
+    /**
+     * server -> client, payload is the return value of the request
+     */
+    public static final byte RESPONSE = 2;
+    /**
+     * server -> client, payload is the exception thrown by the request
+     */
+    public static final byte FAILURE = 3;
+    /**
+     * server -> client, payload is a ClientCallback
+     */
+    public static final byte CALLBACK = 4;
+
+    public static final int HEADER_SIZE = 9;
+    public static final int MAX_FRAME_SIZE = 64 * 1024 * 1024;
+
+    private NioFrames() {
+    }
+
+    /**
+     * @return true if the system property {@value #TRANSPORT_PROPERTY} selects
+     * the NIO transport
+     */
+    public static boolean isEnabled() {
+        return "nio".equals(System.getProperty(TRANSPORT_PROPERTY));
+    }
+
+    /**
+     * @param serverPort port of the JBoss Remoting connector
+     * @return port of the NIO transport, set with the system property
+     * {@value #PORT_PROPERTY}, default is the port after the server port
+     */
+    public static int getPort(int serverPort) {
+        return Integer.getInteger(PORT_PROPERTY, serverPort + 1);
+    }
+
+    public static ByteBuffer frame(byte type, int requestId, Object payload) throws IOException {
+        byte[] data = encode(payload);
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + data.length);
+        buffer.putInt(data.length + HEADER_SIZE - 4);
+        buffer.put(type);
+        buffer.putInt(requestId);
+        buffer.put(data);
+        buffer.flip();
+        return buffer;
+    }
+
+    public static byte[] encode(Object payload) throws IOException {
+        Codec codec = Codecs.getDefault();
+        byte[] encoded = codec.encode(payload);
+        byte[] data = new byte[encoded.length + 1];
+        data[0] = codec.getId();
+        System.arraycopy(encoded, 0, data, 1, encoded.length);
+        return data;
+    }
+
+    public static Object decode(byte[] data) throws IOException, ClassNotFoundException {
+        if (data.length == 0) {
+            throw new IOException("Empty payload");
+        }
+        Codec codec = Codecs.get(data[0]);
+        if (codec == null) {
+            throw new IOException("Unknown codec id " + data[0]);
+        }
+        return codec.decode(Arrays.copyOfRange(data, 1, data.length));
+    }
+
+    /**
+     * @param length length field of a frame
+     * @throws IOException if the length can't be from a valid frame
+     */
+    public static void checkLength(int length) throws IOException {
+        if (length < HEADER_SIZE - 4 || length > MAX_FRAME_SIZE) {
+            throw new IOException("Invalid frame length " + length);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package mage.remote.nio;
+
+import java.io.Serializable;
+import java.lang.reflect.Method;
+
+/**
+ * Call of a {@link mage.interfaces.MageServer} method sent over the NIO
+ * transport.
+ */
+public class NioRequest implements Serializable {
+
+    private final String methodName;
+    private final String[] parameterTypes;
+    private final Object[] args;
+
+    public NioRequest(Method method, Object[] args) {
+        this.methodName = method.getName();
+        Class<?>[] types = method.getParameterTypes();
+        this.parameterTypes = new String[types.length];
+        for (int i = 0; i < types.length; i++) {
+            parameterTypes[i] = types[i].getName();
+        }
+        this.args = args == null ? new Object[0] : args;
+    }
+
+    public String getMethodName() {
+        return methodName;
+    }
+
+    public String[] getParameterTypes() {
+        return parameterTypes;
+    }
+
+    public Object[] getArgs() {
+        return args;
+    }
+
+    /**
+     * @return name and parameter types, unique for each method of the
+     * interface
+     */
+    public String getSignature() {
+        return getSignature(methodName, parameterTypes);
+    }
+
+    public static String getSignature(Method method) {
+        Class<?>[] types = method.getParameterTypes();
+        String[] names = new String[types.length];
+        for (int i = 0; i < types.length; i++) {
+            names[i] = types[i].getName();
+        }
+        return getSignature(method.getName(), names);
+    }
+
+    private static String getSignature(String methodName, String[] parameterTypes) {
+        return methodName + '(' + String.join(",", parameterTypes) + ')';
+    }
+}
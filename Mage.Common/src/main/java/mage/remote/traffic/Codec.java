@@ -0,0 +1,29 @@
+package mage.remote.traffic;
+
+import java.io.IOException;
+
+/**
+ * Turns the objects that are sent compressed between server and client into
+ * bytes and back. Both sides find the codec by the id that is sent with the
+ * bytes (see {@link ZippedObjectImpl}).
+ *
+ * Additional codecs can be added with a java.util.ServiceLoader entry for
+ * this interface, see {@link Codecs}.
+ */
+public interface Codec {
+
+    /**
+     * @return unique id of the codec, sent with the encoded data
+     */
+    byte getId();
+
+    /**
+     * @return name to select the codec with the system property
+     * {@value Codecs#CODEC_PROPERTY}
+     */
+    String getName();
+
+    byte[] encode(Object object) throws IOException;
+
+    Object decode(byte[] data) throws IOException, ClassNotFoundException;
+}
@@ -0,0 +1,64 @@
+package mage.remote.traffic;
+
+import java.util.ServiceLoader;
+import org.apache.log4j.Logger;
+
+/**
+ * Known codecs for the compressed data. The codec used to compress can be set
+ * with the system property {@value #CODEC_PROPERTY} (name of the codec),
+ * default is the {@link DeflaterCodec}.
+ */
+public final class Codecs {
+
+    public static final String CODEC_PROPERTY = "codec";
+
+    private static final Logger logger = Logger.getLogger(Codecs.class);
+    private static final Codec[] codecs = new Codec[256];
+    private static final Codec defaultCodec;
+
+    static {
+        register(new GzipCodec());
+        register(new DeflaterCodec());
+        for (Codec codec : ServiceLoader.load(Codec.class)) {
+            register(codec);
+        }
+        String name = System.getProperty(CODEC_PROPERTY, "deflater");
+        Codec selected = null;
+        for (Codec codec : codecs) {
+            if (codec != null && codec.getName().equals(name)) {
+                selected = codec;
+            }
+        }
+        if (selected == null) {
+            logger.warn("Unknown codec " + name + " - using deflater");
+            selected = codecs[DeflaterCodec.ID];
+        }
+        defaultCodec = selected;
+    }
+
+    private Codecs() {
+    }
+
+    private static void register(Codec codec) {
+        if (codecs[codec.getId() & 0xff] != null) {
+            logger.warn("Codec id " + codec.getId() + " of " + codec.getName() + " is already used by " + codecs[codec.getId() & 0xff].getName());
+            return;
+        }
+        codecs[codec.getId() & 0xff] = codec;
+    }
+
+    /**
+     * @return the codec used to compress the data
+     */
+    public static Codec getDefault() {
+        return defaultCodec;
+    }
+
+    /**
+     * @param id
+     * @return the codec with the id or null if unknown
+     */
+    public static Codec get(byte id) {
+        return codecs[id & 0xff];
+    }
+}
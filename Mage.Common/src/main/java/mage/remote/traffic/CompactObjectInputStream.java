@@ -0,0 +1,29 @@
+package mage.remote.traffic;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+
+/**
+ * Reads the objects written by a {@link CompactObjectOutputStream}.
+ */
+class CompactObjectInputStream extends ObjectInputStream {
+
+    CompactObjectInputStream(InputStream in) throws IOException {
+        super(in);
+    }
+
+    @Override
+    protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+        String name = readUTF();
+        Class<?> clazz;
+        try {
+            clazz = Class.forName(name, false, CompactObjectInputStream.class.getClassLoader());
+        } catch (ClassNotFoundException ex) {
+            // e.g. classes of plugins
+            clazz = Class.forName(name, false, Thread.currentThread().getContextClassLoader());
+        }
+        return ObjectStreamClass.lookupAny(clazz);
+    }
+}
@@ -0,0 +1,24 @@
+package mage.remote.traffic;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+
+/**
+ * Object stream that only writes the class names instead of the full class
+ * descriptions (with all field names and types). Server and client always
+ * have the same version, so the reading side can use its own descriptions,
+ * see {@link CompactObjectInputStream}.
+ */
+class CompactObjectOutputStream extends ObjectOutputStream {
+
+    CompactObjectOutputStream(OutputStream out) throws IOException {
+        super(out);
+    }
+
+    @Override
+    protected void writeClassDescriptor(ObjectStreamClass desc) throws IOException {
+        writeUTF(desc.getName());
+    }
+}
@@ -0,0 +1,158 @@
+package mage.remote.traffic;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import mage.remote.nio.NioFrames;
+
+/**
+ * Compact Java serialization (class names instead of class descriptions)
+ * compressed with the fastest Deflater level and a preset dictionary of the
+ * names that are in nearly every game view. The Deflater, Inflater and the
+ * buffers are reused from a small pool, they are released (native memory of
+ * the Deflater and Inflater) if the pool is full or the buffers have grown
+ * too large.
+ *
+ * Format: length of the serialized data (4 bytes) + deflated data
+ */
+public class DeflaterCodec implements Codec {
+
+    public static final byte ID = 1;
+
+    private static final byte[] DICTIONARY = ("java.util.ArrayList java.util.HashMap java.util.LinkedHashMap java.util.HashSet java.util.UUID "
+            + "mage.view.PlayerView mage.view.ManaPoolView mage.view.CardsView mage.view.ExileView mage.view.CombatGroupView "
+            + "mage.view.CounterView mage.view.SimpleCardView mage.view.SimpleCardsView mage.view.CommandObjectView "
+            + "mage.view.StackAbilityView mage.view.PermanentView mage.view.CardView mage.view.GameView "
+            + "mage.constants.SubType mage.constants.SuperType mage.constants.CardType mage.constants.Rarity "
+            + "mage.constants.PhaseStep mage.constants.TurnPhase mage.constants.Zone mage.constants.MageObjectType "
+            + "mage.ObjectColor mage.MageInt mage.counters.Counters mage.players.net.UserData "
+            + "mage.view.ChatMessage mage.view.GameClientMessage mage.view.TableView mage.view.SeatView "
+            + "Forest Island Mountain Plains Swamp Creature Instant Sorcery Artifact Enchantment Land {T}: Add ").getBytes(StandardCharsets.UTF_8);
+
+    // deflate can't compress more than about 1032:1
+    private static final int MAX_DEFLATE_RATIO = 1032;
+    private static final int MAX_POOLED_BUFFER_SIZE = 1024 * 1024;
+    private static final BlockingQueue<Buffers> pool = new ArrayBlockingQueue<>(Math.max(2, Runtime.getRuntime().availableProcessors()));
+
+    @Override
+    public byte getId() {
+        return ID;
+    }
+
+    @Override
+    public String getName() {
+        return "deflater";
+    }
+
+    @Override
+    public byte[] encode(Object object) throws IOException {
+        Buffers buf = acquire();
+        try {
+            buf.serialized.reset();
+            try (ObjectOutputStream out = new CompactObjectOutputStream(buf.serialized)) {
+                out.writeObject(object);
+            }
+            int length = buf.serialized.size();
+
+            Deflater deflater = buf.deflater;
+            deflater.reset();
+            deflater.setDictionary(DICTIONARY);
+            deflater.setInput(buf.serialized.array(), 0, length);
+            deflater.finish();
+            buf.compressed.reset();
+            buf.compressed.write(length >>> 24);
+            buf.compressed.write(length >>> 16);
+            buf.compressed.write(length >>> 8);
+            buf.compressed.write(length);
+            while (!deflater.finished()) {
+                int count = deflater.deflate(buf.chunk);
+                buf.compressed.write(buf.chunk, 0, count);
+            }
+            return buf.compressed.toByteArray();
+        } finally {
+            release(buf);
+        }
+    }
+
+    @Override
+    public Object decode(byte[] data) throws IOException, ClassNotFoundException {
+        int length = new DataInputStream(new ByteArrayInputStream(data)).readInt();
+        // the length comes from the sender, check it before the allocation
+        if (length < 0 || length > NioFrames.MAX_FRAME_SIZE || length > (long) (data.length - 4) * MAX_DEFLATE_RATIO) {
+            throw new IOException("Invalid length of the serialized data: " + length + " in a payload of " + data.length + " bytes");
+        }
+        byte[] serialized = new byte[length];
+        Buffers buf = acquire();
+        try {
+            Inflater inflater = buf.inflater;
+            inflater.reset();
+            inflater.setInput(data, 4, data.length - 4);
+            int offset = 0;
+            while (offset < length) {
+                int count = inflater.inflate(serialized, offset, length - offset);
+                if (count == 0) {
+                    if (inflater.needsDictionary()) {
+                        inflater.setDictionary(DICTIONARY);
+                    } else if (inflater.finished() || inflater.needsInput()) {
+                        throw new IOException("Deflated data is incomplete");
+                    }
+                }
+                offset += count;
+            }
+        } catch (DataFormatException ex) {
+            throw new IOException(ex);
+        } finally {
+            release(buf);
+        }
+        try (ObjectInputStream in = new CompactObjectInputStream(new ByteArrayInputStream(serialized))) {
+            return in.readObject();
+        }
+    }
+
+    private static Buffers acquire() {
+        Buffers buf = pool.poll();
+        return buf != null ? buf : new Buffers();
+    }
+
+    private static void release(Buffers buf) {
+        if (buf.serialized.array().length > MAX_POOLED_BUFFER_SIZE
+                || buf.compressed.size() > MAX_POOLED_BUFFER_SIZE
+                || !pool.offer(buf)) {
+            buf.end();
+        }
+    }
+
+    private static class Buffers {
+
+        private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        private final Inflater inflater = new Inflater();
+        private final Buffer serialized = new Buffer();
+        private final ByteArrayOutputStream compressed = new ByteArrayOutputStream(8192);
+        private final byte[] chunk = new byte[8192];
+
+        void end() {
+            deflater.end();
+            inflater.end();
+        }
+    }
+
+    private static class Buffer extends ByteArrayOutputStream {
+
+        Buffer() {
+            super(32768);
+        }
+
+        byte[] array() {
+            return buf;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package mage.remote.traffic;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Java serialization compressed with GZIP.
+ */
+public class GzipCodec implements Codec {
+
+    public static final byte ID = 0;
+
+    @Override
+    public byte getId() {
+        return ID;
+    }
+
+    @Override
+    public String getName() {
+        return "gzip";
+    }
+
+    @Override
+    public byte[] encode(Object object) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(new GZIPOutputStream(bos))) {
+            oos.writeObject(object);
+        }
+        return bos.toByteArray();
+    }
+
+    @Override
+    public Object decode(byte[] data) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream ois = new ObjectInputStream(new GZIPInputStream(new ByteArrayInputStream(data)))) {
+            return ois.readObject();
+        }
+    }
+}
@@ -1,22 +1,20 @@
 package mage.remote.traffic;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.io.Serializable;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
+import org.apache.log4j.Logger;
 
 /**
- * Implementation for compressing and decompressing objects using {@link GZIPInputStream} and {@link GZIPOutputStream}.
+ * Implementation for compressing and decompressing objects with a {@link Codec}.
  * Can be used to send any {@link Object} over internet to reduce traffic usage.
  *
  * @author ayrat
  */
 public class ZippedObjectImpl<T> implements ZippedObject<T>, Serializable {
 
+    private static final Logger logger = Logger.getLogger(ZippedObjectImpl.class);
+
+    private byte codecId;
     private byte[] data;
 
     public ZippedObjectImpl(T object) {
@@ -24,28 +22,26 @@ public class ZippedObjectImpl<T> implements ZippedObject<T>, Serializable {
     }
 
     public void zip(T object) {
+        Codec codec = Codecs.getDefault();
         try {
-            ByteArrayOutputStream bos = new ByteArrayOutputStream();
-            GZIPOutputStream gz = new GZIPOutputStream(bos);
-            ObjectOutputStream oos = new ObjectOutputStream(gz);
-            oos.writeObject(object);
-            oos.close();
-            data = bos.toByteArray();
+            data = codec.encode(object);
+            codecId = codec.getId();
         } catch (IOException e) {
-            e.printStackTrace();
+            logger.error("Can't compress " + object.getClass().getName() + " with codec " + codec.getName(), e);
         }
     }
 
     @SuppressWarnings("unchecked")
     public T unzip() {
+        Codec codec = Codecs.get(codecId);
+        if (codec == null) {
+            logger.error("Unknown codec id " + codecId);
+            return null;
+        }
         try {
-            ByteArrayInputStream bis = new ByteArrayInputStream(data);
-            GZIPInputStream gz = new GZIPInputStream(bis);
-            ObjectInputStream ois = new ObjectInputStream(gz);
-            Object o = ois.readObject();
-            return (T)o;
+            return (T) codec.decode(data);
         } catch (Exception e) {
-            e.printStackTrace();
+            logger.error("Can't decompress data with codec " + codec.getName(), e);
         }
         return null;
     }
@@ -129,6 +129,7 @@ public class CardView extends SimpleCardView {
 
     protected boolean rotate;
     protected boolean hideInfo; // controls if the tooltip window is shown (eg. controlled face down morph card)
+    private transient boolean faceHidden; // face down view, its content depends on the player it's created for
 
     protected boolean isPlayable;
     protected boolean isChoosable;
@@ -191,6 +192,7 @@ public class CardView extends SimpleCardView {
 
         this.flipCard = cardView.flipCard;
         this.faceDown = cardView.faceDown;
+        this.faceHidden = cardView.faceHidden;
 
         this.alternateName = cardView.alternateName;
         this.originalName = cardView.originalName;
@@ -288,6 +290,7 @@ public class CardView extends SimpleCardView {
         //  boolean showFaceUp = game == null || !card.isFaceDown(game) || (!game.getState().getZone(card.getId()).equals(Zone.BATTLEFIELD) && showFaceDownCard);
 
         if (!showFaceUp) {
+            this.faceHidden = true;
             this.fillEmpty(card, controlled);
             if (card instanceof Spell) {
                 // special handling for casting of Morph cards
@@ -839,6 +842,14 @@ public class CardView extends SimpleCardView {
         return faceDown;
     }
 
+    /**
+     * @return true if the face of the card is hidden, also for face down
+     * spells and cards outside the battlefield that aren't marked as face down
+     */
+    boolean isFaceHidden() {
+        return faceHidden;
+    }
+
     public boolean canTransform() {
         return this.transformable;
     }
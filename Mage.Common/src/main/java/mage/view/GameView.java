@@ -35,6 +35,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.BiConsumer;
 import mage.MageObject;
 import mage.abilities.costs.Cost;
 import mage.cards.Card;
@@ -88,6 +89,8 @@ public class GameView implements Serializable {
     private final boolean isPlayer; // false = watching user
     private final int spellsCastCurrentTurn;
     private final boolean rollbackTurnsAllowed;
+    private long version; // set by the GameViewEncoder, 0 = not versioned
+    private long baseVersion; // 0 = full view, else the card views that didn't change are null
 
     public GameView(GameState state, Game game, UUID createdForPlayerId, UUID watcherUserId) {
         Player createdForPlayer = null;
@@ -347,6 +350,51 @@ public class GameView implements Serializable {
         return rollbackTurnsAllowed;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    void setVersion(long version) {
+        this.version = version;
+    }
+
+    public long getBaseVersion() {
+        return baseVersion;
+    }
+
+    void setBaseVersion(long baseVersion) {
+        this.baseVersion = baseVersion;
+    }
+
+    /**
+     * Calls the consumer for all the card maps of the view that are diffed by
+     * the GameViewEncoder. The key is unique for the map inside of the view and
+     * stays the same for the same zone in the next views.
+     *
+     * @param consumer
+     */
+    void forEachCardMap(BiConsumer<String, Map<UUID, ? extends CardView>> consumer) {
+        for (PlayerView player : players) {
+            consumer.accept("battlefield " + player.getPlayerId(), player.getBattlefield());
+            consumer.accept("graveyard " + player.getPlayerId(), player.getGraveyard());
+            consumer.accept("exile " + player.getPlayerId(), player.getExile());
+        }
+        if (hand != null) {
+            consumer.accept("hand", hand);
+        }
+        consumer.accept("stack", stack);
+        for (ExileView exile : exiles) {
+            consumer.accept("exileZone " + exile.getId(), exile);
+        }
+        for (RevealedView revealedView : revealed) {
+            consumer.accept("revealed " + revealedView.getName(), revealedView.getCards());
+        }
+        for (int i = 0; i < combat.size(); i++) {
+            consumer.accept("attackers " + i, combat.get(i).getAttackers());
+            consumer.accept("blockers " + i, combat.get(i).getBlockers());
+        }
+    }
+
     public String toJson() {
         Gson gson = new GsonBuilder().create();
         return gson.toJson(this);
@@ -0,0 +1,73 @@
+package mage.view;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Restores the game views made by a {@link GameViewEncoder} on the receiver
+ * side. The card views that were left out by the encoder are taken from the
+ * last decoded view.
+ */
+public class GameViewDecoder {
+
+    private GameView lastView;
+    private boolean synced;
+
+    /**
+     * Fills in the unchanged card views of the given view. If an update was
+     * missed, the view is restored as good as possible and the sender has to
+     * be asked for a full view.
+     *
+     * @param gameView
+     * @return true if a full view has to be requested from the sender
+     */
+    public synchronized boolean decode(GameView gameView) {
+        if (gameView == null) {
+            return false;
+        }
+        if (gameView.getBaseVersion() == 0) {
+            lastView = gameView;
+            synced = true;
+            return false;
+        }
+        boolean complete = synced && lastView != null && lastView.getVersion() == gameView.getBaseVersion();
+        Map<String, Map<UUID, ? extends CardView>> lastMaps = new HashMap<>();
+        if (lastView != null) {
+            lastView.forEachCardMap(lastMaps::put);
+        }
+        Map<String, Map<UUID, ? extends CardView>> maps = new LinkedHashMap<>();
+        gameView.forEachCardMap(maps::put);
+        for (Map.Entry<String, Map<UUID, ? extends CardView>> entry : maps.entrySet()) {
+            complete &= restore(entry.getValue(), lastMaps.get(entry.getKey()));
+        }
+        lastView = gameView;
+        if (complete) {
+            return false;
+        }
+        boolean requestFullView = synced;
+        synced = false;
+        return requestFullView;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean restore(Map<UUID, ? extends CardView> cards, Map<UUID, ? extends CardView> lastCards) {
+        boolean complete = true;
+        Map<UUID, CardView> restored = (Map<UUID, CardView>) cards;
+        for (Iterator<Map.Entry<UUID, CardView>> it = restored.entrySet().iterator(); it.hasNext();) {
+            Map.Entry<UUID, CardView> entry = it.next();
+            if (entry.getValue() == null) {
+                CardView lastCard = lastCards == null ? null : lastCards.get(entry.getKey());
+                if (lastCard != null) {
+                    entry.setValue(lastCard);
+                } else {
+                    it.remove();
+                    complete = false;
+                }
+            }
+        }
+        return complete;
+    }
+}
@@ -0,0 +1,85 @@
+package mage.view;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Digests of the card views of one update, shared by the
+ * {@link GameViewEncoder}s of all the receivers of the update. Most card views
+ * are the same for all receivers, so they only have to be serialized once per
+ * update instead of once per receiver.
+ *
+ * Only card views that can't depend on the receiver are shared: face down
+ * cards (also face down spells and hidden exiled cards) and views of other classes than {@link CardView} and
+ * {@link PermanentView} (e.g. stack abilities with a face down source) are
+ * digested for every receiver. The flags that are set per receiver (playable,
+ * controlled) are part of the key.
+ *
+ * Must be created for each update, the views of later updates may differ.
+ */
+public class GameViewDigests {
+
+    private final Map<Key, Long> digests = new HashMap<>();
+    private int hits;
+
+    Long get(String mapKey, CardView cardView) {
+        Long digest = digests.get(new Key(mapKey, cardView));
+        if (digest != null) {
+            hits++;
+        }
+        return digest;
+    }
+
+    void put(String mapKey, CardView cardView, Long digest) {
+        digests.put(new Key(mapKey, cardView), digest);
+    }
+
+    static boolean isShared(CardView cardView) {
+        return (cardView.getClass() == CardView.class || cardView.getClass() == PermanentView.class)
+                && !cardView.isFaceDown() && !cardView.isFaceHidden();
+    }
+
+    /**
+     * @return number of card views that didn't need to be serialized
+     */
+    public int getHits() {
+        return hits;
+    }
+
+    private static final class Key {
+
+        private final String mapKey;
+        private final UUID cardId;
+        private final boolean playable;
+        private final boolean controlled;
+
+        Key(String mapKey, CardView cardView) {
+            this.mapKey = mapKey;
+            this.cardId = cardView.getId();
+            this.playable = cardView.isPlayable();
+            this.controlled = cardView instanceof PermanentView && ((PermanentView) cardView).isControlled();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return playable == other.playable
+                    && controlled == other.controlled
+                    && cardId.equals(other.cardId)
+                    && mapKey.equals(other.mapKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(mapKey, cardId, playable, controlled);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package mage.view;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import mage.game.GameState;
+import org.apache.log4j.Logger;
+
+/**
+ * Makes the game views sent to one receiver versioned and removes the card
+ * views that didn't change since the last sent view. The keys of the unchanged
+ * card views stay in the card maps (so the order of the cards is still sent)
+ * but their value is set to null. The receiver restores them with a
+ * {@link GameViewDecoder}.
+ *
+ * A card view counts as unchanged if its serialized form has the same digest
+ * as the card view with the same id in the same card map of the last sent
+ * view. The digests of an update can be shared by the encoders of all the
+ * receivers with {@link GameViewDigests}.
+ */
+public class GameViewEncoder {
+
+    private static final Logger logger = Logger.getLogger(GameViewEncoder.class);
+
+    private final DigestBuffer buffer = new DigestBuffer();
+    private ObjectOutputStream out;
+    private Map<String, Map<UUID, Long>> sentDigests = new HashMap<>();
+    private long version;
+    private long lastSentVersion;
+
+    /**
+     * The next encoded view will be sent in full (e.g. for the game init or
+     * because the receiver has missed an update).
+     */
+    public synchronized void reset() {
+        sentDigests = new HashMap<>();
+        lastSentVersion = 0;
+    }
+
+    /**
+     * Changes the given view to the difference to the last encoded view. The
+     * view must not be used for anything else afterwards.
+     *
+     * @param gameView
+     * @return the given view
+     */
+    public synchronized GameView encode(GameView gameView) {
+        return encode(gameView, null);
+    }
+
+    /**
+     * Changes the given view to the difference to the last encoded view. The
+     * view must not be used for anything else afterwards.
+     *
+     * @param gameView
+     * @param sharedDigests digests of the current update that are shared with
+     * the encoders of the other receivers, can be null
+     * @return the given view
+     */
+    public synchronized GameView encode(GameView gameView, GameViewDigests sharedDigests) {
+        if (gameView == null) {
+            return null;
+        }
+        final long baseVersion = lastSentVersion;
+        final Map<String, Map<UUID, Long>> digests = new HashMap<>();
+        gameView.forEachCardMap((key, cards) -> {
+            Map<UUID, Long> lastDigests = sentDigests.get(key);
+            Map<UUID, Long> cardDigests = new HashMap<>(cards.size());
+            for (Map.Entry<UUID, ? extends CardView> entry : cards.entrySet()) {
+                Long digest = digest(key, entry.getValue(), sharedDigests);
+                if (digest != null) {
+                    cardDigests.put(entry.getKey(), digest);
+                    if (baseVersion != 0 && lastDigests != null && digest.equals(lastDigests.get(entry.getKey()))) {
+                        entry.setValue(null);
+                    }
+                }
+            }
+            digests.put(key, cardDigests);
+        });
+        sentDigests = digests;
+        version++;
+        gameView.setVersion(version);
+        gameView.setBaseVersion(baseVersion);
+        lastSentVersion = version;
+        return gameView;
+    }
+
+    /**
+     * Merges two encoded views that follow each other, so a receiver that
+     * didn't get the older view yet only needs the merged one.
+     *
+     * @param older
+     * @param newer view that is based on the older view, it's changed by the
+     * merge
+     * @return the newer view now based on the base of the older view, or null
+     * if the views can't be merged
+     */
+    public static GameView merge(GameView older, GameView newer) {
+        if (older == null || newer == null || older.getVersion() == 0 || newer.getBaseVersion() != older.getVersion()) {
+            return null;
+        }
+        Map<String, Map<UUID, ? extends CardView>> olderMaps = new HashMap<>();
+        older.forEachCardMap(olderMaps::put);
+        newer.forEachCardMap((key, cards) -> {
+            Map<UUID, ? extends CardView> olderCards = olderMaps.get(key);
+            if (olderCards != null) {
+                fillUnchanged(cards, olderCards);
+            }
+        });
+        newer.setBaseVersion(older.getBaseVersion());
+        return newer;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void fillUnchanged(Map<UUID, ? extends CardView> cards, Map<UUID, ? extends CardView> olderCards) {
+        for (Map.Entry<UUID, CardView> entry : ((Map<UUID, CardView>) cards).entrySet()) {
+            if (entry.getValue() == null) {
+                // unchanged since the older view, so the older value is still up to date
+                entry.setValue(olderCards.get(entry.getKey()));
+            }
+        }
+    }
+
+    private Long digest(String mapKey, CardView cardView, GameViewDigests sharedDigests) {
+        if (cardView == null) {
+            return null;
+        }
+        if (sharedDigests == null || !GameViewDigests.isShared(cardView)) {
+            return digest(cardView);
+        }
+        Long digest = sharedDigests.get(mapKey, cardView);
+        if (digest == null) {
+            digest = digest(cardView);
+            if (digest != null) {
+                sharedDigests.put(mapKey, cardView, digest);
+            }
+        } else if (GameState.CHECK_INDEXES && !digest.equals(digest(cardView))) {
+            throw new IllegalStateException("Shared digest of card view " + cardView.getName() + " in " + mapKey + " differs for the receiver");
+        }
+        return digest;
+    }
+
+    private Long digest(CardView cardView) {
+        try {
+            if (out == null) {
+                out = new DigestObjectOutputStream(buffer);
+            }
+            // forget the objects of the last card, so every card is written in full
+            out.reset();
+            out.flush();
+            buffer.reset();
+            out.writeObject(cardView);
+            out.flush();
+        } catch (IOException ex) {
+            logger.warn("Can't serialize card view " + cardView.getName(), ex);
+            out = null;
+            return null;
+        }
+        return buffer.digest();
+    }
+
+    private static class DigestBuffer extends ByteArrayOutputStream {
+
+        DigestBuffer() {
+            super(4096);
+        }
+
+        // 64 bit FNV-1a
+        long digest() {
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < count; i++) {
+                hash ^= buf[i] & 0xff;
+                hash *= 0x100000001b3L;
+            }
+            return hash;
+        }
+    }
+
+    /**
+     * Writes only the names of the classes instead of the full class
+     * descriptions, the output is only used for the digest.
+     */
+    private static class DigestObjectOutputStream extends ObjectOutputStream {
+
+        DigestObjectOutputStream(OutputStream out) throws IOException {
+            super(out);
+        }
+
+        @Override
+        protected void writeClassDescriptor(ObjectStreamClass desc) throws IOException {
+            writeUTF(desc.getName());
+        }
+    }
+}
@@ -33,9 +33,11 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import mage.abilities.Ability;
 import mage.abilities.ActivatedAbility;
 import mage.abilities.SpellAbility;
@@ -72,6 +74,7 @@ import mage.players.Player;
 import mage.target.Target;
 import mage.target.TargetCard;
 import mage.target.Targets;
+import mage.util.Metrics;
 import mage.util.RandomUtil;
 import org.apache.log4j.Logger;
 
@@ -82,7 +85,10 @@ import org.apache.log4j.Logger;
 public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
 
     private static final Logger logger = Logger.getLogger(ComputerPlayer6.class);
+    private static final Metrics.Timer THINK_TIMER = Metrics.instance.timer("ai_think");
     private static final ExecutorService pool = Executors.newFixedThreadPool(1);
+    // shared by all AI players to simulate the root actions in parallel
+    private static final ExecutorService searchPool = Executors.newFixedThreadPool(Math.max(1, Config2.searchThreads));
     protected int maxDepth;
     protected int maxNodes;
     protected int maxThink;
@@ -97,6 +103,10 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
     protected Set<String> actionCache;
     private static final List<TreeOptimizer> optimizers = new ArrayList<>();
     protected int lastLoggedTurn = 0;
+    protected boolean parallelSearch;
+    protected Random searchRandom; // only set for deterministic searches
+    protected int nodesPerSecond;
+    protected TranspositionTable evaluations;
     protected static final String BLANKS = "...............................................";
 
     static {
@@ -115,6 +125,11 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
         }
         maxThink = skill * 3;
         maxNodes = Config2.maxNodes;
+        parallelSearch = Config2.searchThreads > 1;
+        evaluations = new TranspositionTable(Config2.transpositionTableSize);
+        if (Config2.searchSeed != null) {
+            searchRandom = new Random(Config2.searchSeed);
+        }
         getSuggestedActions();
         this.actionCache = new HashSet<>();
     }
@@ -130,6 +145,9 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
         this.targets.addAll(player.targets);
         this.choices.addAll(player.choices);
         this.actionCache = player.actionCache;
+        this.parallelSearch = player.parallelSearch;
+        this.searchRandom = player.searchRandom;
+        this.evaluations = player.evaluations;
     }
 
     @Override
@@ -236,13 +254,13 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
                 && Thread.interrupted()) {
             Thread.currentThread().interrupt();
             logger.debug("interrupted");
-            return GameStateEvaluator2.evaluate(playerId, game);
+            return evaluate(playerId, game);
         }
         // Condition to stop deeper simulation
         if (depth <= 0
-                || SimulationNode2.nodeCount > maxNodes
+                || node.getNodeCount() > maxNodes
                 || game.checkIfGameIsOver()) {
-            val = GameStateEvaluator2.evaluate(playerId, game);
+            val = evaluate(playerId, game);
             if (logger.isTraceEnabled()) {
                 StringBuilder sb = new StringBuilder("Add Actions -- reached end state  <").append(val).append('>');
                 SimulationNode2 logNode = node;
@@ -276,20 +294,20 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
             }
 
             if (game.checkIfGameIsOver()) {
-                val = GameStateEvaluator2.evaluate(playerId, game);
+                val = evaluate(playerId, game);
             } else if (stepFinished) {
                 logger.debug("Step finished");
-                int testScore = GameStateEvaluator2.evaluate(playerId, game);
+                int testScore = evaluate(playerId, game);
                 if (game.getActivePlayerId().equals(playerId)) {
                     if (testScore < currentScore) {
                         // if score at end of step is worse than original score don't check further
                         //logger.debug("Add Action -- abandoning check, no immediate benefit");
                         val = testScore;
                     } else {
-                        val = GameStateEvaluator2.evaluate(playerId, game);
+                        val = evaluate(playerId, game);
                     }
                 } else {
-                    val = GameStateEvaluator2.evaluate(playerId, game);
+                    val = evaluate(playerId, game);
                 }
             } else if (!node.getChildren().isEmpty()) {
                 if (logger.isDebugEnabled()) {
@@ -324,13 +342,14 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
                 test = root;
                 root = root.children.get(0);
             }
-            logger.trace("Sim getNextAction -- game value:" + game.getState().getValue(true) + " test value:" + test.gameValue);
+            long gameValue = game.getState().getHash(game, null);
+            logger.trace("Sim getNextAction -- game value:" + gameValue + " test value:" + test.gameValue);
             if (!suggested.isEmpty()) {
                 return false;
             }
             if (root.playerId.equals(playerId)
                     && root.abilities != null
-                    && game.getState().getValue(true).hashCode() == test.gameValue) {
+                    && gameValue == test.gameValue) {
                 logger.info("simulating -- continuing previous action chain");
                 actions = new LinkedList<>(root.abilities);
                 combat = root.combat;
@@ -351,7 +370,7 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
             if (alpha >= beta) {
                 break;
             }
-            if (SimulationNode2.nodeCount > maxNodes) {
+            if (node.getNodeCount() > maxNodes) {
                 break;
             }
             int val = addActions(child, depth - 1, alpha, beta);
@@ -422,7 +441,7 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
                         SimulationNode2 newNode = new SimulationNode2(node, sim, depth, stackObject.getControllerId());
                         node.children.add(newNode);
                         newNode.getTargets().add(targetId);
-                        logger.trace("Sim search -- node#: " + SimulationNode2.getCount() + " for player: " + sim.getPlayer(stackObject.getControllerId()).getName());
+                        logger.trace("Sim search -- node#: " + newNode.getNodeCount() + " for player: " + sim.getPlayer(stackObject.getControllerId()).getName());
                     }
                     return;
                 }
@@ -443,6 +462,7 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
      * @return
      */
     protected Integer addActionsTimed() {
+        long startTime = System.nanoTime();
         FutureTask<Integer> task = new FutureTask<>(new Callable<Integer>() {
             @Override
             public Integer call() throws Exception {
@@ -471,6 +491,14 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
         } catch (Exception e) {
             e.printStackTrace();
             task.cancel(true);
+        } finally {
+            THINK_TIMER.record(System.nanoTime() - startTime);
+            double seconds = (System.nanoTime() - startTime) / 1000000000.0;
+            if (seconds > 0) {
+                nodesPerSecond = (int) (root.getNodeCount() / seconds);
+                logger.debug(name + " simulated " + root.getNodeCount() + " nodes in " + seconds + "s - average " + nodesPerSecond + " nodes/s"
+                        + " - evaluation cache hits: " + evaluations.getHits() + " misses: " + evaluations.getMisses());
+            }
         }
         //TODO: timeout handling
         return 0;
@@ -481,9 +509,9 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
                 && Thread.interrupted()) {
             Thread.currentThread().interrupt();
             logger.info("interrupted");
-            return GameStateEvaluator2.evaluate(playerId, game);
+            return evaluate(playerId, game);
         }
-        node.setGameValue(game.getState().getValue(true).hashCode());
+        node.setGameValue(game.getState().getHash(game, null));
         SimulatedPlayer2 currentPlayer = (SimulatedPlayer2) game.getPlayer(game.getPlayerList().get());
         SimulationNode2 bestNode = null;
         List<Ability> allActions = currentPlayer.simulatePriority(game);
@@ -493,6 +521,12 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
                 && depth == maxDepth) {
             logger.info("ADDED ACTIONS (" + allActions.size() + ") " + ' ' + allActions);
         }
+        if (parallelSearch
+                && depth == maxDepth
+                && allActions.size() > 1
+                && currentPlayer.getId().equals(playerId)) {
+            return simulatePriorityParallel(node, game, depth, alpha, beta, allActions);
+        }
         int counter = 0;
         int bestValSubNodes = Integer.MIN_VALUE;
         for (Ability action : allActions) {
@@ -516,7 +550,7 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
                     // only pass if the last action uses the stack
                     UUID nextPlayerId = sim.getPlayerList().get();
                     do {
-                        sim.getPlayer(nextPlayerId).pass(game);
+                        sim.getPlayer(nextPlayerId).pass(sim);
                         nextPlayerId = sim.getPlayerList().getNext();
                     } while (!Objects.equals(nextPlayerId, this.getId()));
                 }
@@ -525,7 +559,7 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
                 int val;
                 if (action instanceof PassAbility && sim.getStack().isEmpty()) {
                     // Stop to simulate deeper if PassAbility and stack is empty
-                    val = GameStateEvaluator2.evaluate(this.getId(), sim);
+                    val = evaluate(this.getId(), sim);
                 } else {
                     val = addActions(newNode, depth - 1, alpha, beta);
                 }
@@ -560,7 +594,7 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
                     if (val > alpha
                             || (depth == maxDepth
                             && val == alpha
-                            && RandomUtil.nextBoolean())) { // Adding random for equal value to get change sometimes
+                            && randomTieBreak())) { // Adding random for equal value to get change sometimes
                         alpha = val;
                         bestNode = newNode;
                         bestNode.setScore(val);
@@ -599,7 +633,7 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
                 if (alpha >= beta) {
                     break;
                 }
-                if (SimulationNode2.nodeCount > maxNodes) {
+                if (node.getNodeCount() > maxNodes) {
                     logger.debug("Sim Prio -- reached end-state");
                     break;
                 }
@@ -607,7 +641,7 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
         } // end of for (allActions)
 
         if (depth == maxDepth) {
-            logger.info("Sim Prio [" + depth + "] -- End for Max Depth  -- Nodes calculated: " + SimulationNode2.nodeCount);
+            logger.info("Sim Prio [" + depth + "] -- End for Max Depth  -- Nodes calculated: " + node.getNodeCount());
         }
         if (bestNode != null) {
             node.children.clear();
@@ -626,6 +660,209 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
         }
     }
 
+    /**
+     * Root version of the action loop of simulatePriority that simulates the
+     * actions of the AI player as tasks of the shared search pool. The tasks
+     * only share the best score found so far (not for deterministic searches)
+     * and the results are merged in the order of the actions, so the chosen
+     * action doesn't depend on the order the tasks finish.
+     *
+     * @param node
+     * @param game
+     * @param depth
+     * @param alpha
+     * @param beta
+     * @param allActions
+     * @return best score of the actions
+     */
+    protected int simulatePriorityParallel(final SimulationNode2 node, Game game, final int depth, final int alpha, final int beta, List<Ability> allActions) {
+        final AtomicInteger bestScore = new AtomicInteger(alpha);
+        List<Future<SimulationNode2>> tasks = new ArrayList<>(allActions.size());
+        for (final Ability action : allActions) {
+            // copied here, the tasks may not use the game of the node concurrently
+            final Game sim = game.copy();
+            sim.setSimulation(true);
+            final Ability simAction = action.copy();
+            tasks.add(searchPool.submit(new Callable<SimulationNode2>() {
+                @Override
+                public SimulationNode2 call() throws Exception {
+                    int taskAlpha = searchRandom == null ? bestScore.get() : alpha;
+                    return simulateRootAction(node, sim, action, simAction, depth, taskAlpha, beta, bestScore);
+                }
+            }));
+        }
+        int bestAlpha = alpha;
+        int bestValSubNodes = Integer.MIN_VALUE;
+        SimulationNode2 bestNode = null;
+        int counter = 0;
+        try {
+            for (Future<SimulationNode2> task : tasks) {
+                counter++;
+                SimulationNode2 newNode;
+                try {
+                    newNode = task.get();
+                } catch (ExecutionException e) {
+                    logger.error("Sim Prio [" + depth + "]#" + counter + " -- simulation failed", e.getCause());
+                    continue;
+                }
+                if (newNode == null) {
+                    continue;
+                }
+                int val = newNode.getScore();
+                Ability action = newNode.getAbilities().get(0);
+                logger.info("Sim Prio [" + depth + "] #" + counter + " <" + val + "> (" + action + listTargets(game, action.getTargets()) + ')');
+                if (val > bestValSubNodes) {
+                    bestValSubNodes = val;
+                }
+                if (action instanceof PassAbility) {
+                    val = val - PASSIVITY_PENALTY; // passivity penalty
+                }
+                if (val > bestAlpha
+                        || (val == bestAlpha
+                        && randomTieBreak())) { // Adding random for equal value to get change sometimes
+                    bestAlpha = val;
+                    bestNode = newNode;
+                    bestNode.setScore(val);
+                    if (!newNode.getChildren().isEmpty()) {
+                        bestNode.setCombat(newNode.getChildren().get(0).getCombat());
+                    }
+                    logger.info("Sim Prio [" + depth + "] -- Saved best node yet <" + bestNode.getScore() + "> " + bestNode.getAbilities().toString());
+                    node.children.clear();
+                    node.children.add(bestNode);
+                    node.setScore(bestNode.getScore());
+                }
+                // no need to check other actions
+                if (val == GameStateEvaluator2.WIN_GAME_SCORE) {
+                    logger.debug("Sim Prio -- win - break");
+                    break;
+                }
+                if (bestAlpha >= beta) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.info("Sim Prio [" + depth + "] -- interrupted");
+        } finally {
+            for (Future<SimulationNode2> task : tasks) {
+                task.cancel(true);
+            }
+        }
+        logger.info("Sim Prio [" + depth + "] -- End for Max Depth  -- Nodes calculated: " + node.getNodeCount());
+        if (bestNode != null) {
+            node.children.clear();
+            node.children.add(bestNode);
+            node.setScore(bestNode.getScore());
+        }
+        return bestValSubNodes;
+    }
+
+    /**
+     * Simulates one root action for simulatePriorityParallel.
+     *
+     * @return the node of the action with its score or null if the action
+     * can't be used
+     */
+    private SimulationNode2 simulateRootAction(SimulationNode2 node, Game sim, Ability action, Ability simAction, int depth, int alpha, int beta, AtomicInteger bestScore) {
+        if (!sim.getPlayer(playerId).activateAbility((ActivatedAbility) simAction, sim)) {
+            return null;
+        }
+        sim.applyEffects();
+        if (checkForRepeatedAction(sim, node, action, playerId)) {
+            logger.debug("Sim Prio [" + depth + "] -- repeated action: " + action.toString());
+            return null;
+        }
+        if (!sim.checkIfGameIsOver()
+                && (action.isUsesStack() || action instanceof PassAbility)) {
+            // only pass if the last action uses the stack
+            UUID nextPlayerId = sim.getPlayerList().get();
+            do {
+                sim.getPlayer(nextPlayerId).pass(sim);
+                nextPlayerId = sim.getPlayerList().getNext();
+            } while (!Objects.equals(nextPlayerId, this.getId()));
+        }
+        SimulationNode2 newNode = new SimulationNode2(node, sim, action, depth, playerId);
+        sim.checkStateAndTriggered();
+        int val;
+        if (action instanceof PassAbility && sim.getStack().isEmpty()) {
+            // Stop to simulate deeper if PassAbility and stack is empty
+            val = evaluate(this.getId(), sim);
+        } else {
+            val = addActions(newNode, depth - 1, alpha, beta);
+        }
+        newNode.setScore(val);
+        int penalizedVal = action instanceof PassAbility ? val - PASSIVITY_PENALTY : val;
+        while (true) {
+            int best = bestScore.get();
+            if (penalizedVal <= best || bestScore.compareAndSet(best, penalizedVal)) {
+                break;
+            }
+        }
+        return newNode;
+    }
+
+    /**
+     * Evaluates the game state, states of the AI player seen before are taken
+     * from the transposition table.
+     *
+     * @param playerId
+     * @param game
+     * @return
+     */
+    protected int evaluate(UUID playerId, Game game) {
+        if (evaluations == null
+                || !playerId.equals(this.playerId)
+                || game.checkIfGameIsOver()) {
+            return GameStateEvaluator2.evaluate(playerId, game);
+        }
+        long hash = game.getState().getHash(game, null);
+        Integer score = evaluations.get(hash);
+        if (score == null) {
+            score = GameStateEvaluator2.evaluate(playerId, game);
+            evaluations.put(hash, score);
+        }
+        return score;
+    }
+
+    /**
+     * Random choice between equally scored actions, repeatable for
+     * deterministic searches.
+     */
+    protected boolean randomTieBreak() {
+        if (searchRandom != null) {
+            return searchRandom.nextBoolean();
+        }
+        return RandomUtil.nextBoolean();
+    }
+
+    /**
+     * Enables the parallel simulation of the root actions with the shared
+     * search pool. The pool size is set by the searchThreads AI property.
+     *
+     * @param parallelSearch
+     */
+    public void setParallelSearch(boolean parallelSearch) {
+        this.parallelSearch = parallelSearch;
+    }
+
+    /**
+     * Makes the search repeatable (for tests): equally scored actions are
+     * chosen with a random seeded by the given value and the parallel tasks
+     * don't share their bounds, so the result doesn't depend on timing.
+     *
+     * @param seed
+     */
+    public void setSearchSeed(long seed) {
+        this.searchRandom = new Random(seed);
+    }
+
+    /**
+     * @return simulated nodes per second of the last search
+     */
+    public int getNodesPerSecond() {
+        return nodesPerSecond;
+    }
+
     /**
      * Various AI optimizations for actions.
      *
@@ -923,7 +1160,7 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
         if (action instanceof PassAbility || action instanceof SpellAbility || action.getAbilityType() == AbilityType.MANA) {
             return false;
         }
-        int newVal = GameStateEvaluator2.evaluate(playerId, sim);
+        int newVal = evaluate(playerId, sim);
         SimulationNode2 test = node.getParent();
         while (test != null) {
             if (test.getPlayerId().equals(playerId)) {
@@ -932,7 +1169,7 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
                         if (test.getParent() != null) {
                             Game prevGame = node.getGame();
                             if (prevGame != null) {
-                                int oldVal = GameStateEvaluator2.evaluate(playerId, prevGame);
+                                int oldVal = evaluate(playerId, prevGame);
                                 if (oldVal >= newVal) {
                                     return true;
                                 }
@@ -50,6 +50,9 @@ public final class Config2 {
     public static final int evaluatorPermanentFactor;
     public static final int evaluatorCreatureFactor;
     public static final int evaluatorHandFactor;
+    public static final int searchThreads;
+    public static final Long searchSeed;
+    public static final int transpositionTableSize;
 //    public static final int maxThinkSeconds;
 
     static {
@@ -79,6 +82,9 @@ public final class Config2 {
         evaluatorPermanentFactor = Integer.parseInt(p.getProperty("evaluatorPermanentFactor"));
         evaluatorCreatureFactor = Integer.parseInt(p.getProperty("evaluatorCreatureFactor"));
         evaluatorHandFactor = Integer.parseInt(p.getProperty("evaluatorHandFactor"));
+        searchThreads = Integer.parseInt(p.getProperty("searchThreads", "1"));
+        searchSeed = p.getProperty("searchSeed") == null ? null : Long.parseLong(p.getProperty("searchSeed"));
+        transpositionTableSize = Integer.parseInt(p.getProperty("transpositionTableSize", "65536"));
 //        maxThinkSeconds = Integer.parseInt(p.getProperty("maxThinkSeconds"));
     }
 
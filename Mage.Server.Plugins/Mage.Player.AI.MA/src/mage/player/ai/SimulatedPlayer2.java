@@ -57,7 +57,7 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 public class SimulatedPlayer2 extends ComputerPlayer {
 
     private static final Logger logger = Logger.getLogger(SimulatedPlayer2.class);
-    private static PassAbility pass = new PassAbility();
+    private final PassAbility pass;
     private final boolean isSimulatedPlayer;
     private final List<String> suggested;
     private transient ConcurrentLinkedQueue<Ability> allActions;
@@ -65,7 +65,8 @@ public class SimulatedPlayer2 extends ComputerPlayer {
 
     public SimulatedPlayer2(UUID id, boolean isSimulatedPlayer, List<String> suggested) {
         super(id);
-        pass.setControllerId(playerId);
+        this.pass = new PassAbility();
+        this.pass.setControllerId(playerId);
         this.isSimulatedPlayer = isSimulatedPlayer;
         this.suggested = suggested;
         this.userData = UserData.getDefaultUserDataView();
@@ -73,6 +74,7 @@ public class SimulatedPlayer2 extends ComputerPlayer {
 
     public SimulatedPlayer2(final SimulatedPlayer2 player) {
         super(player);
+        this.pass = player.pass.copy();
         this.isSimulatedPlayer = player.isSimulatedPlayer;
         this.suggested = new ArrayList<>();
         for (String s : player.suggested) {
@@ -438,7 +440,7 @@ public class SimulatedPlayer2 extends ComputerPlayer {
         }
         sim.applyEffects();
         SimulationNode2 newNode = new SimulationNode2(parent, sim, depth, playerId);
-        logger.debug("simulating -- node #:" + SimulationNode2.getCount() + " triggered ability option");
+        logger.debug("simulating -- node #:" + newNode.getNodeCount() + " triggered ability option");
         for (Target target : ability.getTargets()) {
             for (UUID targetId : target.getTargets()) {
                 newNode.getTargets().add(targetId);
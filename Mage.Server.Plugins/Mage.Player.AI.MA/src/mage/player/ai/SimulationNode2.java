@@ -31,6 +31,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import mage.abilities.Ability;
 import mage.game.Game;
 import mage.game.combat.Combat;
@@ -41,10 +42,11 @@ import mage.game.combat.Combat;
  */
 public class SimulationNode2 implements Serializable {
 
-    protected static int nodeCount;
+    // nodes of the whole tree, shared by all nodes of it (the root children can be simulated in parallel)
+    protected final AtomicInteger nodeCount;
 
     protected Game game;
-    protected int gameValue;
+    protected long gameValue;
     protected int score;
     protected List<Ability> abilities;
     protected int depth;
@@ -61,7 +63,8 @@ public class SimulationNode2 implements Serializable {
         this.depth = depth;
         this.playerId = playerId;
         game.setCustomData(this);
-        nodeCount++;
+        this.nodeCount = parent == null ? new AtomicInteger() : parent.nodeCount;
+        this.nodeCount.incrementAndGet();
     }
 
     public SimulationNode2(SimulationNode2 parent, Game game, List<Ability> abilities, int depth, UUID playerId) {
@@ -75,23 +78,22 @@ public class SimulationNode2 implements Serializable {
         abilities.add(ability);
     }
 
-    public static void resetCount() {
-        nodeCount = 0;
-    }
-
-    public static int getCount() {
-        return nodeCount;
+    /**
+     * @return number of nodes created for the tree of this node
+     */
+    public int getNodeCount() {
+        return nodeCount.get();
     }
 
     public Game getGame() {
         return this.game;
     }
 
-    public int getGameValue() {
+    public long getGameValue() {
         return this.gameValue;
     }
 
-    public void setGameValue(int value) {
+    public void setGameValue(long value) {
         this.gameValue = value;
     }
 
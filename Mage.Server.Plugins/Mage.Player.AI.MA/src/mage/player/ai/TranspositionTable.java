@@ -0,0 +1,63 @@
+package mage.player.ai;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded cache of game state evaluations keyed by
+ * {@link mage.game.GameState#getHash}. Each hash has exactly one slot, a new
+ * entry replaces the old one of the slot. Check bits of the hash and the
+ * score are stored together in one long, so parallel searches never read an
+ * entry half written.
+ */
+public class TranspositionTable {
+
+    private final AtomicLongArray entries;
+    private final int mask;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * @param size number of entries, rounded up to a power of two
+     */
+    public TranspositionTable(int size) {
+        int capacity = Integer.highestOneBit(Math.max(1, size - 1)) << 1;
+        this.entries = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * @param hash
+     * @return the stored score or null if the state is not stored
+     */
+    public Integer get(long hash) {
+        long entry = entries.get(index(hash));
+        if (entry != 0 && (int) (entry >>> 32) == check(hash)) {
+            hits.incrementAndGet();
+            return (int) entry;
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    public void put(long hash, int score) {
+        entries.lazySet(index(hash), ((long) check(hash) << 32) | (score & 0xFFFFFFFFL));
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    private int index(long hash) {
+        return (int) hash & mask;
+    }
+
+    // never 0, so an empty slot never matches
+    private static int check(long hash) {
+        return (int) (hash >>> 32) | 1;
+    }
+}
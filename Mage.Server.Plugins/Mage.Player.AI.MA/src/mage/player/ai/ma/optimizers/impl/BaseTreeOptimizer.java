@@ -31,12 +31,14 @@ public abstract class BaseTreeOptimizer implements TreeOptimizer {
 
     /**
      * Template method for optimization.
+     * Synchronized because the optimizers are shared by all AI players whose
+     * searches can run in parallel.
      *
      * @param game
      * @param actions
      */
     @Override
-    public final void optimize(Game game, List<Ability> actions) {
+    public final synchronized void optimize(Game game, List<Ability> actions) {
         filter(game, actions);
 
         if (toRemove != null) {
@@ -48,7 +50,7 @@ public abstract class BaseTreeOptimizer implements TreeOptimizer {
 
     /**
      * Mark an ability to be removed
-     * Not thread-safe for performance reasons.
+     * Only called from optimize, so it's guarded by its lock.
      *
      * @param ability
      */
@@ -30,6 +30,7 @@ package mage.player.ai.simulators;
 
 import mage.game.Game;
 import mage.game.permanent.Permanent;
+import mage.util.Copyable;
 
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -40,7 +41,7 @@ import java.util.UUID;
  *
  * @author BetaSteward_at_googlemail.com
  */
-public class CombatGroupSimulator implements Serializable {
+public class CombatGroupSimulator implements Serializable, Copyable<CombatGroupSimulator> {
     public List<CreatureSimulator> attackers = new ArrayList<>();
     public List<CreatureSimulator> blockers = new ArrayList<>();
     public UUID defenderId;
@@ -62,6 +63,27 @@ public class CombatGroupSimulator implements Serializable {
         attacker = this.attackers.get(0);
     }
 
+    public CombatGroupSimulator(final CombatGroupSimulator group) {
+        for (CreatureSimulator creature: group.attackers) {
+            CreatureSimulator copy = creature.copy();
+            this.attackers.add(copy);
+            if (creature == group.attacker) {
+                this.attacker = copy;
+            }
+        }
+        for (CreatureSimulator creature: group.blockers) {
+            this.blockers.add(creature.copy());
+        }
+        this.defenderId = group.defenderId;
+        this.defenderIsPlaneswalker = group.defenderIsPlaneswalker;
+        this.unblockedDamage = group.unblockedDamage;
+    }
+
+    @Override
+    public CombatGroupSimulator copy() {
+        return new CombatGroupSimulator(this);
+    }
+
     private boolean hasFirstOrDoubleStrike() {
         for (CreatureSimulator creature: attackers) {
             if (creature.hasDoubleStrike || creature.hasFirstStrike)
@@ -34,12 +34,13 @@ import mage.abilities.keyword.DoubleStrikeAbility;
 import mage.abilities.keyword.FirstStrikeAbility;
 import mage.abilities.keyword.TrampleAbility;
 import mage.game.permanent.Permanent;
+import mage.util.Copyable;
 
 /**
  *
  * @author BetaSteward_at_googlemail.com
  */
-public class CreatureSimulator implements Serializable {
+public class CreatureSimulator implements Serializable, Copyable<CreatureSimulator> {
     public UUID id;
     public int damage;
     public int power;
@@ -58,6 +59,21 @@ public class CreatureSimulator implements Serializable {
         this.hasTrample = permanent.getAbilities().containsKey(TrampleAbility.getInstance().getId());
     }
 
+    public CreatureSimulator(final CreatureSimulator creature) {
+        this.id = creature.id;
+        this.damage = creature.damage;
+        this.power = creature.power;
+        this.toughness = creature.toughness;
+        this.hasFirstStrike = creature.hasFirstStrike;
+        this.hasDoubleStrike = creature.hasDoubleStrike;
+        this.hasTrample = creature.hasTrample;
+    }
+
+    @Override
+    public CreatureSimulator copy() {
+        return new CreatureSimulator(this);
+    }
+
     public boolean isDead() {
         return damage >= toughness;
     }
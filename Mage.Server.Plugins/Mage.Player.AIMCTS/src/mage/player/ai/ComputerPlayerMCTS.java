@@ -59,6 +59,8 @@ public class ComputerPlayerMCTS extends ComputerPlayer implements Player {
     private static final int THINK_MAX_RATIO = 100;
     private static final double THINK_TIME_MULTIPLIER = 2.0;
     private static final boolean USE_MULTIPLE_THREADS = true;
+    // shared by all MCTS players, the executors of a decision search the same tree
+    private static final ExecutorService pool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
 
     protected transient MCTSNode root;
     protected int maxThinkTime;
@@ -128,7 +130,7 @@ public class ComputerPlayerMCTS extends ComputerPlayer implements Player {
     protected void getNextAction(Game game, NextAction nextAction) {
         if (root != null) {
             MCTSNode newRoot;
-            newRoot = root.getMatchingState(game.getState().getValue(game, playerId));
+            newRoot = root.getMatchingState(game.getState().getHash(game, playerId));
             if (newRoot != null) {
                 newRoot.emancipate();
             }
@@ -285,20 +287,14 @@ public class ComputerPlayerMCTS extends ComputerPlayer implements Player {
         
         if (thinkTime > 0) {
             if (USE_MULTIPLE_THREADS) {
-                ExecutorService pool = Executors.newFixedThreadPool(poolSize);
                 List<MCTSExecutor> tasks = new ArrayList<>();
                 for (int i = 0; i < poolSize; i++) {
-                    Game sim = createMCTSGame(game);
-                    MCTSPlayer player = (MCTSPlayer) sim.getPlayer(playerId);
-                    player.setNextAction(action);
-                    MCTSExecutor exec = new MCTSExecutor(sim, playerId, thinkTime);
-                    tasks.add(exec);
+                    tasks.add(new MCTSExecutor(root, playerId, thinkTime));
                 }
 
                 try {
-                    pool.invokeAll(tasks, thinkTime, TimeUnit.SECONDS);
-                    pool.awaitTermination(1, TimeUnit.SECONDS);
-                    pool.shutdownNow();
+                    // the executors stop by themselves after the think time
+                    pool.invokeAll(tasks, thinkTime + 1, TimeUnit.SECONDS);
                 } catch (InterruptedException | RejectedExecutionException ex) {
                     logger.warn("applyMCTS interrupted");
                 }
@@ -306,7 +302,6 @@ public class ComputerPlayerMCTS extends ComputerPlayer implements Player {
                 int simCount = 0;
                 for (MCTSExecutor task: tasks) {
                     simCount += task.getSimCount();
-                    root.merge(task.getRoot());
                     task.clear();
                 }
                 tasks.clear();
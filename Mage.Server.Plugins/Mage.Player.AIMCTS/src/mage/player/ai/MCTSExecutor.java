@@ -29,10 +29,11 @@ package mage.player.ai;
 
 import java.util.UUID;
 import java.util.concurrent.Callable;
-import mage.game.Game;
 import org.apache.log4j.Logger;
 
 /**
+ * Searches the tree of the given root until the think time is over. Several
+ * executors search the same tree concurrently.
  *
  * @author BetaSteward_at_googlemail.com
  */
@@ -45,49 +46,51 @@ public class MCTSExecutor implements Callable<Boolean> {
 
     private static final Logger logger = Logger.getLogger(ComputerPlayerMCTS.class);
 
-    public MCTSExecutor(Game sim, UUID playerId, int thinkTime) {
+    public MCTSExecutor(MCTSNode root, UUID playerId, int thinkTime) {
         this.playerId = playerId;
         this.thinkTime = thinkTime;
-        root = new MCTSNode(playerId, sim);
+        this.root = root;
     }
 
     @Override
     public Boolean call() {
         simCount = 0;
         MCTSNode current;
+        long endTime = System.nanoTime() + thinkTime * 1000000000L;
 
-
-        while (true) {
+        while (System.nanoTime() < endTime && !Thread.currentThread().isInterrupted()) {
             current = root;
+            int result = 0;
+            try {
+                // Selection
+                while (!current.isLeaf()) {
+                    current = current.select(this.playerId);
+                }
 
-            // Selection
-            while (!current.isLeaf()) {
-                current = current.select(this.playerId);
-            }
-
-            int result;
-            if (!current.isTerminal()) {
-                // Expansion
-                current.expand();
+                if (!current.isTerminal()) {
+                    // Expansion
+                    current.expand();
 
-                // only run simulations for nodes that have siblings
-                if (current.getNumChildren() > 1) {
-                    // Simulation
-                    current = current.select(this.playerId);
-                    result = current.simulate(this.playerId);
-                    simCount++;
+                    // only run simulations for nodes that have siblings
+                    if (current.getNumChildren() > 1) {
+                        // Simulation
+                        current = current.select(this.playerId);
+                        result = current.simulate(this.playerId);
+                        simCount++;
+                    }
+                    else if (current.getNumChildren() == 1) {
+                        current = current.select(this.playerId);
+                    }
                 }
                 else {
-                    current = current.select(this.playerId);
-                    result = 0;
+                    result = current.isWinner(this.playerId)?1:-1;
                 }
+            } finally {
+                // Backpropagation (also removes the virtual losses of the path)
+                current.backpropagate(result);
             }
-            else {
-                result = current.isWinner(this.playerId)?1:-1;
-            }
-            // Backpropagation
-            current.backpropagate(result);
         }
+        return true;
     }
 
     public MCTSNode getRoot() {
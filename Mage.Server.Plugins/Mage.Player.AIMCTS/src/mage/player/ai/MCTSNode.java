@@ -34,6 +34,9 @@ import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import mage.constants.PhaseStep;
 import mage.constants.Zone;
 import mage.abilities.Ability;
@@ -59,56 +62,65 @@ public class MCTSNode {
     private static final double passRatioTolerance = 0.0;
     private static final Logger logger = Logger.getLogger(MCTSNode.class);
 
-    private int visits = 0;
-    private int wins = 0;
-    private MCTSNode parent;
-    private final List<MCTSNode> children = new ArrayList<>();
+    // the tree is searched by several threads, the statistics are updated lock-free
+    private static final AtomicIntegerFieldUpdater<MCTSNode> VISITS = AtomicIntegerFieldUpdater.newUpdater(MCTSNode.class, "visits");
+    private static final AtomicIntegerFieldUpdater<MCTSNode> WINS = AtomicIntegerFieldUpdater.newUpdater(MCTSNode.class, "wins");
+    private static final AtomicIntegerFieldUpdater<MCTSNode> VIRTUAL_LOSSES = AtomicIntegerFieldUpdater.newUpdater(MCTSNode.class, "virtualLosses");
+
+    private volatile int visits = 0;
+    private volatile int wins = 0;
+    // running simulations through this node, counted as lost for the selecting player
+    // so the other threads prefer different paths
+    private volatile int virtualLosses = 0;
+    private volatile MCTSNode parent;
+    private final List<MCTSNode> children = new CopyOnWriteArrayList<>();
     private Ability action;
-    private Game game;
+    private volatile Game game;
     private Combat combat;
-    private final String stateValue;
+    private final long stateHash;
+    // only used as key of the action caches
     private final String fullStateValue;
     private UUID playerId;
     private boolean terminal = false;
     private UUID targetPlayer;
 
-    private static int nodeCount;
+    private static final AtomicInteger nodeCount = new AtomicInteger();
 
     public MCTSNode(UUID targetPlayer, Game game) {
         this.targetPlayer = targetPlayer;
         this.game = game;
-        this.stateValue = game.getState().getValue(game, targetPlayer);
-        this.fullStateValue = game.getState().getValue(true, game);
+        this.stateHash = game.getState().getHash(game, targetPlayer);
+        this.fullStateValue = USE_ACTION_CACHE ? game.getState().getValue(true, game) : null;
         this.terminal = game.checkIfGameIsOver();
         setPlayer();
-        nodeCount = 1;
-//        logger.info(this.stateValue);
+        nodeCount.set(1);
+//        logger.info(this.stateHash);
     }    
 
     protected MCTSNode(MCTSNode parent, Game game, Ability action) {
         this.targetPlayer = parent.targetPlayer;
         this.game = game;
-        this.stateValue = game.getState().getValue(game, targetPlayer);
-        this.fullStateValue = game.getState().getValue(true, game);
+        this.stateHash = game.getState().getHash(game, targetPlayer);
+        this.fullStateValue = USE_ACTION_CACHE ? game.getState().getValue(true, game) : null;
         this.terminal = game.checkIfGameIsOver();
         this.parent = parent;
         this.action = action;
         setPlayer();
-        nodeCount++;
-//        logger.info(this.stateValue);
+        nodeCount.incrementAndGet();
+//        logger.info(this.stateHash);
     }
 
     protected MCTSNode(MCTSNode parent, Game game, Combat combat) {
         this.targetPlayer = parent.targetPlayer;
         this.game = game;
         this.combat = combat;
-        this.stateValue = game.getState().getValue(game, targetPlayer);
-        this.fullStateValue = game.getState().getValue(true, game);
+        this.stateHash = game.getState().getHash(game, targetPlayer);
+        this.fullStateValue = USE_ACTION_CACHE ? game.getState().getValue(true, game) : null;
         this.terminal = game.checkIfGameIsOver();
         this.parent = parent;
         setPlayer();
-        nodeCount++;
-//        logger.info(this.stateValue);
+        nodeCount.incrementAndGet();
+//        logger.info(this.stateHash);
     }
 
     private void setPlayer() {
@@ -123,20 +135,40 @@ public class MCTSNode {
         }
     }
 
+    /**
+     * Selects the child to search next and adds a virtual loss to it, that is
+     * removed again by backpropagate. Never returns null if the node has
+     * children.
+     *
+     * @param targetPlayerId
+     * @return
+     */
     public MCTSNode select(UUID targetPlayerId) {
         double bestValue = Double.NEGATIVE_INFINITY;
         boolean isTarget = playerId.equals(targetPlayerId);
         MCTSNode bestChild = null;
         if (children.size() == 1) {
-            return children.get(0);
+            bestChild = children.get(0);
+            VIRTUAL_LOSSES.incrementAndGet(bestChild);
+            return bestChild;
+        }
+        // the root never gets a virtual loss itself, so the running descents
+        // are counted from the virtual losses of the children
+        int inFlight = 0;
+        for (MCTSNode node: children) {
+            inFlight += node.virtualLosses;
         }
+        int parentVisits = Math.max(1, visits + Math.max(virtualLosses, inFlight));
         for (MCTSNode node: children) {
             double uct;
-            if (node.visits > 0)
+            int nodeVirtualLosses = node.virtualLosses;
+            int nodeVisits = node.visits + nodeVirtualLosses;
+            int nodeWins = node.wins + (isTarget ? 0 : nodeVirtualLosses);
+            if (nodeVisits > 0)
                 if (isTarget)
-                    uct = (node.wins / (node.visits)) + (selectionCoefficient * Math.sqrt(Math.log(visits) / (node.visits)));
+                    uct = (nodeWins / (double) nodeVisits) + (selectionCoefficient * Math.sqrt(Math.log(parentVisits) / nodeVisits));
                 else
-                    uct = ((node.visits - node.wins) / (node.visits)) + (selectionCoefficient * Math.sqrt(Math.log(visits) / (node.visits)));
+                    uct = ((nodeVisits - nodeWins) / (double) nodeVisits) + (selectionCoefficient * Math.sqrt(Math.log(parentVisits) / nodeVisits));
             else
                 // ensure that a random unvisited node is played first
                 uct = 10000 + 1000 * Math.random();
@@ -145,10 +177,21 @@ public class MCTSNode {
                 bestValue = uct;
             }
         }
+        if (bestChild == null && !children.isEmpty()) {
+            bestChild = children.get(0);
+        }
+        if (bestChild != null) {
+            VIRTUAL_LOSSES.incrementAndGet(bestChild);
+        }
         return bestChild;
     }
 
-    public void expand() {
+    public synchronized void expand() {
+        if (game == null) {
+            // already expanded by another thread
+            return;
+        }
+        List<MCTSNode> newChildren = new ArrayList<>();
         MCTSPlayer player = (MCTSPlayer) game.getPlayer(playerId);
         if (player.getNextAction() == null) {
             logger.fatal("next action is null");
@@ -167,7 +210,7 @@ public class MCTSNode {
                     MCTSPlayer simPlayer = (MCTSPlayer) sim.getPlayer(player.getId());
                     simPlayer.activateAbility((ActivatedAbility)ability, sim);
                     sim.resume();
-                    children.add(new MCTSNode(this, sim, ability));
+                    newChildren.add(new MCTSNode(this, sim, ability));
                 }
                 break;
             case SELECT_ATTACKERS:
@@ -185,7 +228,7 @@ public class MCTSNode {
                         simPlayer.declareAttacker(attackerId, defenderId, sim, false);
                     }
                     sim.resume();
-                    children.add(new MCTSNode(this, sim, sim.getCombat()));
+                    newChildren.add(new MCTSNode(this, sim, sim.getCombat()));
                 }
                 break;
             case SELECT_BLOCKERS:
@@ -207,16 +250,24 @@ public class MCTSNode {
                         }
                     }
                     sim.resume();
-                    children.add(new MCTSNode(this, sim, sim.getCombat()));
+                    newChildren.add(new MCTSNode(this, sim, sim.getCombat()));
                 }
                 break;
         }
+        children.addAll(newChildren);
         game = null;
     }
 
     public int simulate(UUID playerId) {
 //        long startTime = System.nanoTime();
-        Game sim = createSimulation(game, playerId);
+        Game sim;
+        synchronized (this) {
+            if (game == null) {
+                // expanded by another thread meanwhile
+                return 0;
+            }
+            sim = createSimulation(game, playerId);
+        }
         sim.resume();
 //        long duration = System.nanoTime() - startTime;
         int retVal = -1;  //anything other than a win is a loss
@@ -230,14 +281,27 @@ public class MCTSNode {
         return retVal;
     }
 
+    /**
+     * Adds the result to this node and all its parents and removes the virtual
+     * losses added by select. A result of 0 only removes the virtual losses.
+     *
+     * @param result
+     */
     public void backpropagate(int result) {
-        if (result == 0)
-            return;
-        if (result == 1)
-            wins++;
-        visits++;
-        if (parent != null)
-            parent.backpropagate(result);
+        MCTSNode parentNode = parent;
+        if (parentNode != null)
+            VIRTUAL_LOSSES.decrementAndGet(this);
+        if (result != 0) {
+            if (result == 1)
+                WINS.incrementAndGet(this);
+            VISITS.incrementAndGet(this);
+        }
+        if (parentNode != null)
+            parentNode.backpropagate(result);
+    }
+
+    void addChild(MCTSNode child) {
+        children.add(child);
     }
 
     public boolean isLeaf() {
@@ -303,11 +367,11 @@ public class MCTSNode {
     }
 
     public int getNodeCount() {
-        return nodeCount;
+        return nodeCount.get();
     }
 
-    public String getStateValue() {
-        return stateValue;
+    public long getStateHash() {
+        return stateHash;
     }
 
     public double getWinRatio() {
@@ -382,16 +446,16 @@ public class MCTSNode {
      * 
      * performs a breadth first search for a matching game state
      * 
-     * @param state - the game state that we are looking for
+     * @param stateHash - hash of the game state that we are looking for
      * @return the matching state or null if no match is found
      */
-    public MCTSNode getMatchingState(String state) {
+    public MCTSNode getMatchingState(long stateHash) {
         ArrayDeque<MCTSNode> queue = new ArrayDeque<>();
         queue.add(this);
 
         while (!queue.isEmpty()) {
             MCTSNode current = queue.remove();
-            if (current.stateValue.equals(state))
+            if (current.stateHash == stateHash)
                 return current;
             for (MCTSNode child: current.children) {
                 queue.add(child);
@@ -400,63 +464,6 @@ public class MCTSNode {
         return null;
     }
 
-    public void merge(MCTSNode merge) {
-        if (!stateValue.equals(merge.stateValue)) {
-            logger.info("mismatched merge states at root");
-            return;
-        }
-
-        this.visits += merge.visits;
-        this.wins += merge.wins;
-        int mismatchCount = 0;
-        
-        List<MCTSNode> mergeChildren = new ArrayList<>();
-        for (MCTSNode child: merge.children) {
-            mergeChildren.add(child);
-        }
-
-        for (MCTSNode child: children) {
-            for (MCTSNode mergeChild: mergeChildren) {
-                if (mergeChild.action != null && child.action != null) {
-                    if (mergeChild.action.toString().equals(child.action.toString())) {
-                        if (!mergeChild.stateValue.equals(child.stateValue)) {
-                            mismatchCount++;
-//                            logger.info("mismatched merge states");
-//                            mergeChildren.remove(mergeChild);
-                        }
-                        else {
-                            child.merge(mergeChild);
-                            mergeChildren.remove(mergeChild);
-                        }
-                        break;
-                    }
-                }
-                else {
-                    if (mergeChild.combat.getValue().equals(child.combat.getValue())) {
-                        if (!mergeChild.stateValue.equals(child.stateValue)) {
-                            mismatchCount++;
-//                            logger.info("mismatched merge states");
-//                            mergeChildren.remove(mergeChild);
-                        }
-                        else {
-                            child.merge(mergeChild);
-                            mergeChildren.remove(mergeChild);
-                        }
-                        break;
-                    }
-                }
-            }
-        }
-        if (!mergeChildren.isEmpty()) {
-            for (MCTSNode child: mergeChildren) {
-                child.parent = this;
-                children.add(child);
-            }
-        }
-//        if (mismatchCount > 0)
-//            logger.info("mismatched merge states: " + mismatchCount);
-    }
-
 //    public void print(int depth) {
 //        String indent = String.format("%1$-" + depth + "s", "");
 //        StringBuilder sb = new StringBuilder();
@@ -29,6 +29,8 @@ package mage.player.human;
 
 import java.io.Serializable;
 import java.util.*;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 import mage.MageObject;
 import mage.abilities.*;
 import mage.abilities.costs.VariableCost;
@@ -84,6 +86,11 @@ public class HumanPlayer extends PlayerImpl {
 
     private transient Boolean responseOpenedForAnswer = false; // can't get response until prepared target (e.g. until send all fire events to all players)
     private final transient PlayerResponse response = new PlayerResponse();
+    // a lock instead of the monitor of the response, so a waiting game doesn't pin the carrier of its virtual thread
+    private final transient ReentrantLock responseLock = new ReentrantLock();
+    private final transient Condition responseChanged = responseLock.newCondition();
+    private final transient ReentrantLock macroLock = new ReentrantLock();
+    private final transient Condition macroFinished = macroLock.newCondition();
 
     protected static FilterCreatureForCombatBlock filterCreatureForCombatBlock = new FilterCreatureForCombatBlock();
     protected static FilterCreatureForCombat filterCreatureForCombat = new FilterCreatureForCombat();
@@ -187,11 +194,14 @@ public class HumanPlayer extends PlayerImpl {
                 sendPlayerAction(PlayerAction.PASS_PRIORITY_UNTIL_STACK_RESOLVED, game, null);
             }
             //waitResponseOpen(); // it's a macro action, no need it here?
-            synchronized (response) {
+            responseLock.lock();
+            try {
                 response.copy(action);
-                response.notifyAll();
+                responseChanged.signalAll();
                 macroTriggeredSelectionFlag = false;
                 return true;
+            } finally {
+                responseLock.unlock();
             }
         }
         return false;
@@ -223,15 +233,15 @@ public class HumanPlayer extends PlayerImpl {
 
             loop = false;
 
-            synchronized (response) {
-                try {
-                    response.wait();
-                } catch (InterruptedException ex) {
-                    logger.error("Response error for player " + getName() + " gameId: " + game.getId(), ex);
-                } finally {
-                    responseOpenedForAnswer = false;
-                    game.pauseTimer(getTurnControlledBy());
-                }
+            responseLock.lock();
+            try {
+                responseChanged.await();
+            } catch (InterruptedException ex) {
+                logger.error("Response error for player " + getName() + " gameId: " + game.getId(), ex);
+            } finally {
+                responseOpenedForAnswer = false;
+                game.pauseTimer(getTurnControlledBy());
+                responseLock.unlock();
             }
 
             // game recived immidiate response on OTHER player concede -- need to process end game and continue to wait
@@ -850,8 +860,11 @@ public class HumanPlayer extends PlayerImpl {
                         return false;
                     } else {
                         if (activatingMacro) {
-                            synchronized (actionQueue) {
-                                actionQueue.notifyAll();
+                            macroLock.lock();
+                            try {
+                                macroFinished.signalAll();
+                            } finally {
+                                macroLock.unlock();
                             }
                         }
                         continue;
@@ -1744,51 +1757,66 @@ public class HumanPlayer extends PlayerImpl {
     @Override
     public void setResponseString(String responseString) {
         waitResponseOpen();
-        synchronized (response) {
+        responseLock.lock();
+        try {
             response.setString(responseString);
-            response.notifyAll();
+            responseChanged.signalAll();
             logger.debug("Got response string from player: " + getId());
+        } finally {
+            responseLock.unlock();
         }
     }
 
     @Override
     public void setResponseManaType(UUID manaTypePlayerId, ManaType manaType) {
         waitResponseOpen();
-        synchronized (response) {
+        responseLock.lock();
+        try {
             response.setManaType(manaType);
             response.setResponseManaTypePlayerId(manaTypePlayerId);
-            response.notifyAll();
+            responseChanged.signalAll();
             logger.debug("Got response mana type from player: " + getId());
+        } finally {
+            responseLock.unlock();
         }
     }
 
     @Override
     public void setResponseUUID(UUID responseUUID) {
         waitResponseOpen();
-        synchronized (response) {
+        responseLock.lock();
+        try {
             response.setUUID(responseUUID);
-            response.notifyAll();
+            responseChanged.signalAll();
             logger.debug("Got response UUID from player: " + getId());
+        } finally {
+            responseLock.unlock();
         }
     }
 
     @Override
     public void setResponseBoolean(Boolean responseBoolean) {
         waitResponseOpen();
-        synchronized (response) {
+        responseLock.lock();
+        try {
             response.setBoolean(responseBoolean);
-            response.notifyAll();
+            responseChanged.signalAll();
             logger.debug("Got response boolean from player: " + getId());
+        } finally {
+            responseLock.unlock();
         }
     }
 
     @Override
     public void setResponseInteger(Integer responseInteger) {
         waitResponseOpen();
-        synchronized (response) {
+        responseLock.lock();
+        try {
             response.setInteger(responseInteger);
-            response.notifyAll();
+            responseChanged.signalAll();
             logger.debug("Got response integer from player: " + getId());
+        } finally {
+            responseLock.unlock();
         }
     }
 
@@ -1796,29 +1824,38 @@ public class HumanPlayer extends PlayerImpl {
     public void abort() {
         abort = true;
         waitResponseOpen();
-        synchronized (response) {
-            response.notifyAll();
+        responseLock.lock();
+        try {
+            responseChanged.signalAll();
             logger.debug("Got cancel action from player: " + getId());
+        } finally {
+            responseLock.unlock();
         }
     }
 
     @Override
     public void signalPlayerConcede() {
         //waitResponseOpen(); //concede is direct event, no need to wait it
-        synchronized (response) {
+        responseLock.lock();
+        try {
             response.setResponseConcedeCheck();
-            response.notifyAll();
+            responseChanged.signalAll();
             logger.debug("Set check concede for waiting player: " + getId());
+        } finally {
+            responseLock.unlock();
         }
     }
 
     @Override
     public void skip() {
         // waitResponseOpen(); //skip is direct event, no need to wait it
-        synchronized (response) {
+        responseLock.lock();
+        try {
             response.setInteger(0);
-            response.notifyAll();
+            responseChanged.signalAll();
             logger.debug("Got skip action from player: " + getId());
+        } finally {
+            responseLock.unlock();
         }
     }
 
@@ -1872,8 +1909,11 @@ public class HumanPlayer extends PlayerImpl {
                     recordingMacro = false;
                     actionIterations = announceRepetitions(game);
                     try {
-                        synchronized (actionQueue) {
-                            actionQueue.wait();
+                        macroLock.lock();
+                        try {
+                            macroFinished.await();
+                        } finally {
+                            macroLock.unlock();
                         }
                     } catch (InterruptedException ex) {
                     } finally {
@@ -41,6 +41,7 @@ import mage.game.match.MatchType;
 import mage.game.tournament.TournamentType;
 import mage.interfaces.MageServer;
 import mage.remote.Connection;
+import mage.remote.nio.NioFrames;
 import mage.server.draft.CubeFactory;
 import mage.server.game.DeckValidatorFactory;
 import mage.server.game.GameFactory;
@@ -50,9 +51,11 @@ import mage.server.tournament.TournamentFactory;
 import mage.server.util.ConfigSettings;
 import mage.server.util.PluginClassLoader;
 import mage.server.util.ServerMessagesUtil;
+import mage.server.util.ThreadExecutor;
 import mage.server.util.SystemUtil;
 import mage.server.util.config.GamePlugin;
 import mage.server.util.config.Plugin;
+import mage.util.Metrics;
 import mage.utils.MageVersion;
 import org.apache.log4j.Logger;
 import org.jboss.remoting.*;
@@ -82,6 +85,7 @@ public final class Main {
 
     public static final PluginClassLoader classLoader = new PluginClassLoader();
     public static TransporterServer server;
+    public static NioTransportServer nioServer;
     protected static boolean testMode;
     protected static boolean fastDbMode;
 
@@ -192,6 +196,11 @@ public final class Main {
 
         logger.info("Config - max seconds idle: " + config.getMaxSecondsIdle());
         logger.info("Config - max game threads: " + config.getMaxGameThreads());
+        logger.info("Config - virtual threads : " + (ThreadExecutor.instance.isVirtualThreads() ? "true" : "false"));
+        if (ThreadExecutor.instance.isVirtualThreads()) {
+            logger.info("Config - max virtual games: " + Integer.getInteger(ThreadExecutor.MAX_VIRTUAL_GAMES_PROPERTY, 0) + " (0 = no limit)");
+        }
+        logger.info("Config - metrics enabled : " + (Metrics.instance.isEnabled() ? "true" : "false"));
         logger.info("Config - max AI opponents: " + config.getMaxAiOpponents());
         logger.info("Config - min usr name le.: " + config.getMinUserNameLength());
         logger.info("Config - max usr name le.: " + config.getMaxUserNameLength());
@@ -199,6 +208,7 @@ public final class Main {
         logger.info("Config - max pswrd length: " + config.getMaxPasswordLength());
         logger.info("Config - inv.usr name pat: " + config.getInvalidUserNamePattern());
         logger.info("Config - save game active: " + (config.isSaveGameActivated() ? "true" : "false"));
+        logger.info("Config - max saved states: " + config.getMaxSavedGameStates());
         logger.info("Config - backlog size    : " + config.getBacklogSize());
         logger.info("Config - lease period    : " + config.getLeasePeriod());
         logger.info("Config - sock wrt timeout: " + config.getSocketWriteTimeout());
@@ -222,14 +232,22 @@ public final class Main {
             // Parameter: serializationtype => jboss
             InvokerLocator serverLocator = new InvokerLocator(connection.getURI());
             if (!isAlreadyRunning(serverLocator)) {
-                server = new MageTransporterServer(serverLocator, new MageServerImpl(adminPassword, testMode), MageServer.class.getName(), new MageServerInvocationHandler());
+                MageServer mageServer = new MageServerImpl(adminPassword, testMode);
+                server = new MageTransporterServer(serverLocator, mageServer, MageServer.class.getName(), new MageServerInvocationHandler());
                 server.start();
                 logger.info("Started MAGE server - listening on " + connection.toString());
+                if (NioFrames.isEnabled()) {
+                    int nioPort = NioFrames.getPort(config.getPort());
+                    nioServer = new NioTransportServer(mageServer, config.getServerAddress(), nioPort, config.getBacklogSize());
+                    nioServer.start();
+                    logger.info("Started NIO transport - listening on port " + nioPort);
+                }
 
                 if (testMode) {
                     logger.info("MAGE server running in test mode");
                 }
                 initStatistics();
+                MetricsServer.start();
             } else {
                 logger.fatal("Unable to start MAGE server - another server is already started");
             }
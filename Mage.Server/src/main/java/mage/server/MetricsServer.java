@@ -0,0 +1,200 @@
+package mage.server;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+import mage.server.game.GameManager;
+import mage.server.util.ThreadExecutor;
+import mage.util.Metrics;
+import org.apache.log4j.Logger;
+
+/**
+ * Exports the {@link Metrics} of the server and the game engine as MBean
+ * (mage.server:type=Metrics) and, if the system property
+ * {@value #PORT_PROPERTY} is set, as Prometheus text on
+ * http://localhost:&lt;port&gt;/metrics.
+ *
+ * The metrics are only recorded if the server is started with
+ * -Dmetrics=true.
+ */
+public final class MetricsServer {
+
+    private static final Logger logger = Logger.getLogger(MetricsServer.class);
+
+    public static final String PORT_PROPERTY = "metricsPort";
+    private static final String OBJECT_NAME = "mage.server:type=Metrics";
+    private static final String PREFIX = "xmage_";
+
+    private static HttpServer httpServer;
+
+    private MetricsServer() {
+    }
+
+    public static synchronized void start() {
+        Metrics metrics = Metrics.instance;
+        if (!metrics.isEnabled()) {
+            return;
+        }
+        metrics.gauge("games_active", GameManager.instance::getNumberActiveGames);
+        metrics.gauge("game_workers_active", () -> ThreadExecutor.instance.getActiveThreads(ThreadExecutor.instance.getGameExecutor()));
+        metrics.gauge("games_queued", () -> ThreadExecutor.instance.getQueuedTasks(ThreadExecutor.instance.getGameExecutor()));
+        metrics.gauge("sessions", SessionManager.instance::getNumberSessions);
+        metrics.gauge("users", () -> UserManager.instance.getUsers().size());
+        metrics.gauge("callback_queue_size", SessionManager.instance::getCallbackQueueSize);
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new MetricsMBean(), new ObjectName(OBJECT_NAME));
+            logger.info("Metrics registered as MBean " + OBJECT_NAME);
+        } catch (JMException ex) {
+            logger.error("Cannot register metrics MBean", ex);
+        }
+        String port = System.getProperty(PORT_PROPERTY);
+        if (port != null) {
+            try {
+                httpServer = HttpServer.create(new InetSocketAddress("localhost", Integer.parseInt(port)), 0);
+                httpServer.createContext("/metrics", exchange -> {
+                    byte[] body = toPrometheusText().getBytes(StandardCharsets.UTF_8);
+                    exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+                    exchange.sendResponseHeaders(200, body.length);
+                    try (OutputStream output = exchange.getResponseBody()) {
+                        output.write(body);
+                    }
+                });
+                httpServer.start();
+                logger.info("Metrics available on http://localhost:" + httpServer.getAddress().getPort() + "/metrics");
+            } catch (IOException | NumberFormatException ex) {
+                logger.error("Cannot start metrics endpoint on port " + port, ex);
+            }
+        }
+    }
+
+    public static synchronized void stop() {
+        if (httpServer != null) {
+            httpServer.stop(0);
+            httpServer = null;
+        }
+    }
+
+    /**
+     * @return all metrics in the Prometheus text format
+     */
+    public static String toPrometheusText() {
+        StringBuilder sb = new StringBuilder();
+        for (Metrics.Timer timer : Metrics.instance.getTimers().values()) {
+            String name = PREFIX + timer.getName() + "_seconds";
+            sb.append("# TYPE ").append(name).append(" histogram\n");
+            long[] counts = timer.getBucketCounts();
+            long cumulative = 0;
+            for (int i = 0; i < counts.length; i++) {
+                cumulative += counts[i];
+                String le = i < Metrics.Timer.BUCKETS.length ? format(Metrics.Timer.BUCKETS[i]) : "+Inf";
+                sb.append(name).append("_bucket{le=\"").append(le).append("\"} ").append(cumulative).append('\n');
+            }
+            sb.append(name).append("_sum ").append(format(timer.getTotalSeconds())).append('\n');
+            sb.append(name).append("_count ").append(cumulative).append('\n');
+            sb.append("# TYPE ").append(name).append("_max gauge\n");
+            sb.append(name).append("_max ").append(format(timer.getMaxSeconds())).append('\n');
+        }
+        for (Metrics.Counter counter : Metrics.instance.getCounters().values()) {
+            String name = PREFIX + counter.getName() + "_total";
+            sb.append("# TYPE ").append(name).append(" counter\n");
+            sb.append(name).append(' ').append(counter.getCount()).append('\n');
+        }
+        for (Map.Entry<String, Number> gauge : Metrics.instance.getGaugeValues().entrySet()) {
+            String name = PREFIX + gauge.getKey();
+            sb.append("# TYPE ").append(name).append(" gauge\n");
+            sb.append(name).append(' ').append(gauge.getValue()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @return all metrics as flat name - value map, as shown by the MBean
+     */
+    static Map<String, Object> getValues() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (Metrics.Timer timer : Metrics.instance.getTimers().values()) {
+            values.put(timer.getName() + "_count", timer.getCount());
+            values.put(timer.getName() + "_seconds_total", timer.getTotalSeconds());
+            values.put(timer.getName() + "_seconds_max", timer.getMaxSeconds());
+        }
+        for (Metrics.Counter counter : Metrics.instance.getCounters().values()) {
+            values.put(counter.getName(), counter.getCount());
+        }
+        values.putAll(Metrics.instance.getGaugeValues());
+        return values;
+    }
+
+    private static String format(double value) {
+        return Double.toString(value);
+    }
+
+    /**
+     * Read only MBean with one attribute per value, the attributes change when
+     * new timers or counters are used
+     */
+    private static class MetricsMBean implements DynamicMBean {
+
+        @Override
+        public Object getAttribute(String attribute) throws AttributeNotFoundException {
+            Object value = getValues().get(attribute);
+            if (value == null) {
+                throw new AttributeNotFoundException(attribute);
+            }
+            return value;
+        }
+
+        @Override
+        public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+            throw new AttributeNotFoundException("Metrics are read only: " + attribute.getName());
+        }
+
+        @Override
+        public AttributeList getAttributes(String[] attributes) {
+            Map<String, Object> values = getValues();
+            AttributeList list = new AttributeList();
+            for (String attribute : attributes) {
+                if (values.containsKey(attribute)) {
+                    list.add(new Attribute(attribute, values.get(attribute)));
+                }
+            }
+            return list;
+        }
+
+        @Override
+        public AttributeList setAttributes(AttributeList attributes) {
+            return new AttributeList();
+        }
+
+        @Override
+        public Object invoke(String actionName, Object[] params, String[] signature) throws ReflectionException {
+            throw new ReflectionException(new NoSuchMethodException(actionName));
+        }
+
+        @Override
+        public MBeanInfo getMBeanInfo() {
+            List<MBeanAttributeInfo> attributes = new ArrayList<>();
+            for (Map.Entry<String, Object> entry : getValues().entrySet()) {
+                attributes.add(new MBeanAttributeInfo(entry.getKey(), entry.getValue().getClass().getName(), entry.getKey(), true, false, false));
+            }
+            return new MBeanInfo(MetricsMBean.class.getName(), "XMage server metrics",
+                    attributes.toArray(new MBeanAttributeInfo[attributes.size()]), null, new MBeanOperationInfo[0], null);
+        }
+    }
+}
@@ -0,0 +1,373 @@
+package mage.server;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import mage.interfaces.MageServer;
+import mage.remote.nio.NioFrames;
+import mage.remote.nio.NioRequest;
+import mage.server.util.ThreadExecutor;
+import org.apache.log4j.Logger;
+import org.jboss.remoting.callback.AsynchInvokerCallbackHandler;
+import org.jboss.remoting.callback.Callback;
+import org.jboss.remoting.callback.HandleCallbackException;
+
+/**
+ * Server side of the NIO transport (see {@link mage.remote.nio.NioClient}),
+ * started in addition to the JBoss Remoting connector.
+ *
+ * One selector thread accepts the connections, reads the requests and writes
+ * the responses and callbacks, so an idle connection only costs its socket and
+ * buffers instead of reader threads. The requests are executed by the call
+ * executor, the callbacks of a session are queued by the {@link Session} as
+ * for JBoss Remoting.
+ */
+public class NioTransportServer implements Runnable {
+
+    private static final Logger logger = Logger.getLogger(NioTransportServer.class);
+
+    // a client that doesn't read its data anymore is disconnected
+    private static final int MAX_QUEUED_BYTES = 16 * 1024 * 1024;
+    // frames of clients that aren't logged in (connect, register, server state) are small
+    private static final int MAX_UNAUTHENTICATED_FRAME_SIZE = 256 * 1024;
+    // the buffer of a frame grows with the received data, not with the announced length
+    private static final int INITIAL_FRAME_BUFFER_SIZE = 64 * 1024;
+
+    private final MageServer target;
+    private final Map<String, Method> methods = new HashMap<>();
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final Queue<NioConnection> pendingWrites = new ConcurrentLinkedQueue<>();
+    private final ExecutorService callExecutor = ThreadExecutor.instance.getCallExecutor();
+    private volatile boolean running;
+
+    public NioTransportServer(MageServer target, String host, int port, int backlog) throws IOException {
+        this.target = target;
+        for (Method method : MageServer.class.getMethods()) {
+            methods.put(NioRequest.getSignature(method), method);
+        }
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.configureBlocking(false);
+        serverChannel.bind(new InetSocketAddress(host, port), backlog);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+    }
+
+    /**
+     * @return port the server is bound to
+     */
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    public void start() {
+        running = true;
+        Thread thread = new Thread(this, "NIO SERVER");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public void stop() {
+        running = false;
+        selector.wakeup();
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (running) {
+                selector.select();
+                enableWrites();
+                for (Iterator<SelectionKey> it = selector.selectedKeys().iterator(); it.hasNext();) {
+                    SelectionKey key = it.next();
+                    it.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                        continue;
+                    }
+                    NioConnection connection = (NioConnection) key.attachment();
+                    try {
+                        if (key.isReadable()) {
+                            connection.read();
+                        }
+                        if (key.isValid() && key.isWritable()) {
+                            connection.write();
+                        }
+                    } catch (IOException ex) {
+                        connection.close(ex);
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException ex) {
+            logger.fatal("NIO server stopped", ex);
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                if (key.attachment() instanceof NioConnection) {
+                    ((NioConnection) key.attachment()).close(null);
+                }
+            }
+            try {
+                serverChannel.close();
+                selector.close();
+            } catch (IOException ex) {
+                logger.warn("Error while closing NIO server", ex);
+            }
+        }
+    }
+
+    private void enableWrites() {
+        NioConnection connection;
+        while ((connection = pendingWrites.poll()) != null) {
+            if (connection.key.isValid()) {
+                connection.key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+            }
+        }
+    }
+
+    private void accept() {
+        NioConnection connection = null;
+        try {
+            SocketChannel channel = serverChannel.accept();
+            if (channel == null) {
+                return;
+            }
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+            connection = new NioConnection(channel, UUID.randomUUID().toString());
+            connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+            SessionManager.instance.createSession(connection.sessionId, connection);
+            String host = ((InetSocketAddress) channel.getRemoteAddress()).getAddress().getHostAddress();
+            SessionManager.instance.getSession(connection.sessionId).ifPresent(session -> session.setHost(host));
+            connection.send(NioFrames.frame(NioFrames.HELLO, 0, connection.sessionId));
+        } catch (IOException ex) {
+            logger.warn("Can't accept NIO connection - " + ex.getMessage());
+            if (connection != null) {
+                connection.close(ex);
+            }
+        }
+    }
+
+    private void execute(NioConnection connection, int requestId, byte[] payload) {
+        byte type;
+        Object result;
+        try {
+            NioRequest request = (NioRequest) NioFrames.decode(payload);
+            Method method = methods.get(request.getSignature());
+            if (method == null) {
+                throw new NoSuchMethodException(request.getSignature());
+            }
+            result = method.invoke(target, request.getArgs());
+            type = NioFrames.RESPONSE;
+        } catch (InvocationTargetException ex) {
+            result = ex.getCause();
+            type = NioFrames.FAILURE;
+        } catch (Exception ex) {
+            result = ex;
+            type = NioFrames.FAILURE;
+        }
+        try {
+            ByteBuffer frame;
+            try {
+                frame = NioFrames.frame(type, requestId, result);
+            } catch (IOException ex) {
+                logger.error("Can't send result of request to " + connection.sessionId, ex);
+                frame = NioFrames.frame(NioFrames.FAILURE, requestId, new IOException("Can't send result - " + ex.getMessage()));
+            }
+            connection.send(frame);
+        } catch (IOException ex) {
+            connection.close(ex);
+        }
+    }
+
+    /**
+     * Socket of one client, also used as callback handler of its session.
+     */
+    private class NioConnection implements AsynchInvokerCallbackHandler {
+
+        private final SocketChannel channel;
+        private final String sessionId;
+        private SelectionKey key;
+        private final ByteBuffer lengthBuffer = ByteBuffer.allocate(4);
+        private ByteBuffer frameBuffer;
+        private int frameLength;
+        private final Deque<ByteBuffer> writeQueue = new ArrayDeque<>();
+        private long queuedBytes;
+        private volatile boolean open = true;
+
+        NioConnection(SocketChannel channel, String sessionId) {
+            this.channel = channel;
+            this.sessionId = sessionId;
+        }
+
+        /**
+         * Reads all complete frames that are available, called by the
+         * selector thread.
+         */
+        void read() throws IOException {
+            while (true) {
+                if (frameBuffer == null) {
+                    if (channel.read(lengthBuffer) < 0) {
+                        throw new EOFException("Connection closed by client");
+                    }
+                    if (lengthBuffer.hasRemaining()) {
+                        return;
+                    }
+                    lengthBuffer.flip();
+                    int length = lengthBuffer.getInt();
+                    lengthBuffer.clear();
+                    NioFrames.checkLength(length);
+                    if (length > MAX_UNAUTHENTICATED_FRAME_SIZE && !isAuthenticated()) {
+                        throw new IOException("Frame of " + length + " bytes before login");
+                    }
+                    frameLength = length;
+                    frameBuffer = ByteBuffer.allocate(Math.min(length, INITIAL_FRAME_BUFFER_SIZE));
+                }
+                if (!frameBuffer.hasRemaining()) {
+                    grow();
+                }
+                if (channel.read(frameBuffer) < 0) {
+                    throw new EOFException("Connection closed by client");
+                }
+                if (frameBuffer.position() < frameLength) {
+                    if (frameBuffer.hasRemaining()) {
+                        return;
+                    }
+                    continue;
+                }
+                frameBuffer.flip();
+                received(frameBuffer);
+                frameBuffer = null;
+            }
+        }
+
+        private boolean isAuthenticated() {
+            return SessionManager.instance.getSession(sessionId)
+                    .map(session -> session.getUserId() != null)
+                    .orElse(false);
+        }
+
+        /**
+         * Doubles the frame buffer up to the frame length, so a client has to
+         * send the data of a large frame before its memory is allocated.
+         */
+        private void grow() {
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(frameLength, 2L * frameBuffer.capacity()));
+            frameBuffer.flip();
+            buffer.put(frameBuffer);
+            frameBuffer = buffer;
+        }
+
+        private void received(ByteBuffer frame) {
+            byte type = frame.get();
+            int requestId = frame.getInt();
+            byte[] payload = new byte[frame.remaining()];
+            frame.get(payload);
+            if (type == NioFrames.REQUEST) {
+                callExecutor.execute(() -> execute(this, requestId, payload));
+            } else {
+                logger.warn("Unexpected frame type " + type + " from " + sessionId);
+            }
+        }
+
+        /**
+         * Writes the queued frames as far as the socket takes them, called by
+         * the selector thread.
+         */
+        void write() throws IOException {
+            synchronized (writeQueue) {
+                while (!writeQueue.isEmpty()) {
+                    ByteBuffer frame = writeQueue.peek();
+                    channel.write(frame);
+                    if (frame.hasRemaining()) {
+                        return;
+                    }
+                    queuedBytes -= frame.limit();
+                    writeQueue.poll();
+                }
+                key.interestOps(SelectionKey.OP_READ);
+            }
+        }
+
+        void send(ByteBuffer frame) throws IOException {
+            synchronized (writeQueue) {
+                if (!open) {
+                    throw new ClosedChannelException();
+                }
+                if (queuedBytes + frame.limit() > MAX_QUEUED_BYTES) {
+                    throw new IOException("Client doesn't read its data");
+                }
+                writeQueue.add(frame);
+                queuedBytes += frame.limit();
+            }
+            pendingWrites.add(this);
+            selector.wakeup();
+        }
+
+        void close(Throwable cause) {
+            synchronized (writeQueue) {
+                if (!open) {
+                    return;
+                }
+                open = false;
+                writeQueue.clear();
+                queuedBytes = 0;
+            }
+            if (key != null) {
+                key.cancel();
+            }
+            try {
+                channel.close();
+            } catch (IOException ex) {
+                logger.debug("Error while closing channel", ex);
+            }
+            if (cause != null) {
+                logger.debug("NIO connection of " + sessionId + " closed - " + cause.getMessage());
+            }
+            callExecutor.execute(() -> SessionManager.instance.disconnect(sessionId, DisconnectReason.LostConnection));
+        }
+
+        @Override
+        public void handleCallback(Callback callback) throws HandleCallbackException {
+            handleCallbackOneway(callback);
+        }
+
+        @Override
+        public void handleCallbackOneway(Callback callback) throws HandleCallbackException {
+            try {
+                send(NioFrames.frame(NioFrames.CALLBACK, 0, callback.getCallbackObject()));
+            } catch (IOException ex) {
+                throw new HandleCallbackException("Can't send callback to " + sessionId, ex);
+            }
+        }
+
+        @Override
+        public void handleCallbackOneway(Callback callback, boolean serverSide) throws HandleCallbackException {
+            handleCallbackOneway(callback);
+        }
+
+        @Override
+        public void handleCallback(Callback callback, boolean asynch, boolean serverSide) throws HandleCallbackException {
+            handleCallbackOneway(callback);
+        }
+    }
+}
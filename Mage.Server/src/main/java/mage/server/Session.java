@@ -28,6 +28,7 @@
 package mage.server;
 
 import java.util.*;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Matcher;
@@ -38,12 +39,18 @@ import mage.interfaces.callback.ClientCallback;
 import mage.interfaces.callback.ClientCallbackMethod;
 import mage.players.net.UserData;
 import mage.players.net.UserGroup;
+import mage.remote.traffic.ZippedObject;
 import static mage.server.DisconnectReason.LostConnection;
 import mage.server.game.GamesRoom;
 import mage.server.game.GamesRoomManager;
 import mage.server.util.ConfigSettings;
 import mage.server.util.SystemUtil;
+import mage.server.util.ThreadExecutor;
+import mage.util.Metrics;
 import mage.util.RandomUtil;
+import mage.utils.CompressUtil;
+import mage.view.GameView;
+import mage.view.GameViewEncoder;
 import org.apache.log4j.Logger;
 import org.jboss.remoting.callback.AsynchInvokerCallbackHandler;
 import org.jboss.remoting.callback.Callback;
@@ -60,16 +67,31 @@ public class Session {
     private final static Pattern digitsPattern = Pattern.compile("[0-9]");
 
     private final String sessionId;
-    private UUID userId;
+    private volatile UUID userId; // set by the login, read by the NIO transport
     private String host;
     private int messageId = 0;
     private final Date timeConnected;
     private boolean isAdmin = false;
     private final AsynchInvokerCallbackHandler callbackHandler;
-    private boolean valid = true;
+    private volatile boolean valid = true;
 
     private final ReentrantLock lock;
-    private final ReentrantLock callBackLock;
+
+    private static final int MAX_CALLBACK_QUEUE_SIZE = 1000;
+    // callbacks that are superseded by the next one of the same kind, a client that missed a game view requests it again
+    private static final Set<ClientCallbackMethod> SUPERSEDED_CALLBACKS = EnumSet.of(
+            ClientCallbackMethod.GAME_UPDATE,
+            ClientCallbackMethod.GAME_INFORM,
+            ClientCallbackMethod.TOURNAMENT_UPDATE,
+            ClientCallbackMethod.DRAFT_UPDATE,
+            ClientCallbackMethod.REPLAY_UPDATE);
+    private static final Metrics.Timer CALLBACK_TIMER = Metrics.instance.timer("callback_send");
+    private static final ExecutorService callbackExecutor = ThreadExecutor.instance.getCallbackExecutor();
+    private final Deque<ClientCallback> callbackQueue = new ArrayDeque<>();
+    private boolean sendingCallbacks;
+    private int maxCallbackQueueSize;
+    private long coalescedCallbacks;
+    private long droppedCallbacks;
 
     public Session(String sessionId, InvokerCallbackHandler callbackHandler) {
         this.sessionId = sessionId;
@@ -77,7 +99,6 @@ public class Session {
         this.isAdmin = false;
         this.timeConnected = new Date();
         this.lock = new ReentrantLock();
-        this.callBackLock = new ReentrantLock();
     }
 
     public String registerUser(String userName, String password, String email) throws MageException {
@@ -372,28 +393,177 @@ public class Session {
 
     }
 
+    /**
+     * Queues the callback for the client. The callbacks are sent in order by
+     * a thread of the callback executor, so a slow client doesn't block the
+     * caller (e.g. the game thread). A queued game update that wasn't sent yet
+     * is merged into the next update of the same game.
+     *
+     * If the queue is full, only updates that are superseded by the next one
+     * are dropped. If no such update can be dropped for another callback (e.g.
+     * a question of the game), the session is disconnected instead of losing
+     * the callback, so the client gets the current state when it reconnects.
+     *
+     * @param call
+     */
     public void fireCallback(final ClientCallback call) {
-        boolean lockSet = false;
-        try {
-            if (valid && callBackLock.tryLock(50, TimeUnit.MILLISECONDS)) {
-                call.setMessageId(messageId++);
-                lockSet = true;
-                callbackHandler.handleCallbackOneway(new Callback(call));
+        if (!valid) {
+            return;
+        }
+        synchronized (callbackQueue) {
+            if (!coalesce(call)) {
+                if (callbackQueue.size() >= MAX_CALLBACK_QUEUE_SIZE) {
+                    if (SUPERSEDED_CALLBACKS.contains(call.getMethod())) {
+                        droppedCallbacks++;
+                        logger.warn("SESSION CALLBACK QUEUE FULL - userId: " + userId + " - dropped " + call.getMethod());
+                        return;
+                    }
+                    if (!dropSupersededCallback()) {
+                        logger.warn("SESSION CALLBACK QUEUE FULL - userId: " + userId + " - disconnect, can't queue " + call.getMethod());
+                        valid = false;
+                        callbackQueue.clear();
+                        callbackExecutor.execute(this::disconnectFullQueue);
+                        return;
+                    }
+                }
+                callbackQueue.add(call);
             }
-        } catch (InterruptedException ex) {
-            logger.warn("SESSION LOCK - fireCallback - userId: " + userId + " messageId: " + call.getMessageId(), ex);
-        } catch (HandleCallbackException ex) {
-            this.valid = false;
-            UserManager.instance.getUser(userId).ifPresent(user -> {
-                user.setUserState(User.UserState.Disconnected);
-                logger.warn("SESSION CALLBACK EXCEPTION - " + user.getName() + " userId " + userId + " messageId: " + call.getMessageId() + " - cause: " + getBasicCause(ex).toString());
-                logger.trace("Stack trace:", ex);
-                SessionManager.instance.disconnect(sessionId, LostConnection);
-            });
-        } finally {
-            if (lockSet) {
-                callBackLock.unlock();
+            maxCallbackQueueSize = Math.max(maxCallbackQueueSize, callbackQueue.size());
+            if (sendingCallbacks) {
+                return;
             }
+            sendingCallbacks = true;
+        }
+        callbackExecutor.execute(this::sendCallbacks);
+    }
+
+    /**
+     * Removes the oldest queued callback that is superseded by a later one.
+     *
+     * @return false if there is no such callback in the queue
+     */
+    private boolean dropSupersededCallback() {
+        for (Iterator<ClientCallback> it = callbackQueue.iterator(); it.hasNext();) {
+            ClientCallback queued = it.next();
+            if (SUPERSEDED_CALLBACKS.contains(queued.getMethod())) {
+                it.remove();
+                droppedCallbacks++;
+                logger.warn("SESSION CALLBACK QUEUE FULL - userId: " + userId + " - dropped queued " + queued.getMethod());
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void disconnectFullQueue() {
+        UserManager.instance.getUser(userId).ifPresent(user -> {
+            user.setUserState(User.UserState.Disconnected);
+            SessionManager.instance.disconnect(sessionId, LostConnection);
+        });
+    }
+
+    private boolean coalesce(ClientCallback call) {
+        if (call.getMethod() != ClientCallbackMethod.GAME_UPDATE) {
+            return false;
+        }
+        for (Iterator<ClientCallback> it = callbackQueue.descendingIterator(); it.hasNext();) {
+            ClientCallback queued = it.next();
+            if (queued.getMethod() == ClientCallbackMethod.GAME_UPDATE && Objects.equals(queued.getObjectId(), call.getObjectId())) {
+                Object merged = mergeGameUpdates(queued.getData(), call.getData());
+                if (merged == null) {
+                    return false;
+                }
+                it.remove();
+                call.setData(merged);
+                callbackQueue.add(call);
+                coalescedCallbacks++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Object mergeGameUpdates(Object older, Object newer) {
+        // the merge changes the newer view, only a view decompressed for this session may be changed
+        // (without compression (-Dnocompress) the same view object is sent to all watchers)
+        if (!(newer instanceof ZippedObject)) {
+            return null;
+        }
+        Object olderView = CompressUtil.decompress(older);
+        Object newerView = CompressUtil.decompress(newer);
+        if (!(olderView instanceof GameView) || !(newerView instanceof GameView)) {
+            return null;
+        }
+        GameView merged = GameViewEncoder.merge((GameView) olderView, (GameView) newerView);
+        if (merged == null) {
+            return null;
+        }
+        Object compressed = CompressUtil.compress(merged);
+        return compressed != null ? compressed : merged;
+    }
+
+    private void sendCallbacks() {
+        while (true) {
+            ClientCallback call;
+            synchronized (callbackQueue) {
+                call = callbackQueue.poll();
+                if (call == null || !valid) {
+                    callbackQueue.clear();
+                    sendingCallbacks = false;
+                    return;
+                }
+            }
+            call.setMessageId(messageId++);
+            long start = CALLBACK_TIMER.start();
+            try {
+                callbackHandler.handleCallbackOneway(new Callback(call));
+                CALLBACK_TIMER.stop(start);
+            } catch (HandleCallbackException ex) {
+                this.valid = false;
+                UserManager.instance.getUser(userId).ifPresent(user -> {
+                    user.setUserState(User.UserState.Disconnected);
+                    logger.warn("SESSION CALLBACK EXCEPTION - " + user.getName() + " userId " + userId + " messageId: " + call.getMessageId() + " - cause: " + getBasicCause(ex).toString());
+                    logger.trace("Stack trace:", ex);
+                    SessionManager.instance.disconnect(sessionId, LostConnection);
+                });
+            } catch (RuntimeException ex) {
+                logger.error("SESSION CALLBACK ERROR - userId: " + userId + " messageId: " + call.getMessageId(), ex);
+            }
+        }
+    }
+
+    /**
+     * @return number of callbacks waiting to be sent to the client
+     */
+    public int getCallbackQueueSize() {
+        synchronized (callbackQueue) {
+            return callbackQueue.size();
+        }
+    }
+
+    public int getMaxCallbackQueueSize() {
+        synchronized (callbackQueue) {
+            return maxCallbackQueueSize;
+        }
+    }
+
+    /**
+     * @return number of game updates that were merged into a following update
+     * because the client didn't get them yet
+     */
+    public long getCoalescedCallbacks() {
+        synchronized (callbackQueue) {
+            return coalescedCallbacks;
+        }
+    }
+
+    /**
+     * @return number of superseded updates that were dropped because the
+     * queue was full
+     */
+    public long getDroppedCallbacks() {
+        synchronized (callbackQueue) {
+            return droppedCallbacks;
         }
     }
 
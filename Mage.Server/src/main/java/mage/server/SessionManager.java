@@ -226,4 +226,20 @@ public enum SessionManager {
         }
         session.sendErrorMessageToClient(message);
     }
+
+    public int getNumberSessions() {
+        return sessions.size();
+    }
+
+    /**
+     * @return number of callbacks of all sessions waiting to be sent to the
+     * clients
+     */
+    public int getCallbackQueueSize() {
+        int size = 0;
+        for (Session session : sessions.values()) {
+            size += session.getCallbackQueueSize();
+        }
+        return size;
+    }
 }
@@ -424,7 +424,8 @@ public enum TableManager {
             logger.debug(chatSession.getChatId() + " " + formatter.format(chatSession.getCreateTime()) + ' ' + chatSession.getInfo() + ' ' + chatSession.getClients().values().toString());
         }
         logger.debug("------- Games: " + GameManager.instance.getNumberActiveGames() + " --------------------------------------------");
-        logger.debug(" Active Game Worker: " + ThreadExecutor.instance.getActiveThreads(ThreadExecutor.instance.getGameExecutor()));
+        logger.debug(" Active Game Worker: " + ThreadExecutor.instance.getActiveThreads(ThreadExecutor.instance.getGameExecutor())
+                + " Queued Games: " + ThreadExecutor.instance.getQueuedTasks(ThreadExecutor.instance.getGameExecutor()));
         for (Entry<UUID, GameController> entry : GameManager.instance.getGameController().entrySet()) {
             logger.debug(entry.getKey() + entry.getValue().getPlayerNameList());
         }
@@ -84,7 +84,7 @@ public enum UserManager {
     }
 
     public Optional<User> getUser(UUID userId) {
-        if (!users.containsKey(userId)) {
+        if (userId == null || !users.containsKey(userId)) {
             LOGGER.trace(String.format("User with id %s could not be found", userId));
             return Optional.empty();
         } else {
@@ -34,7 +34,6 @@ import java.util.concurrent.*;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.zip.GZIPOutputStream;
 import mage.MageException;
 import mage.abilities.Ability;
 import mage.abilities.common.PassAbility;
@@ -61,13 +60,13 @@ import mage.game.match.MatchPlayer;
 import mage.game.permanent.Permanent;
 import mage.game.turn.Phase;
 import mage.interfaces.Action;
+import mage.interfaces.callback.ClientCallbackMethod;
 import mage.players.Player;
 import mage.server.*;
 import mage.server.util.ConfigSettings;
 import mage.server.util.Splitter;
 import mage.server.util.SystemUtil;
 import mage.server.util.ThreadExecutor;
-import mage.utils.StreamUtils;
 import mage.utils.timer.PriorityTimer;
 import mage.view.*;
 import mage.view.ChatMessage.MessageColor;
@@ -92,6 +91,7 @@ public class GameController implements GameCallback {
 
     private final ConcurrentHashMap<UUID, GameSessionWatcher> watchers = new ConcurrentHashMap<>();
     private final ReadWriteLock gameWatchersLock = new ReentrantReadWriteLock();
+    private final GameWatcherViews watcherViews;
 
     private final ConcurrentHashMap<UUID, PriorityTimer> timers = new ConcurrentHashMap<>();
 
@@ -115,7 +115,9 @@ public class GameController implements GameCallback {
         chatId = ChatManager.instance.createChatSession("Game " + game.getId());
         this.userReqestingRollback = null;
         this.game = game;
+        this.watcherViews = new GameWatcherViews(game);
         this.game.setSaveGame(ConfigSettings.instance.isSaveGameActivated());
+        this.game.getGameStates().setMaxStates(ConfigSettings.instance.getMaxSavedGameStates());
         this.tableId = tableId;
         this.choosingPlayerId = choosingPlayerId;
         this.gameOptions = gameOptions;
@@ -439,6 +441,8 @@ public class GameController implements GameCallback {
                 w.unlock();
             }
             gameWatcher.init();
+            // the others watching the same view get a full view too, so all stay on the same version
+            watcherViews.reset(gameWatcher.getVisibleHands());
             user.addGameWatchInfo(game.getId());
             ChatManager.instance.broadcast(chatId, user.getName(), " has started watching", MessageColor.BLUE, true, ChatMessage.MessageType.STATUS, null);
         });
@@ -591,6 +595,9 @@ public class GameController implements GameCallback {
             case VIEW_LIMITED_DECK:
                 viewLimitedDeck(getPlayerId(userId), userId);
                 break;
+            case REQUEST_FULL_GAME_VIEW:
+                resendGameView(userId);
+                break;
             default:
                 game.sendPlayerAction(playerAction, getPlayerId(userId), data);
         }
@@ -752,11 +759,27 @@ public class GameController implements GameCallback {
                 }
             }
         }
+        // most card views are the same for all receivers, so they are only digested once
+        GameViewDigests sharedDigests = new GameViewDigests();
         for (final GameSessionPlayer gameSession : getGameSessions()) {
-            gameSession.update();
+            gameSession.update(sharedDigests);
         }
-        for (final GameSessionWatcher gameWatcher : getGameSessionWatchers()) {
-            gameWatcher.update();
+        watcherViews.send(getGameSessionWatchers(), ClientCallbackMethod.GAME_UPDATE, gameView -> gameView, sharedDigests);
+    }
+
+    private synchronized void resendGameView(UUID userId) {
+        UUID playerId = getPlayerId(userId);
+        if (playerId != null) {
+            GameSessionPlayer gameSession = gameSessions.get(playerId);
+            if (gameSession != null) {
+                gameSession.resendGameView();
+            }
+        } else {
+            GameSessionWatcher gameWatcher = watchers.get(userId);
+            if (gameWatcher != null) {
+                watcherViews.reset(gameWatcher.getVisibleHands());
+                watcherViews.send(getGameSessionWatchers(), ClientCallbackMethod.GAME_UPDATE, gameView -> gameView);
+            }
         }
     }
 
@@ -844,14 +867,14 @@ public class GameController implements GameCallback {
             message.append(game.getStep().getType().toString()).append(" - ");
         }
         message.append("Waiting for ").append(game.getPlayer(playerId).getLogName());
+        GameViewDigests sharedDigests = new GameViewDigests();
         for (final Entry<UUID, GameSessionPlayer> entry : getGameSessionsMap().entrySet()) {
             if (!entry.getKey().equals(playerId)) {
-                entry.getValue().inform(message.toString());
+                entry.getValue().inform(message.toString(), sharedDigests);
             }
         }
-        for (final GameSessionWatcher watcher : getGameSessionWatchers()) {
-            watcher.inform(message.toString());
-        }
+        final String text = message.toString();
+        watcherViews.send(getGameSessionWatchers(), ClientCallbackMethod.GAME_INFORM, gameView -> new GameClientMessage(gameView, text), sharedDigests);
     }
 
     private void informOthers(List<UUID> players) throws MageException {
@@ -864,15 +887,14 @@ public class GameController implements GameCallback {
             return;
         }
         final String message = new StringBuilder(game.getStep().getType().toString()).append(" - Waiting for ").append(controller.getName()).toString();
+        GameViewDigests sharedDigests = new GameViewDigests();
         for (final Entry<UUID, GameSessionPlayer> entry : getGameSessionsMap().entrySet()) {
             boolean skip = players.stream().anyMatch(playerId -> entry.getKey().equals(playerId));
             if (!skip) {
-                entry.getValue().inform(message);
+                entry.getValue().inform(message, sharedDigests);
             }
         }
-        for (final GameSessionWatcher watcher : getGameSessionWatchers()) {
-            watcher.inform(message);
-        }
+        watcherViews.send(getGameSessionWatchers(), ClientCallbackMethod.GAME_INFORM, gameView -> new GameClientMessage(gameView, message), sharedDigests);
     }
 
     private synchronized void informPersonal(UUID playerId, final String message) throws MageException {
@@ -906,23 +928,12 @@ public class GameController implements GameCallback {
     }
 
     public boolean saveGame() {
-        OutputStream file = null;
-        ObjectOutput output = null;
-        OutputStream buffer = null;
         try {
-            file = new FileOutputStream("saved/" + game.getId().toString() + ".game");
-            buffer = new BufferedOutputStream(file);
-            output = new ObjectOutputStream(new GZIPOutputStream(buffer));
-            output.writeObject(game);
-            output.writeObject(game.getGameStates());
+            GameReplayFile.write(game, new File("saved/" + game.getId().toString() + ".game"));
             logger.debug("Saved game:" + game.getId());
             return true;
         } catch (IOException ex) {
             logger.fatal("Cannot save game.", ex);
-        } finally {
-            StreamUtils.closeQuietly(file);
-            StreamUtils.closeQuietly(output);
-            StreamUtils.closeQuietly(buffer);
         }
         return false;
     }
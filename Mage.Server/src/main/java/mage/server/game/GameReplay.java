@@ -28,19 +28,12 @@
 
 package mage.server.game;
 
-import java.io.BufferedInputStream;
-import java.io.FileInputStream;
+import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.ObjectInput;
 import java.util.UUID;
-import java.util.zip.GZIPInputStream;
 import mage.game.Game;
 import mage.game.GameState;
-import mage.game.GameStates;
 import mage.server.Main;
-import mage.util.CopierObjectInputStream;
-import mage.utils.StreamUtils;
 import org.apache.log4j.Logger;
 
 
@@ -53,13 +46,13 @@ public class GameReplay {
 
     private static final Logger logger = Logger.getLogger(GameReplay.class);
 
-    private final GameStates savedGame;
+    private final GameReplayFile savedGame;
     private final Game game;
     private int stateIndex;
 
     public GameReplay(UUID gameId) {
-        this.game = loadGame(gameId);
-        this.savedGame = game.getGameStates();
+        this.savedGame = loadGame(gameId);
+        this.game = savedGame != null ? savedGame.getGame() : null;
     }
 
     public void start() {
@@ -67,49 +60,64 @@ public class GameReplay {
     }
 
     public GameState next() {
-        if (this.stateIndex < savedGame.getSize()) {
-            return savedGame.get(stateIndex++);
+        if (this.stateIndex < getSize()) {
+            return getState(stateIndex++);
         }
         return null;
     }
 
     public GameState previous() {
         if (this.stateIndex > 0) {
-            return savedGame.get(--stateIndex);
+            return getState(--stateIndex);
         }
         return null;
     }
 
+    /**
+     * Moves forward without loading the skipped states
+     *
+     * @param moves
+     */
+    public void skip(int moves) {
+        this.stateIndex = Math.min(stateIndex + moves, getSize());
+    }
+
     public Game getGame() {
         return this.game;
     }
 
-    private Game loadGame(UUID gameId) {
-        InputStream file = null;
-        InputStream buffer = null;
-        InputStream gzip = null;
-        ObjectInput input = null;
-        try{
-            file = new FileInputStream("saved/" + gameId.toString() + ".game");
-            buffer = new BufferedInputStream(file);
-            gzip = new GZIPInputStream(buffer);
-            input = new CopierObjectInputStream(Main.classLoader, gzip);
-            Game loadGame = (Game) input.readObject();
-            GameStates states = (GameStates) input.readObject();
-            loadGame.loadGameStates(states);
-            return loadGame;
+    public void close() {
+        if (savedGame != null) {
+            try {
+                savedGame.close();
+            } catch (IOException ex) {
+                logger.warn("Cannot close saved game: " + ex.getMessage());
+            }
+        }
+    }
+
+    private int getSize() {
+        return savedGame != null ? savedGame.getSize() : 0;
+    }
 
+    private GameState getState(int index) {
+        try {
+            return savedGame.getState(index);
+        } catch (ClassNotFoundException ex) {
+            logger.fatal("Cannot load game state. Class not found.", ex);
+        } catch (IOException ex) {
+            logger.fatal("Cannot load game state " + index + " of game:" + game.getId(), ex);
         }
-        catch(ClassNotFoundException ex) {
+        return null;
+    }
+
+    private GameReplayFile loadGame(UUID gameId) {
+        try {
+            return new GameReplayFile(new File("saved/" + gameId.toString() + ".game"), Main.classLoader);
+        } catch (ClassNotFoundException ex) {
             logger.fatal("Cannot load game. Class not found.", ex);
-        }
-        catch(IOException ex) {
+        } catch (IOException ex) {
             logger.fatal("Cannot load game:" + gameId, ex);
-        } finally {
-            StreamUtils.closeQuietly(file);
-            StreamUtils.closeQuietly(buffer);
-            StreamUtils.closeQuietly(input);
-            StreamUtils.closeQuietly(gzip);
         }
         return null;
     }
@@ -0,0 +1,257 @@
+/*
+* Copyright 2010 BetaSteward_at_googlemail.com. All rights reserved.
+*
+* Redistribution and use in source and binary forms, with or without modification, are
+* permitted provided that the following conditions are met:
+*
+*    1. Redistributions of source code must retain the above copyright notice, this list of
+*       conditions and the following disclaimer.
+*
+*    2. Redistributions in binary form must reproduce the above copyright notice, this list
+*       of conditions and the following disclaimer in the documentation and/or other materials
+*       provided with the distribution.
+*
+* THIS SOFTWARE IS PROVIDED BY BetaSteward_at_googlemail.com ``AS IS'' AND ANY EXPRESS OR IMPLIED
+* WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+* FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL BetaSteward_at_googlemail.com OR
+* CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+* CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+* ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+* NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+* ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*
+* The views and conclusions contained in the software and documentation are those of the
+* authors and should not be interpreted as representing official policies, either expressed
+* or implied, of BetaSteward_at_googlemail.com.
+*/
+
+package mage.server.game;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInput;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import mage.game.Game;
+import mage.game.GameState;
+import mage.game.GameStates;
+import mage.util.CopierObjectInputStream;
+
+/**
+ * Saved game file for the replay. The file is split into frames, so the
+ * replay can start without reading all the game states:
+ *
+ * <pre>
+ * header:  magic, version
+ * frames:  [length][gzipped serialized object], first the game, then the states
+ * index:   offset of the frame of each state
+ * trailer: offset of the index, number of states, magic
+ * </pre>
+ *
+ * States that were thinned out in {@link GameStates} point to the frame of
+ * their keyframe. The reader maps the file into memory and deserializes a
+ * state only when it's shown.
+ *
+ * Files of the old format (one gzipped stream with the game and all its
+ * states) are still read, all at once.
+ *
+ * @author BetaSteward_at_googlemail.com
+ */
+public class GameReplayFile implements Closeable {
+
+    private static final int MAGIC = 0x4d475250; // MGRP
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+    private static final int TRAILER_SIZE = 16;
+    private static final int GZIP_MAGIC = 0x1f8b; // start of a file of the old format
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final ClassLoader classLoader;
+    private final Game game;
+    private final int size;
+    private final long indexOffset;
+    private final GameStates oldFormatStates; // all states of a file of the old format, null otherwise
+
+    // the last read state, a replay often shows the same keyframe several times
+    private long lastOffset = -1;
+    private GameState lastState;
+
+    public GameReplayFile(File file, ClassLoader classLoader) throws IOException, ClassNotFoundException {
+        this.classLoader = classLoader;
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        try {
+            long length = channel.size();
+            if (isOldFormat()) {
+                this.game = readOldFormat();
+                this.oldFormatStates = game.getGameStates();
+                this.size = oldFormatStates.getSize();
+                this.buffer = null;
+                this.indexOffset = 0;
+                return;
+            }
+            this.oldFormatStates = null;
+            if (length < HEADER_SIZE + TRAILER_SIZE) {
+                throw new IOException("Saved game is too short: " + file);
+            }
+            this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt((int) length - 4) != MAGIC) {
+                throw new IOException("Not a saved game: " + file);
+            }
+            if (buffer.getInt(4) != VERSION) {
+                throw new IOException("Unsupported saved game version " + buffer.getInt(4) + ": " + file);
+            }
+            int trailer = (int) length - TRAILER_SIZE;
+            this.indexOffset = buffer.getLong(trailer);
+            this.size = buffer.getInt(trailer + 8);
+            this.game = (Game) readFrame(HEADER_SIZE);
+        } catch (IOException | ClassNotFoundException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    private boolean isOldFormat() throws IOException {
+        ByteBuffer start = ByteBuffer.allocate(2);
+        while (start.hasRemaining() && channel.read(start, start.position()) > 0) {
+        }
+        return !start.hasRemaining() && (start.getShort(0) & 0xffff) == GZIP_MAGIC;
+    }
+
+    private Game readOldFormat() throws IOException, ClassNotFoundException {
+        channel.position(0);
+        try (ObjectInput input = new CopierObjectInputStream(classLoader,
+                new GZIPInputStream(new BufferedInputStream(Channels.newInputStream(channel))))) {
+            Game oldGame = (Game) input.readObject();
+            oldGame.loadGameStates((GameStates) input.readObject());
+            return oldGame;
+        }
+    }
+
+    /**
+     * Writes the game and all its saved states
+     *
+     * @param game
+     * @param file
+     * @throws IOException
+     */
+    public static void write(Game game, File file) throws IOException {
+        GameStates states = game.getGameStates();
+        long[] index = new long[states.getSize()];
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            writeFrame(output, game);
+            GameState lastState = null;
+            long lastOffset = -1;
+            for (int i = 0; i < index.length; i++) {
+                GameState state = states.get(i);
+                if (state != lastState) { // the keyframe of thinned out states is written once
+                    lastOffset = output.size();
+                    lastState = state;
+                    writeFrame(output, state);
+                }
+                index[i] = lastOffset;
+            }
+            long indexOffset = output.size();
+            for (long offset : index) {
+                output.writeLong(offset);
+            }
+            output.writeLong(indexOffset);
+            output.writeInt(index.length);
+            output.writeInt(MAGIC);
+        }
+    }
+
+    private static void writeFrame(DataOutputStream output, Serializable object) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream frame = new ObjectOutputStream(new GZIPOutputStream(bytes))) {
+            frame.writeObject(object);
+        }
+        output.writeInt(bytes.size());
+        bytes.writeTo(output);
+    }
+
+    public Game getGame() {
+        return game;
+    }
+
+    /**
+     * @return number of states of the game
+     */
+    public int getSize() {
+        return size;
+    }
+
+    public synchronized GameState getState(int index) throws IOException, ClassNotFoundException {
+        if (index < 0 || index >= size) {
+            return null;
+        }
+        if (oldFormatStates != null) {
+            return oldFormatStates.get(index);
+        }
+        long offset = buffer.getLong((int) (indexOffset + 8L * index));
+        if (offset != lastOffset) {
+            lastState = (GameState) readFrame(offset);
+            lastOffset = offset;
+        }
+        return lastState;
+    }
+
+    private Object readFrame(long offset) throws IOException, ClassNotFoundException {
+        ByteBuffer frame = buffer.duplicate();
+        frame.position((int) offset + 4);
+        frame.limit((int) offset + 4 + buffer.getInt((int) offset));
+        try (ObjectInput input = new CopierObjectInputStream(classLoader, new GZIPInputStream(new ByteBufferInputStream(frame)))) {
+            return input.readObject();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(len, buffer.remaining());
+            buffer.get(b, off, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -69,7 +69,7 @@ public class GameSessionPlayer extends GameSessionWatcher {
 
     public void ask(final String question, final Map<String, Serializable> options) {
         if (!killed) {
-            UserManager.instance.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_ASK, game.getId(), new GameClientMessage(getGameView(), question, options)))
+            UserManager.instance.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_ASK, game.getId(), new GameClientMessage(getEncodedGameView(), question, options)))
             );
         }
     }
@@ -77,7 +77,7 @@ public class GameSessionPlayer extends GameSessionWatcher {
     public void target(final String question, final CardsView cardView, final Set<UUID> targets, final boolean required, final Map<String, Serializable> options) {
         if (!killed) {
             UserManager.instance.getUser(userId).ifPresent(user -> {
-                user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_TARGET, game.getId(), new GameClientMessage(getGameView(), question, cardView, targets, required, options)));
+                user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_TARGET, game.getId(), new GameClientMessage(getEncodedGameView(), question, cardView, targets, required, options)));
             });
 
         }
@@ -85,7 +85,7 @@ public class GameSessionPlayer extends GameSessionWatcher {
 
     public void select(final String message, final Map<String, Serializable> options) {
         if (!killed) {
-            UserManager.instance.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_SELECT, game.getId(), new GameClientMessage(getGameView(), message, options))));
+            UserManager.instance.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_SELECT, game.getId(), new GameClientMessage(getEncodedGameView(), message, options))));
         }
     }
 
@@ -116,14 +116,14 @@ public class GameSessionPlayer extends GameSessionWatcher {
     public void playMana(final String message, final Map<String, Serializable> options) {
         if (!killed) {
             UserManager.instance.getUser(userId).ifPresent(user
-                    -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_PLAY_MANA, game.getId(), new GameClientMessage(getGameView(), message, options))));
+                    -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_PLAY_MANA, game.getId(), new GameClientMessage(getEncodedGameView(), message, options))));
         }
     }
 
     public void playXMana(final String message) {
         if (!killed) {
             UserManager.instance.getUser(userId).ifPresent(user
-                    -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_PLAY_XMANA, game.getId(), new GameClientMessage(getGameView(), message))));
+                    -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_PLAY_XMANA, game.getId(), new GameClientMessage(getEncodedGameView(), message))));
 
         }
     }
@@ -210,6 +210,7 @@ public class GameSessionPlayer extends GameSessionWatcher {
 
     @Override
     public GameView getGameView() {
+        long start = GAME_VIEW_TIMER.start();
         Player player = game.getPlayer(playerId);
         GameView gameView = new GameView(game.getState(), game, playerId, null);
         gameView.setHand(new CardsView(game, player.getHand().getCards(game)));
@@ -227,6 +228,7 @@ public class GameSessionPlayer extends GameSessionWatcher {
         }
         gameView.setLookedAt(list);
 
+        GAME_VIEW_TIMER.stop(start);
         return gameView;
     }
 
@@ -35,15 +35,20 @@ import mage.interfaces.callback.ClientCallbackMethod;
 import mage.players.Player;
 import mage.server.User;
 import mage.server.UserManager;
+import mage.util.Metrics;
 import mage.view.GameClientMessage;
 import mage.view.GameEndView;
 import mage.view.GameView;
+import mage.view.GameViewDigests;
+import mage.view.GameViewEncoder;
 import mage.view.SimpleCardsView;
 import org.apache.log4j.Logger;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -52,11 +57,13 @@ import java.util.UUID;
 public class GameSessionWatcher {
 
     protected final static Logger logger = Logger.getLogger(GameSessionWatcher.class);
+    protected final static Metrics.Timer GAME_VIEW_TIMER = Metrics.instance.timer("game_view_build");
 
     protected final UUID userId;
     protected final Game game;
     protected boolean killed = false;
     protected final boolean isPlayer;
+    protected final GameViewEncoder gameViewEncoder = new GameViewEncoder();
 
     public GameSessionWatcher(UUID userId, Game game, boolean isPlayer) {
         this.userId = userId;
@@ -68,7 +75,8 @@ public class GameSessionWatcher {
         if (!killed) {
             Optional<User> user = UserManager.instance.getUser(userId);
             if (user.isPresent()) {
-                user.get().fireCallback(new ClientCallback(ClientCallbackMethod.GAME_INIT, game.getId(), getGameView()));
+                gameViewEncoder.reset();
+                user.get().fireCallback(new ClientCallback(ClientCallbackMethod.GAME_INIT, game.getId(), getEncodedGameView()));
                 return true;
             }
         }
@@ -76,26 +84,60 @@ public class GameSessionWatcher {
     }
 
     public void update() {
+        update(null);
+    }
+
+    /**
+     * @param sharedDigests card view digests of this update, shared with the
+     * other receivers of the update, can be null
+     */
+    public void update(GameViewDigests sharedDigests) {
         if (!killed) {
-            UserManager.instance.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_UPDATE, game.getId(), getGameView())));
+            UserManager.instance.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_UPDATE, game.getId(), getEncodedGameView(sharedDigests))));
         }
 
     }
 
+    /**
+     * Sends a full game view, e.g. if the client has missed an update and
+     * can't apply the following ones.
+     */
+    public void resendGameView() {
+        gameViewEncoder.reset();
+        update();
+    }
+
     public void inform(final String message) {
+        inform(message, null);
+    }
+
+    public void inform(final String message, GameViewDigests sharedDigests) {
         if (!killed) {
-            UserManager.instance.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_INFORM, game.getId(), new GameClientMessage(getGameView(), message))));
+            UserManager.instance.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_INFORM, game.getId(), new GameClientMessage(getEncodedGameView(sharedDigests), message))));
         }
 
     }
 
     public void informPersonal(final String message) {
         if (!killed) {
-            UserManager.instance.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_INFORM_PERSONAL, game.getId(), new GameClientMessage(getGameView(), message))));
+            UserManager.instance.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_INFORM_PERSONAL, game.getId(), new GameClientMessage(getEncodedGameView(), message))));
         }
 
     }
 
+    /**
+     * Sends data that was created once for all the watchers that get the same
+     * game view, see {@link GameWatcherViews}.
+     *
+     * @param method
+     * @param data
+     */
+    public void sendShared(ClientCallbackMethod method, Object data) {
+        if (!killed) {
+            UserManager.instance.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(method, game.getId(), data)));
+        }
+    }
+
     public void gameOver(final String message) {
         if (!killed) {
             UserManager.instance.getUser(userId).ifPresent(user -> {
@@ -124,12 +166,26 @@ public class GameSessionWatcher {
     }
 
     public GameView getGameView() {
+        long start = GAME_VIEW_TIMER.start();
         GameView gameView = new GameView(game.getState(), game, null, userId);
         processWatchedHands(userId, gameView);
+        GAME_VIEW_TIMER.stop(start);
         return gameView;
 
     }
 
+    /**
+     * @return the game view for a callback, only containing the card views
+     * that have changed since the last sent game view
+     */
+    protected GameView getEncodedGameView() {
+        return getEncodedGameView(null);
+    }
+
+    protected GameView getEncodedGameView(GameViewDigests sharedDigests) {
+        return gameViewEncoder.encode(getGameView(), sharedDigests);
+    }
+
     protected void processWatchedHands(UUID userId, GameView gameView) {
         Map<String, SimpleCardsView> handCards = new HashMap<>();
         for (Player player : game.getPlayers().values()) {
@@ -140,6 +196,19 @@ public class GameSessionWatcher {
         }
     }
 
+    /**
+     * @return the players whose hand cards the user is allowed to see
+     */
+    public Set<UUID> getVisibleHands() {
+        Set<UUID> visibleHands = new HashSet<>();
+        for (Player player : game.getPlayers().values()) {
+            if (player.hasUserPermissionToSeeHand(userId)) {
+                visibleHands.add(player.getId());
+            }
+        }
+        return visibleHands;
+    }
+
     public GameEndView getGameEndView(UUID playerId, Table table) {
         return new GameEndView(game.getState(), game, playerId, table);
     }
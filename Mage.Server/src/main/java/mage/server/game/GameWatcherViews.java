@@ -0,0 +1,93 @@
+package mage.server.game;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import mage.game.Game;
+import mage.interfaces.callback.ClientCallbackMethod;
+import mage.players.Player;
+import mage.utils.CompressUtil;
+import mage.view.GameView;
+import mage.view.GameViewDigests;
+import mage.view.GameViewEncoder;
+import mage.view.SimpleCardsView;
+
+/**
+ * Game views for the watchers of a game. All watchers that are allowed to see
+ * the same hand cards get the same view, so it's only built, encoded and
+ * compressed once per update, no matter how many users watch the game.
+ */
+public class GameWatcherViews {
+
+    private final Game game;
+    // key = players whose hand cards the watchers can see
+    private final Map<Set<UUID>, GameViewEncoder> encoders = new HashMap<>();
+
+    public GameWatcherViews(Game game) {
+        this.game = game;
+    }
+
+    /**
+     * Sends the current game view to the watchers.
+     *
+     * @param watchers
+     * @param method
+     * @param toData creates the callback data from the game view
+     */
+    public void send(Collection<GameSessionWatcher> watchers, ClientCallbackMethod method, Function<GameView, Object> toData) {
+        send(watchers, method, toData, null);
+    }
+
+    /**
+     * Sends the current game view to the watchers.
+     *
+     * @param watchers
+     * @param method
+     * @param toData creates the callback data from the game view
+     * @param sharedDigests card view digests of this update, shared with the
+     * players, can be null
+     */
+    public synchronized void send(Collection<GameSessionWatcher> watchers, ClientCallbackMethod method, Function<GameView, Object> toData, GameViewDigests sharedDigests) {
+        Map<Set<UUID>, Object> sent = new HashMap<>();
+        for (GameSessionWatcher watcher : watchers) {
+            Object data = sent.computeIfAbsent(watcher.getVisibleHands(), visibleHands -> createData(visibleHands, toData, sharedDigests));
+            watcher.sendShared(method, data);
+        }
+        // views nobody watches anymore start with a full view again
+        encoders.keySet().retainAll(sent.keySet());
+    }
+
+    /**
+     * The next view for the watchers that can see the given hands is sent in
+     * full.
+     *
+     * @param visibleHands
+     */
+    public synchronized void reset(Set<UUID> visibleHands) {
+        GameViewEncoder encoder = encoders.get(visibleHands);
+        if (encoder != null) {
+            encoder.reset();
+        }
+    }
+
+    private Object createData(Set<UUID> visibleHands, Function<GameView, Object> toData, GameViewDigests sharedDigests) {
+        long start = GameSessionWatcher.GAME_VIEW_TIMER.start();
+        GameView gameView = new GameView(game.getState(), game, null, null);
+        if (!visibleHands.isEmpty()) {
+            Map<String, SimpleCardsView> handCards = new HashMap<>();
+            for (UUID playerId : visibleHands) {
+                Player player = game.getPlayer(playerId);
+                handCards.put(player.getName(), new SimpleCardsView(player.getHand().getCards(game), true));
+            }
+            gameView.setWatchedHands(handCards);
+        }
+        GameSessionWatcher.GAME_VIEW_TIMER.stop(start);
+        encoders.computeIfAbsent(visibleHands, key -> new GameViewEncoder()).encode(gameView, sharedDigests);
+        Object data = toData.apply(gameView);
+        Object compressed = CompressUtil.compress(data);
+        return compressed != null ? compressed : data;
+    }
+}
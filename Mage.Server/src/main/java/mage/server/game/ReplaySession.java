@@ -66,9 +66,7 @@ public class ReplaySession implements GameCallback {
     }
 
     public synchronized void next(int moves) {
-        for (int i = 0; i < moves; i++) {
-            replay.next();
-        }
+        replay.skip(moves);
         updateGame(replay.next(), replay.getGame());
     }
 
@@ -82,6 +80,7 @@ public class ReplaySession implements GameCallback {
                 user.fireCallback(new ClientCallback(ClientCallbackMethod.REPLAY_DONE, replay.getGame().getId(), result)));
 
         ReplayManager.instance.endReplay(replay.getGame().getId(), userId);
+        replay.close();
     }
 
     private void updateGame(final GameState state, Game game) {
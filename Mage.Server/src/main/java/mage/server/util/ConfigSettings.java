@@ -128,6 +128,13 @@ public enum ConfigSettings {
         return config.getServer().isSaveGameActivated();
     }
 
+    public int getMaxSavedGameStates() {
+        if (config.getServer().getMaxSavedGameStates() == null) {
+            return 0;
+        }
+        return config.getServer().getMaxSavedGameStates().intValue();
+    }
+
     public Boolean isAuthenticationActivated() {
         return config.getServer().isAuthenticationActivated();
     }
@@ -27,12 +27,19 @@
  */
 package mage.server.util;
 
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.log4j.Logger;
 
 /**
  *
@@ -40,9 +47,26 @@ import java.util.concurrent.TimeUnit;
  */
 public enum ThreadExecutor {
 instance;
-    private static final ExecutorService callExecutor = Executors.newCachedThreadPool();
-    private static final ExecutorService userExecutor = Executors.newCachedThreadPool();
-    private static final ExecutorService gameExecutor = Executors.newFixedThreadPool(ConfigSettings.instance.getMaxGameThreads());
+
+    /**
+     * System property to select the thread type of the executors, "virtual"
+     * or "platform" (default)
+     */
+    public static final String THREADS_PROPERTY = "threads";
+
+    /**
+     * System property to limit the number of games running at the same time
+     * with virtual threads, further games wait for a free slot (default 0 = no
+     * limit). With platform threads the max game threads setting is used.
+     */
+    public static final String MAX_VIRTUAL_GAMES_PROPERTY = "maxVirtualGames";
+
+    private static final Logger logger = Logger.getLogger(ThreadExecutor.class);
+
+    private static final ExecutorService callExecutor = createExecutor("CALL");
+    private static final ExecutorService userExecutor = createExecutor("USER");
+    private static final ExecutorService callbackExecutor = createExecutor("CALLBACK");
+    private static final ExecutorService gameExecutor = createGameExecutor();
     private static final ScheduledExecutorService timeoutExecutor = Executors.newScheduledThreadPool(4);
     private static final ScheduledExecutorService timeoutIdleExecutor = Executors.newScheduledThreadPool(4);
 
@@ -55,37 +79,111 @@ instance;
      *
      * This all is done for performance reasons as creating new OS threads is
      * resource consuming process.
+     *
+     * Virtual threads are cheap to create and must not be pooled, so the
+     * thread pools always use platform threads. With virtual threads the call,
+     * user, callback and game executors start a new thread for each task
+     * instead.
      */
     static {
-        ((ThreadPoolExecutor) callExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
-        ((ThreadPoolExecutor) callExecutor).allowCoreThreadTimeOut(true);
-        ((ThreadPoolExecutor) callExecutor).setThreadFactory(new XMageThreadFactory("CALL"));
-        ((ThreadPoolExecutor) userExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
-        ((ThreadPoolExecutor) userExecutor).allowCoreThreadTimeOut(true);
-        ((ThreadPoolExecutor) userExecutor).setThreadFactory(new XMageThreadFactory("USER"));
-        ((ThreadPoolExecutor) gameExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
-        ((ThreadPoolExecutor) gameExecutor).allowCoreThreadTimeOut(true);
-        ((ThreadPoolExecutor) gameExecutor).setThreadFactory(new XMageThreadFactory("GAME"));
-        ((ThreadPoolExecutor) timeoutExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
-        ((ThreadPoolExecutor) timeoutExecutor).allowCoreThreadTimeOut(true);
-        ((ThreadPoolExecutor) timeoutExecutor).setThreadFactory(new XMageThreadFactory("TIMEOUT"));
-        ((ThreadPoolExecutor) timeoutIdleExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
-        ((ThreadPoolExecutor) timeoutIdleExecutor).allowCoreThreadTimeOut(true);
-        ((ThreadPoolExecutor) timeoutIdleExecutor).setThreadFactory(new XMageThreadFactory("TIMEOUT_IDLE"));
+        configurePool(callExecutor, "CALL");
+        configurePool(userExecutor, "USER");
+        configurePool(callbackExecutor, "CALLBACK");
+        configurePool(gameExecutor, "GAME");
+        configurePool(timeoutExecutor, "TIMEOUT");
+        configurePool(timeoutIdleExecutor, "TIMEOUT_IDLE");
+    }
+
+    private static void configurePool(ExecutorService executor, String prefix) {
+        if (executor instanceof ThreadPoolExecutor) {
+            ((ThreadPoolExecutor) executor).setKeepAliveTime(60, TimeUnit.SECONDS);
+            ((ThreadPoolExecutor) executor).allowCoreThreadTimeOut(true);
+            ((ThreadPoolExecutor) executor).setThreadFactory(new XMageThreadFactory(prefix, false));
+        }
+    }
+
+    private static ExecutorService createExecutor(String prefix) {
+        ExecutorService executor = createThreadPerTaskExecutor(prefix);
+        return executor != null ? executor : Executors.newCachedThreadPool();
     }
 
+    /**
+     * With virtual threads each game runs on its own thread, so the number of
+     * games isn't limited by the max game threads setting.
+     */
+    private static ExecutorService createGameExecutor() {
+        ExecutorService executor = createThreadPerTaskExecutor("GAME");
+        if (executor != null) {
+            return new VirtualGameExecutor(executor, Integer.getInteger(MAX_VIRTUAL_GAMES_PROPERTY, 0));
+        }
+        return Executors.newFixedThreadPool(ConfigSettings.instance.getMaxGameThreads());
+    }
+
+    /**
+     * @param prefix
+     * @return executor that starts a new virtual thread for each task, or
+     * null if virtual threads are not used
+     */
+    private static ExecutorService createThreadPerTaskExecutor(String prefix) {
+        if (XMageThreadFactory.isVirtual()) {
+            try {
+                // Executors.newThreadPerTaskExecutor(factory), the server is still compiled for Java 8
+                Method method = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+                return (ExecutorService) method.invoke(null, new XMageThreadFactory(prefix, true));
+            } catch (ReflectiveOperationException | RuntimeException ex) {
+                logger.warn("Thread per task executor not supported by this Java runtime - using a thread pool for " + prefix);
+            }
+        }
+        return null;
+    }
 
     public int getActiveThreads(ExecutorService executerService) {
         if (executerService instanceof ThreadPoolExecutor) {
             return ((ThreadPoolExecutor) executerService).getActiveCount();
         }
+        if (executerService instanceof VirtualGameExecutor) {
+            return ((VirtualGameExecutor) executerService).getActiveCount();
+        }
         return -1;
     }
 
+    /**
+     * @param executerService
+     * @return number of tasks waiting for a free thread, e.g. games that
+     * can't start because all game threads are used
+     */
+    public int getQueuedTasks(ExecutorService executerService) {
+        if (executerService instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) executerService).getQueue().size();
+        }
+        if (executerService instanceof VirtualGameExecutor) {
+            return ((VirtualGameExecutor) executerService).getQueuedCount();
+        }
+        return -1;
+    }
+
+    /**
+     * @return true if the executors run their tasks on virtual threads (see
+     * {@link #THREADS_PROPERTY})
+     */
+    public boolean isVirtualThreads() {
+        return XMageThreadFactory.isVirtual();
+    }
+
     public ExecutorService getCallExecutor() {
         return callExecutor;
     }
 
+    /**
+     * Sends the queued callbacks of the sessions to the clients, so a slow
+     * client doesn't block the thread that creates the callback.
+     *
+     * @return
+     */
+    public ExecutorService getCallbackExecutor() {
+        return callbackExecutor;
+    }
+
     public ExecutorService getGameExecutor() {
         return gameExecutor;
     }
@@ -100,19 +198,149 @@ instance;
 
 }
 
+/**
+ * Creates the threads of the executors. With the system property
+ * {@value ThreadExecutor#THREADS_PROPERTY} set to "virtual" the threads of the
+ * thread per task executors are virtual threads if the Java runtime supports
+ * them. A game thread waits for the player input most of its time, as virtual
+ * thread it doesn't hold an OS thread meanwhile (the player input is handed
+ * over with locks instead of monitors, so the virtual thread isn't pinned to
+ * its carrier before Java 24), so the number of games isn't limited by the
+ * max game threads setting.
+ */
 class XMageThreadFactory implements ThreadFactory {
 
+    private static final Logger logger = Logger.getLogger(XMageThreadFactory.class);
+    private static final ThreadFactory virtualThreadFactory = createVirtualThreadFactory();
+
     private final String prefix;
+    private final boolean virtual;
 
-    XMageThreadFactory(String prefix) {
+    /**
+     * @param prefix
+     * @param virtual create virtual threads if they are used, must be false
+     * for thread pools
+     */
+    XMageThreadFactory(String prefix, boolean virtual) {
         this.prefix = prefix;
+        this.virtual = virtual && virtualThreadFactory != null;
+    }
+
+    static boolean isVirtual() {
+        return virtualThreadFactory != null;
+    }
+
+    private static ThreadFactory createVirtualThreadFactory() {
+        if (!"virtual".equals(System.getProperty(ThreadExecutor.THREADS_PROPERTY))) {
+            return null;
+        }
+        try {
+            // Thread.ofVirtual().factory(), the server is still compiled for Java 8
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Method factory = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+            return (ThreadFactory) factory.invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            logger.warn("Virtual threads are not supported by this Java runtime - using platform threads");
+            return null;
+        }
     }
 
     @Override
     public Thread newThread(Runnable r) {
-        Thread thread = new Thread(r);
-        thread.setName(prefix + ' ' + thread.getThreadGroup().getName() + '-' + thread.getId());
+        Thread thread;
+        if (virtual) {
+            thread = virtualThreadFactory.newThread(r);
+            thread.setName(prefix + " virtual-" + thread.getId());
+        } else {
+            thread = new Thread(r);
+            thread.setName(prefix + ' ' + thread.getThreadGroup().getName() + '-' + thread.getId());
+        }
         return thread;
     }
 
 }
+
+/**
+ * Game executor for virtual threads: starts a new thread for each game and
+ * counts the running games. If a limit is set, the games above the limit wait
+ * on their thread for a free slot and are counted as queued.
+ */
+class VirtualGameExecutor extends AbstractExecutorService {
+
+    private final ExecutorService executor;
+    private final Semaphore admission;
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+
+    VirtualGameExecutor(ExecutorService executor, int maxGames) {
+        this.executor = executor;
+        this.admission = maxGames > 0 ? new Semaphore(maxGames, true) : null;
+    }
+
+    int getActiveCount() {
+        return active.get();
+    }
+
+    int getQueuedCount() {
+        return queued.get();
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        queued.incrementAndGet();
+        try {
+            executor.execute(() -> run(command));
+        } catch (RejectedExecutionException ex) {
+            queued.decrementAndGet();
+            throw ex;
+        }
+    }
+
+    private void run(Runnable command) {
+        try {
+            if (admission != null) {
+                admission.acquire();
+            }
+        } catch (InterruptedException ex) {
+            // game was canceled while waiting
+            queued.decrementAndGet();
+            Thread.currentThread().interrupt();
+            return;
+        }
+        queued.decrementAndGet();
+        active.incrementAndGet();
+        try {
+            command.run();
+        } finally {
+            active.decrementAndGet();
+            if (admission != null) {
+                admission.release();
+            }
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return executor.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return executor.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return executor.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return executor.awaitTermination(timeout, unit);
+    }
+}
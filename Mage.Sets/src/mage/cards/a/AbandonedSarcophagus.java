@@ -27,9 +27,11 @@
  */
 package mage.cards.a;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.UUID;
 import mage.abilities.Ability;
 import mage.abilities.common.SimpleStaticAbility;
@@ -233,6 +235,11 @@ class AbandonedSarcophagusWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.CYCLE_CARD);
+    }
+
     public Cards getCardsCycledThisTurn(UUID playerId) {
         return cycledCardsThisTurn.getOrDefault(playerId, new CardsImpl());
     }
@@ -132,6 +132,11 @@ class DamagedByPiratesWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_PLAYER);
+    }
+
     public boolean damagedByEnoughPirates(UUID sourceId, Game game) {
         return damageSourceIds.keySet().contains(sourceId) && damageSourceIds.get(sourceId).size() > 2;
     }
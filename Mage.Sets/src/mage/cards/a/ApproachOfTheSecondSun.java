@@ -133,6 +133,11 @@ class ApproachOfTheSecondSunWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST);
+    }
+
     public int getApproachesCast(UUID player) {
         return approachesCast.getOrDefault(player, 0);
     }
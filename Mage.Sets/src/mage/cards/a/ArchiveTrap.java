@@ -27,6 +27,7 @@
  */
 package mage.cards.a;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -101,6 +102,11 @@ class ArchiveTrapWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.LIBRARY_SEARCHED);
+    }
+
     @Override
     public void reset() {
         super.reset();
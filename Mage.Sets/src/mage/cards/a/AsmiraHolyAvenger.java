@@ -27,6 +27,8 @@
  */
 package mage.cards.a;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 import mage.MageInt;
 import mage.MageObject;
@@ -110,6 +112,11 @@ class AsmiraHolyAvengerWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE);
+    }
+
     @Override
     public void reset() {
         super.reset();
@@ -27,6 +27,8 @@
  */
 package mage.cards.b;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 import mage.MageObjectReference;
 import mage.abilities.Ability;
@@ -137,6 +139,11 @@ class CombatDamageStepStartedWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.COMBAT_DAMAGE_STEP_PRE, GameEvent.EventType.END_COMBAT_STEP_PRE);
+    }
+
     @Override
     public CombatDamageStepStartedWatcher copy() {
         return new CombatDamageStepStartedWatcher(this);
@@ -28,7 +28,9 @@
 package mage.cards.b;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import mage.MageObject;
 import mage.Mana;
@@ -111,6 +113,11 @@ class BoseijuWhoSheltersAllWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.MANA_PAID);
+    }
+
     @Override
     public void reset() {
         super.reset();
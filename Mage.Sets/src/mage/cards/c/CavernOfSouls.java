@@ -28,7 +28,9 @@
 package mage.cards.c;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import mage.ConditionalMana;
 import mage.MageObject;
@@ -175,6 +177,11 @@ class CavernOfSoulsWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.MANA_PAID);
+    }
+
     public boolean spellCantBeCountered(UUID spellId) {
         return spells.contains(spellId);
     }
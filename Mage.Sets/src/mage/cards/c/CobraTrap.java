@@ -45,6 +45,7 @@ import mage.game.permanent.token.SnakeToken;
 import mage.game.stack.StackObject;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -124,6 +125,11 @@ class CobraTrapWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DESTROYED_PERMANENT);
+    }
+
     @Override
     public void reset() {
         super.reset();
@@ -27,8 +27,10 @@
  */
 package mage.cards.c;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import mage.MageInt;
 import mage.abilities.common.SimpleStaticAbility;
@@ -121,6 +123,11 @@ class ConduitOfRuinWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST);
+    }
+
     public int creatureSpellsCastThisTurn(UUID playerId) {
         return playerCreatureSpells.getOrDefault(playerId, 0);
     }
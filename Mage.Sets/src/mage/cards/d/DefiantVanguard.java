@@ -118,12 +118,14 @@ class DefiantVanguardTriggeredAbility extends TriggeredAbilityImpl {
 
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
-        return event.getType() == EventType.BLOCKER_DECLARED
-                && event.getSourceId().equals(getSourceId()); // Defiant Vanguard is the blocker
+        return event.getType() == EventType.BLOCKER_DECLARED;
     }
 
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
+        if (!event.getSourceId().equals(getSourceId())) { // Defiant Vanguard is the blocker
+            return false;
+        }
         Permanent blocker = game.getPermanent(event.getSourceId());
         Permanent blocked = game.getPermanent(event.getTargetId());
         if (blocker != null
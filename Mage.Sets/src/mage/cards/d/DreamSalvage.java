@@ -27,9 +27,11 @@
  */
 package mage.cards.d;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.UUID;
 import mage.abilities.Ability;
 import mage.abilities.effects.OneShotEffect;
@@ -95,6 +97,11 @@ class CardsDiscardedThisTurnWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DISCARDED_CARD);
+    }
+
     public int getAmountCardsDiscarded(UUID playerId) {
         return amountOfCardsDiscardedThisTurn.getOrDefault(playerId, 0);
     }
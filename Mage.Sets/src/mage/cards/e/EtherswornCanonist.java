@@ -27,6 +27,7 @@
  */
 package mage.cards.e;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -101,6 +102,11 @@ class EtherswornCanonistWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST);
+    }
+
     @Override
     public void reset() {
         castNonartifactSpell.clear();
@@ -27,6 +27,7 @@
  */
 package mage.cards.f;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -120,6 +121,11 @@ class FairgroundsTrumpeterWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.COUNTER_ADDED);
+    }
+
     @Override
     public void reset() {
         players.clear();
@@ -42,7 +42,9 @@ import mage.game.events.ZoneChangeEvent;
 import mage.watchers.Watcher;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -121,6 +123,11 @@ class FaithsRewardWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE);
+    }
+
     @Override
     public FaithsRewardWatcher copy() {
         return new FaithsRewardWatcher(this);
@@ -27,6 +27,7 @@
  */
 package mage.cards.g;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -153,6 +154,11 @@ class GarnaTheBloodflameWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE);
+    }
+
     @Override
     public GarnaTheBloodflameWatcher copy() {
         return new GarnaTheBloodflameWatcher(this);
@@ -28,7 +28,9 @@
 package mage.cards.g;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import mage.MageInt;
 import mage.MageObject;
@@ -115,6 +117,11 @@ class GeneratorServantWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.MANA_PAID);
+    }
+
     @Override
     public void reset() {
         super.reset();
@@ -27,6 +27,7 @@
  */
 package mage.cards.h;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Set;
@@ -199,6 +200,11 @@ class HopeOfGhirapurCombatDamageWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_PLAYER);
+    }
+
     /**
      * Checks if the current object has damaged the player during the current
      * turn.
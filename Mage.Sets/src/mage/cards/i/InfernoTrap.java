@@ -122,6 +122,11 @@ class InfernoTrapWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_PLAYER);
+    }
+
     public Set<MageObjectReference> getDamagingCreatures(UUID playerId) {
         return playerDamagedByCreature.getOrDefault(playerId, new HashSet<>());
     }
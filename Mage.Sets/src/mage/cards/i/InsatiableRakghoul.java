@@ -27,6 +27,8 @@
  */
 package mage.cards.i;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 import mage.MageInt;
 import mage.abilities.Ability;
@@ -128,6 +130,11 @@ class NonArtifactCreaturesDiedWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE);
+    }
+
     @Override
     public NonArtifactCreaturesDiedWatcher copy() {
         return new NonArtifactCreaturesDiedWatcher(this);
@@ -27,6 +27,8 @@
  */
 package mage.cards.i;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 import mage.MageObject;
 import mage.abilities.Ability;
@@ -156,6 +158,11 @@ class InsistWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST);
+    }
+
     public boolean isUncounterable(UUID spellId) {
         return spellId.equals(uncounterableSpell);
     }
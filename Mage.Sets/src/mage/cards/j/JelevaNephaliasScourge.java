@@ -27,8 +27,10 @@
  */
 package mage.cards.j;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import mage.MageInt;
 import mage.MageObject;
@@ -199,6 +201,11 @@ class JelevaNephaliasWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST);
+    }
+
     public int getManaSpentToCastLastTime(UUID sourceId, int zoneChangeCounter) {
         return manaSpendToCast.getOrDefault(sourceId.toString() + zoneChangeCounter, 0);
     }
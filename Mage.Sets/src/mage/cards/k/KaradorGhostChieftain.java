@@ -27,6 +27,8 @@
  */
 package mage.cards.k;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 import mage.MageInt;
 import mage.abilities.Ability;
@@ -207,6 +209,11 @@ class KaradorGhostChieftainWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST);
+    }
+
     @Override
     public KaradorGhostChieftainWatcher copy() {
         return new KaradorGhostChieftainWatcher(this);
@@ -27,7 +27,9 @@
  */
 package mage.cards.k;
 
+import java.util.EnumSet;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import mage.MageInt;
 import mage.abilities.Ability;
@@ -244,6 +246,11 @@ class KessDissidentMageWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST);
+    }
+
     @Override
     public KessDissidentMageWatcher copy() {
         return new KessDissidentMageWatcher(this);
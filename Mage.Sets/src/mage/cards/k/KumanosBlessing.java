@@ -27,6 +27,7 @@
  */
 package mage.cards.k;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -162,6 +163,11 @@ class DamagedByEnchantedWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_CREATURE);
+    }
+
     @Override
     public void reset() {
         super.reset();
@@ -124,6 +124,11 @@ class KydeleCardsDrawnThisTurnWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DREW_CARD);
+    }
+
     public int getCardsDrawnThisTurn(UUID playerId) {
         return cardsDrawnThisTurn.getOrDefault(playerId, 0);
     }
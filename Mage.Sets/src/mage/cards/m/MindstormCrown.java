@@ -27,6 +27,8 @@
  */
 package mage.cards.m;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 import mage.abilities.Ability;
 import mage.abilities.common.BeginningOfUpkeepTriggeredAbility;
@@ -127,6 +129,11 @@ class MindstormCrownWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.BEGINNING_PHASE_PRE);
+    }
+
     public int getCardsInHandCount() {
         return cardsInHandCount;
     }
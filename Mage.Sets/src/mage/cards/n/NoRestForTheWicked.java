@@ -43,7 +43,9 @@ import mage.players.Player;
 import mage.watchers.Watcher;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -135,6 +137,11 @@ class NoRestForTheWickedWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE);
+    }
+
     @Override
     public NoRestForTheWickedWatcher copy() {
         return new NoRestForTheWickedWatcher(this);
@@ -28,7 +28,9 @@
 package mage.cards.o;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import mage.abilities.Ability;
 import mage.abilities.common.SimpleStaticAbility;
@@ -131,6 +133,11 @@ class OpalPalaceWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.MANA_PAID);
+    }
+
     @Override
     public void reset() {
         super.reset();
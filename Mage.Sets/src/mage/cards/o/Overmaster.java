@@ -27,6 +27,8 @@
  */
 package mage.cards.o;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 import mage.MageObject;
 import mage.abilities.Ability;
@@ -158,6 +160,11 @@ class OvermasterWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST);
+    }
+
     public boolean isUncounterable(UUID spellId) {
         return spellId.equals(uncounterableSpell);
     }
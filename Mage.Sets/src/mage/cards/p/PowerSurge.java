@@ -27,6 +27,8 @@
  */
 package mage.cards.p;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 import mage.abilities.Ability;
 import mage.abilities.Mode;
@@ -131,6 +133,11 @@ class PowerSurgeWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.BEGINNING_PHASE_PRE);
+    }
+
     public int getUntappedLandCount() {
         return untappedLandCount;
     }
@@ -28,7 +28,9 @@
 package mage.cards.q;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import mage.abilities.Ability;
 import mage.abilities.effects.AsThoughEffectImpl;
@@ -150,6 +152,11 @@ class QuickenWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST);
+    }
+
     public void addQuickenSpell(UUID playerId, UUID sourceId, int zoneChangeCounter) {
         String spellKey = playerId.toString() + sourceId.toString() + '_' + zoneChangeCounter;
         activeQuickenSpells.add(spellKey);
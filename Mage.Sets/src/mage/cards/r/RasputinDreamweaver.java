@@ -27,6 +27,7 @@
  */
 package mage.cards.r;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -150,6 +151,11 @@ class RasputinDreamweaverStartedUntappedWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.BEGINNING_PHASE_PRE);
+    }
+
     @Override
     public void reset() {
         this.startedUntapped.clear();
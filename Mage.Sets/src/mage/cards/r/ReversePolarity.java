@@ -27,9 +27,11 @@
  */
 package mage.cards.r;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.UUID;
 import mage.abilities.Ability;
 import mage.abilities.dynamicvalue.DynamicValue;
@@ -119,6 +121,11 @@ class ReversePolarityWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_PLAYER);
+    }
+
     public int getArtifactDamageReceivedThisTurn(UUID playerId) {
         return artifactDamageReceivedThisTurn.getOrDefault(playerId, 0);
     }
@@ -182,6 +182,11 @@ class SavageSummoningWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST);
+    }
+
     public void setSavageSummoningSpellActive(Card card, Game game) {
         String cardKey = new StringBuilder(card.getId().toString()).append('_').append(card.getZoneChangeCounter(game)).toString();
         savageSummoningSpells.add(cardKey);
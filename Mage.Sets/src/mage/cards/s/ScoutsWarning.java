@@ -28,7 +28,9 @@
 package mage.cards.s;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import mage.abilities.Ability;
 import mage.abilities.effects.AsThoughEffectImpl;
@@ -151,6 +153,11 @@ class ScoutsWarningWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST);
+    }
+
     public void addScoutsWarningSpell(UUID sourceId, int zoneChangeCounter) {
         String spellKey = new StringBuilder(sourceId.toString()).append('_').append(zoneChangeCounter).toString();
         activeScoutsWarningSpells.add(spellKey);
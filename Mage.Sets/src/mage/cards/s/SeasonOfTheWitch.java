@@ -27,6 +27,7 @@
  */
 package mage.cards.s;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -170,6 +171,11 @@ class CouldAttackThisTurnWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DECLARE_ATTACKERS_STEP_PRE);
+    }
+
     public Set<MageObjectReference> getCouldAttackThisTurnCreatures() {
         return this.couldAttackThisTurnCreatures;
     }
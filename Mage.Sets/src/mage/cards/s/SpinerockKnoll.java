@@ -27,9 +27,11 @@
  */
 package mage.cards.s;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.UUID;
 import mage.abilities.Ability;
 import mage.abilities.common.ActivateIfConditionActivatedAbility;
@@ -139,6 +141,11 @@ class SpinerockKnollWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_PLAYER);
+    }
+
     public int getDamageReceived(UUID playerId) {
         return amountOfDamageReceivedThisTurn.getOrDefault(playerId, 0);
     }
@@ -44,6 +44,7 @@ import mage.players.Player;
 import mage.target.TargetCard;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -132,6 +133,11 @@ class SummoningTrapWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.COUNTERED);
+    }
+
     public boolean creatureSpellOfPlayerWasCountered(UUID playerId) {
         return players.contains(playerId);
     }
@@ -27,6 +27,7 @@
  */
 package mage.cards.s;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
@@ -164,6 +165,11 @@ class SylvanLibraryCardsDrawnThisTurnWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DREW_CARD);
+    }
+
     public Set<UUID> getCardsDrawnThisTurn(UUID playerId) {
         return cardsDrawnThisTurn.getOrDefault(playerId, new LinkedHashSet<>());
     }
@@ -27,6 +27,7 @@
  */
 package mage.cards.t;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -115,6 +116,11 @@ class PlayerCastNonCreatureSpellWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST);
+    }
+
     @Override
     public PlayerCastNonCreatureSpellWatcher copy() {
         return new PlayerCastNonCreatureSpellWatcher(this);
@@ -27,6 +27,7 @@
  */
 package mage.cards.t;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -106,6 +107,11 @@ class ActivatedLoyaltyAbilityWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ACTIVATED_ABILITY);
+    }
+
     @Override
     public void reset() {
         playerIds.clear();
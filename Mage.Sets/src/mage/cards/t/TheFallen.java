@@ -132,6 +132,11 @@ class TheFallenWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_PLAYER, GameEvent.EventType.DAMAGED_PLANESWALKER);
+    }
+
     public Set<UUID> getPlayersAndWalkersDealtDamageThisGame(UUID creatureId) {
         return playersAndWalkersDealtDamageThisGame.get(creatureId);
     }
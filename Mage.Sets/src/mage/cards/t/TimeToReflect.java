@@ -124,6 +124,11 @@ class BlockedOrWasBlockedByAZombieWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.BLOCKER_DECLARED);
+    }
+
     public Set<MageObjectReference> getBlockedThisTurnCreatures() {
         return this.blockedOrWasBlockedByAZombieWatcher;
     }
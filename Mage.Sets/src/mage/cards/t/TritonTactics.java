@@ -239,6 +239,11 @@ class BlockedCreaturesWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.BLOCKER_DECLARED);
+    }
+
     private void saveAttackingCreature(UUID attackerId, Integer zoneChangeCounter, Game game) {
         Set<String> attackers;
         Map<Integer, Set<String>> attackerMap;
@@ -27,6 +27,7 @@
  */
 package mage.cards.u;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -104,6 +105,11 @@ class PlayCreatureLandWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.PLAY_LAND);
+    }
+
     @Override
     public void reset() {
         playerPlayedLand.clear();
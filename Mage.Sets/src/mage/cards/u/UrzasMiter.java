@@ -45,7 +45,9 @@ import mage.game.events.GameEvent;
 import mage.watchers.Watcher;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -117,6 +119,11 @@ class UrzasMiterWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SACRIFICED_PERMANENT);
+    }
+
     @Override
     public UrzasMiterWatcher copy() {
         return new UrzasMiterWatcher(this);
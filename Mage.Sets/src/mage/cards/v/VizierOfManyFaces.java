@@ -27,6 +27,7 @@
  */
 package mage.cards.v;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -144,6 +145,11 @@ class EmbalmedThisTurnWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.EMBALMED_CREATURE);
+    }
+
     public Set<MageObjectReference> getEmbalmedThisTurnCards() {
         return this.embalmedThisTurnTokens;
     }
@@ -0,0 +1,89 @@
+package mage.player.ai;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import mage.abilities.common.PassAbility;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Tests the selection of the shared MCTS tree if more executors descend at
+ * the same time than the root has children.
+ */
+public class MCTSNodeTest extends CardTestPlayerBase {
+
+    private static final int CHILDREN = 2;
+    private static final int EXECUTORS = CHILDREN + 3;
+
+    private MCTSNode createRoot() {
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 1);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        MCTSNode root = new MCTSNode(playerA.getId(), currentGame.copy());
+        for (int i = 0; i < CHILDREN; i++) {
+            root.addChild(new MCTSNode(root, currentGame.copy(), new PassAbility()));
+        }
+        return root;
+    }
+
+    @Test
+    public void testSelectWithMoreDescentsThanChildren() {
+        MCTSNode root = createRoot();
+
+        // fresh root without visits, every descent keeps its virtual loss
+        List<MCTSNode> selected = new ArrayList<>();
+        for (int i = 0; i < EXECUTORS; i++) {
+            MCTSNode node = root.select(playerA.getId());
+            Assert.assertNotNull("descent " + i + " must select a child", node);
+            selected.add(node);
+        }
+
+        for (MCTSNode node : selected) {
+            node.backpropagate(0);
+        }
+        Assert.assertNotNull(root.select(playerA.getId()));
+    }
+
+    @Test
+    public void testConcurrentExecutorsSelectChildren() throws Exception {
+        final MCTSNode root = createRoot();
+        final CountDownLatch selectedAll = new CountDownLatch(EXECUTORS);
+
+        ExecutorService pool = Executors.newFixedThreadPool(EXECUTORS);
+        try {
+            List<Future<MCTSNode>> results = new ArrayList<>();
+            for (int i = 0; i < EXECUTORS; i++) {
+                results.add(pool.submit(new Callable<MCTSNode>() {
+                    @Override
+                    public MCTSNode call() throws Exception {
+                        MCTSNode node = root.select(playerA.getId());
+                        // keep the virtual loss until all executors have selected
+                        selectedAll.countDown();
+                        selectedAll.await(10, TimeUnit.SECONDS);
+                        if (node != null) {
+                            node.backpropagate(1);
+                        }
+                        return node;
+                    }
+                }));
+            }
+            for (Future<MCTSNode> result : results) {
+                Assert.assertNotNull("every executor must select a child", result.get(20, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        Assert.assertEquals(EXECUTORS, root.getVisits());
+    }
+}
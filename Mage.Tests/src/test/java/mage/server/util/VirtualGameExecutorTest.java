@@ -0,0 +1,68 @@
+package mage.server.util;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Checks that {@link VirtualGameExecutor} queues the games above its limit.
+ * A cached thread pool stands in for the virtual thread per task executor.
+ */
+public class VirtualGameExecutorTest {
+
+    private static void waitFor(VirtualGameExecutor executor, int active, int queued) throws InterruptedException {
+        long end = System.currentTimeMillis() + 10000;
+        while ((executor.getActiveCount() != active || executor.getQueuedCount() != queued)
+                && System.currentTimeMillis() < end) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals("active games", active, executor.getActiveCount());
+        Assert.assertEquals("queued games", queued, executor.getQueuedCount());
+    }
+
+    @Test
+    public void testGamesAboveTheLimitAreQueued() throws Exception {
+        VirtualGameExecutor executor = new VirtualGameExecutor(Executors.newCachedThreadPool(), 1);
+        CountDownLatch finish = new CountDownLatch(1);
+        try {
+            Future<?> first = executor.submit(() -> {
+                finish.await();
+                return null;
+            });
+            Future<?> second = executor.submit(() -> {
+                finish.await();
+                return null;
+            });
+            waitFor(executor, 1, 1);
+
+            finish.countDown();
+            first.get(10, TimeUnit.SECONDS);
+            second.get(10, TimeUnit.SECONDS);
+            waitFor(executor, 0, 0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testWithoutLimitAllGamesRun() throws Exception {
+        VirtualGameExecutor executor = new VirtualGameExecutor(Executors.newCachedThreadPool(), 0);
+        CountDownLatch finish = new CountDownLatch(1);
+        try {
+            for (int i = 0; i < 5; i++) {
+                executor.submit(() -> {
+                    finish.await();
+                    return null;
+                });
+            }
+            waitFor(executor, 5, 0);
+            finish.countDown();
+            waitFor(executor, 0, 0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package org.mage.test.AI.basic;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import mage.cards.Card;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.game.permanent.Permanent;
+import mage.game.stack.StackObject;
+import mage.player.ai.ComputerPlayer6;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.player.TestPlayer;
+import org.mage.test.serverside.base.CardTestPlayerBaseAI;
+
+/**
+ * Checks that the single-threaded and the parallel root search of the AI find
+ * the same actions.
+ */
+public class ParallelSearchTest extends CardTestPlayerBaseAI {
+
+    private void setSearch(boolean parallelSearch) {
+        ComputerPlayer6 computerPlayer = (ComputerPlayer6) playerA.getComputerPlayer();
+        computerPlayer.setParallelSearch(parallelSearch);
+        computerPlayer.setSearchSeed(42);
+    }
+
+    private void playLandAndCastCreature() {
+        addCard(Zone.HAND, playerA, "Plains");
+        addCard(Zone.HAND, playerA, "Silvercoat Lion"); // {1}{W}
+        addCard(Zone.BATTLEFIELD, playerA, "Plains", 1);
+
+        setStopAt(1, PhaseStep.BEGIN_COMBAT);
+        execute();
+
+        assertPermanentCount(playerA, "Plains", 2);
+        assertPermanentCount(playerA, "Silvercoat Lion", 1);
+    }
+
+    @Test
+    public void testSingleThreadedSearch() {
+        setSearch(false);
+        playLandAndCastCreature();
+    }
+
+    @Test
+    public void testParallelSearch() {
+        setSearch(true);
+        playLandAndCastCreature();
+    }
+
+    /**
+     * Lets the AI act on a copy of the current game and describes the result.
+     */
+    private String actOnCopy(boolean parallelSearch) {
+        Game game = currentGame.copy();
+        ComputerPlayer6 computerPlayer = (ComputerPlayer6) ((TestPlayer) game.getPlayer(playerA.getId())).getComputerPlayer();
+        computerPlayer.setParallelSearch(parallelSearch);
+        computerPlayer.setSearchSeed(42);
+        computerPlayer.priority(game);
+
+        List<String> names = new ArrayList<>();
+        for (Permanent permanent : game.getBattlefield().getAllActivePermanents(playerA.getId())) {
+            names.add(permanent.getName() + (permanent.isTapped() ? " (tapped)" : ""));
+        }
+        Collections.sort(names);
+        List<String> hand = new ArrayList<>();
+        for (Card card : game.getPlayer(playerA.getId()).getHand().getCards(game)) {
+            hand.add(card.getName());
+        }
+        Collections.sort(hand);
+        List<String> stack = new ArrayList<>();
+        for (StackObject stackObject : game.getStack()) {
+            stack.add(stackObject.getName());
+        }
+        return "battlefield: " + names + " hand: " + hand + " stack: " + stack;
+    }
+
+    @Test
+    public void testSequentialAndParallelSearchChooseTheSameAction() {
+        addCard(Zone.HAND, playerA, "Plains");
+        addCard(Zone.HAND, playerA, "Silvercoat Lion"); // {1}{W}
+        addCard(Zone.HAND, playerA, "Elite Vanguard"); // {W}
+        addCard(Zone.BATTLEFIELD, playerA, "Plains", 1);
+
+        // stops before the AI gets priority in the main phase
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        String sequential = actOnCopy(false);
+        String parallel = actOnCopy(true);
+        Assert.assertNotEquals("the AI must act", "battlefield: [Plains] hand: [Elite Vanguard, Plains, Silvercoat Lion] stack: []", sequential);
+        Assert.assertEquals(sequential, parallel);
+    }
+}
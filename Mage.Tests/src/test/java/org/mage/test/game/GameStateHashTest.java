@@ -0,0 +1,71 @@
+package org.mage.test.game;
+
+import java.util.UUID;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.game.GameState;
+import mage.game.permanent.Permanent;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Checks that {@link GameState#getHash} is equal for equal positions and
+ * ignores the hidden hand of the opponent.
+ */
+public class GameStateHashTest extends CardTestPlayerBase {
+
+    private void prepareBoard() {
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 2);
+        addCard(Zone.BATTLEFIELD, playerA, "Silvercoat Lion", 1);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 1);
+        addCard(Zone.BATTLEFIELD, playerB, "Mountain", 2);
+        addCard(Zone.HAND, playerB, "Llanowar Elves", 1);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+    }
+
+    private long hash(Game game) {
+        return game.getState().getHash(game, null);
+    }
+
+    @Test
+    public void testCopyHasSameHash() {
+        prepareBoard();
+
+        Game copy = currentGame.copy();
+        Assert.assertEquals(hash(currentGame), hash(copy));
+        Assert.assertEquals(currentGame.getState().getHash(currentGame, playerA.getId()), copy.getState().getHash(copy, playerA.getId()));
+    }
+
+    @Test
+    public void testSamePositionHasSameHash() {
+        prepareBoard();
+
+        long original = hash(currentGame);
+        Permanent lion = getPermanent("Silvercoat Lion", playerA);
+
+        lion.tap(currentGame);
+        long tapped = hash(currentGame);
+        Assert.assertNotEquals(original, tapped);
+        lion.untap(currentGame);
+        Assert.assertEquals(original, hash(currentGame));
+
+        currentGame.getPlayer(playerB.getId()).setLife(17, currentGame, (UUID) null);
+        Assert.assertNotEquals(original, hash(currentGame));
+        currentGame.getPlayer(playerB.getId()).setLife(20, currentGame, (UUID) null);
+        Assert.assertEquals(original, hash(currentGame));
+    }
+
+    @Test
+    public void testHiddenHandOfOpponent() {
+        prepareBoard();
+
+        // playerA doesn't know the hand of playerB, only its size
+        long knownByA = currentGame.getState().getHash(currentGame, playerA.getId());
+        long all = hash(currentGame);
+        Assert.assertNotEquals(knownByA, all);
+    }
+}
@@ -0,0 +1,246 @@
+package org.mage.test.game;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.UUID;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.TwoPlayerMatch;
+import mage.game.match.Match;
+import mage.game.match.MatchOptions;
+import mage.game.match.MatchPlayer;
+import mage.cards.Card;
+import mage.game.permanent.Permanent;
+import mage.game.stack.Spell;
+import mage.players.Player;
+import mage.view.CardView;
+import mage.view.CardsView;
+import mage.view.GameView;
+import mage.view.GameViewDecoder;
+import mage.view.GameViewDigests;
+import mage.view.GameViewEncoder;
+import mage.view.PermanentView;
+import mage.view.PlayerView;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Encodes game views as deltas, transfers them and decodes them again, also
+ * with merged updates and with digests shared by several receivers.
+ */
+public class GameViewEncoderTest extends CardTestPlayerBase {
+
+    private final GameViewEncoder encoder = new GameViewEncoder();
+    private final GameViewDecoder decoder = new GameViewDecoder();
+
+    private void prepareBoard() {
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 3);
+        addCard(Zone.BATTLEFIELD, playerA, "Silvercoat Lion", 1);
+        addCard(Zone.GRAVEYARD, playerA, "Lightning Bolt", 1);
+        addCard(Zone.HAND, playerA, "Llanowar Elves", 2);
+        addCard(Zone.BATTLEFIELD, playerB, "Mountain", 2);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        // the player views need the match data
+        Match match = new TwoPlayerMatch(new MatchOptions("test", "Two Player Duel", false, 2));
+        for (Player player : currentGame.getPlayers().values()) {
+            player.setMatchPlayer(new MatchPlayer(player, null, match));
+        }
+    }
+
+    private GameView createView() {
+        return createView(playerA);
+    }
+
+    private GameView createView(Player player) {
+        GameView gameView = new GameView(currentGame.getState(), currentGame, player.getId(), null);
+        gameView.setHand(new CardsView(currentGame, player.getHand().getCards(currentGame)));
+        return gameView;
+    }
+
+    private byte[] serialize(Object object) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        return bytes.toByteArray();
+    }
+
+    private GameView transfer(GameView gameView) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialize(gameView)))) {
+            return (GameView) in.readObject();
+        }
+    }
+
+    private PermanentView getPermanentView(GameView gameView, UUID permanentId) {
+        for (PlayerView player : gameView.getPlayers()) {
+            if (player.getBattlefield().containsKey(permanentId)) {
+                return player.getBattlefield().get(permanentId);
+            }
+        }
+        return null;
+    }
+
+    private int countSentCards(GameView gameView) {
+        int count = 0;
+        for (PlayerView player : gameView.getPlayers()) {
+            count += player.getBattlefield().values().stream().filter(p -> p != null).count();
+            count += player.getGraveyard().values().stream().filter(c -> c != null).count();
+        }
+        count += gameView.getHand().values().stream().filter(c -> c != null).count();
+        return count;
+    }
+
+    private void assertComplete(GameView gameView) {
+        for (PlayerView player : gameView.getPlayers()) {
+            Assert.assertFalse(player.getBattlefield().containsValue(null));
+            Assert.assertFalse(player.getGraveyard().containsValue(null));
+        }
+        Assert.assertFalse(gameView.getHand().containsValue(null));
+    }
+
+    @Test
+    public void testFirstViewIsFull() throws Exception {
+        prepareBoard();
+
+        GameView sent = encoder.encode(createView());
+        Assert.assertEquals(0, sent.getBaseVersion());
+        Assert.assertEquals(9, countSentCards(sent));
+
+        GameView received = transfer(sent);
+        Assert.assertFalse(decoder.decode(received));
+        assertComplete(received);
+    }
+
+    @Test
+    public void testOnlyChangedCardsAreSent() throws Exception {
+        prepareBoard();
+
+        GameView full = encoder.encode(createView());
+        int fullSize = serialize(full).length;
+        Assert.assertFalse(decoder.decode(transfer(full)));
+
+        GameView unchanged = encoder.encode(createView());
+        Assert.assertEquals(full.getVersion(), unchanged.getBaseVersion());
+        Assert.assertEquals(0, countSentCards(unchanged));
+        Assert.assertTrue("Delta must be much smaller than the full view", serialize(unchanged).length * 2 < fullSize);
+        GameView received = transfer(unchanged);
+        Assert.assertFalse(decoder.decode(received));
+        assertComplete(received);
+        Assert.assertEquals(9, countSentCards(received));
+
+        Permanent lion = getPermanent("Silvercoat Lion", playerA);
+        lion.tap(currentGame);
+        GameView tapped = encoder.encode(createView());
+        Assert.assertEquals(1, countSentCards(tapped));
+        received = transfer(tapped);
+        Assert.assertFalse(decoder.decode(received));
+        assertComplete(received);
+        Assert.assertTrue(getPermanentView(received, lion.getId()).isTapped());
+        CardView forest = getPermanentView(received, getPermanent("Forest", playerA).getId());
+        Assert.assertNotNull(forest);
+        Assert.assertEquals("Forest", forest.getName());
+    }
+
+    @Test
+    public void testMissedUpdateRequestsFullView() throws Exception {
+        prepareBoard();
+
+        Assert.assertFalse(decoder.decode(transfer(encoder.encode(createView()))));
+        getPermanent("Silvercoat Lion", playerA).tap(currentGame);
+        encoder.encode(createView()); // not received
+
+        GameView received = transfer(encoder.encode(createView()));
+        Assert.assertTrue(decoder.decode(received));
+        // only requested once
+        Assert.assertFalse(decoder.decode(transfer(encoder.encode(createView()))));
+
+        encoder.reset();
+        received = transfer(encoder.encode(createView()));
+        Assert.assertEquals(0, received.getBaseVersion());
+        Assert.assertFalse(decoder.decode(received));
+        assertComplete(received);
+        Assert.assertTrue(getPermanentView(received, getPermanent("Silvercoat Lion", playerA).getId()).isTapped());
+    }
+
+    @Test
+    public void testMergedUpdatesKeepAllChanges() throws Exception {
+        prepareBoard();
+
+        Assert.assertFalse(decoder.decode(transfer(encoder.encode(createView()))));
+        Permanent lion = getPermanent("Silvercoat Lion", playerA);
+        lion.tap(currentGame);
+        GameView older = transfer(encoder.encode(createView()));
+        Permanent mountain = getPermanent("Mountain", playerB);
+        mountain.tap(currentGame);
+        GameView newer = transfer(encoder.encode(createView()));
+
+        GameView merged = GameViewEncoder.merge(older, newer);
+        Assert.assertNotNull(merged);
+        Assert.assertEquals(older.getBaseVersion(), merged.getBaseVersion());
+        Assert.assertEquals(2, countSentCards(merged));
+        Assert.assertFalse(decoder.decode(merged));
+        assertComplete(merged);
+        Assert.assertTrue(getPermanentView(merged, lion.getId()).isTapped());
+        Assert.assertTrue(getPermanentView(merged, mountain.getId()).isTapped());
+
+        // views that don't follow each other can't be merged
+        Assert.assertNull(GameViewEncoder.merge(older, transfer(encoder.encode(createView()))));
+    }
+
+    @Test
+    public void testSharedDigestsGiveTheSameViews() throws Exception {
+        prepareBoard();
+        GameViewEncoder encoderB = new GameViewEncoder();
+        GameViewEncoder sharedEncoderA = new GameViewEncoder();
+        GameViewEncoder sharedEncoderB = new GameViewEncoder();
+
+        GameViewEncoder sharedWatcherEncoder = new GameViewEncoder();
+
+        GameViewDigests digests = new GameViewDigests();
+        sharedEncoderA.encode(createView(playerA), digests);
+        sharedEncoderB.encode(createView(playerB), digests);
+        encoder.encode(createView(playerA));
+        encoderB.encode(createView(playerB));
+        // the own permanents differ (controlled), so player B only shares the graveyard
+        Assert.assertEquals(1, digests.getHits());
+        // a watcher controls nothing, so all of its 7 cards are shared with the players
+        sharedWatcherEncoder.encode(new GameView(currentGame.getState(), currentGame, null, null), digests);
+        Assert.assertEquals(1 + 7, digests.getHits());
+
+        getPermanent("Silvercoat Lion", playerA).tap(currentGame);
+        digests = new GameViewDigests();
+        GameView sharedA = sharedEncoderA.encode(createView(playerA), digests);
+        GameView sharedB = sharedEncoderB.encode(createView(playerB), digests);
+        Assert.assertEquals(countSentCards(encoder.encode(createView(playerA))), countSentCards(sharedA));
+        Assert.assertEquals(countSentCards(encoderB.encode(createView(playerB))), countSentCards(sharedB));
+        Assert.assertEquals(1, countSentCards(sharedB));
+    }
+
+    @Test
+    public void testFaceDownSpellIsNotShared() throws Exception {
+        addCard(Zone.HAND, playerA, "Pine Walker");
+        prepareBoard();
+        // a spell cast face down (morph) shows its name only to its controller
+        Card card = playerA.getHand().getCards(currentGame).stream()
+                .filter(c -> c.getName().equals("Pine Walker")).findFirst().get();
+        Spell spell = new Spell(card, card.getSpellAbility().copy(), playerA.getId(), Zone.HAND);
+        spell.setFaceDown(true, currentGame);
+        currentGame.getStack().push(spell);
+
+        GameViewDigests digests = new GameViewDigests();
+        GameView viewA = transfer(new GameViewEncoder().encode(createView(playerA), digests));
+        GameView viewB = transfer(new GameViewEncoder().encode(createView(playerB), digests));
+
+        // player B only shares the graveyard, not the spell of player A
+        Assert.assertEquals(1, digests.getHits());
+        Assert.assertEquals("Pine Walker", viewA.getStack().get(spell.getId()).getName());
+        Assert.assertEquals("Face Down", viewB.getStack().get(spell.getId()).getName());
+    }
+}
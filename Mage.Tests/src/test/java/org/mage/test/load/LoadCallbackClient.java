@@ -27,11 +27,13 @@ public class LoadCallbackClient implements CallbackClient {
     private volatile int controlCount;
 
     private GameView gameView;
+    private final GameViewDecoder gameViewDecoder = new GameViewDecoder();
 
     @Override
     public void processCallback(ClientCallback callback) {
         controlCount = 0;
         callback.setData(CompressUtil.decompress(callback.getData()));
+        decodeGameView(callback);
         log.info(getLogStartInfo() + "callback: " + callback.getMethod());
 
         switch (callback.getMethod()) {
@@ -140,6 +142,19 @@ public class LoadCallbackClient implements CallbackClient {
         }
     }
 
+    private void decodeGameView(ClientCallback callback) {
+        GameView view = null;
+        if (callback.getData() instanceof GameView) {
+            view = (GameView) callback.getData();
+        } else if (callback.getData() instanceof GameClientMessage) {
+            view = ((GameClientMessage) callback.getData()).getGameView();
+        }
+        if (gameViewDecoder.decode(view)) {
+            log.warn(getLogStartInfo() + "game view update missed, requesting full view");
+            session.sendPlayerAction(PlayerAction.REQUEST_FULL_GAME_VIEW, gameId, null);
+        }
+    }
+
     private PlayerView getPlayer() {
         if ((this.gameView != null) && (this.playerId != null)) {
             for (PlayerView p : this.gameView.getPlayers()) {
@@ -2397,6 +2397,10 @@ public class TestPlayer implements Player {
         return AIPlayer;
     }
 
+    public ComputerPlayer getComputerPlayer() {
+        return computerPlayer;
+    }
+
     public String getHistory() {
         return computerPlayer.getHistory();
     }
@@ -0,0 +1,84 @@
+package org.mage.test.serverside;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.ObjectOutputStream;
+import java.util.zip.GZIPOutputStream;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.GameState;
+import mage.game.GameStates;
+import mage.server.game.GameReplayFile;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Saves a played game in the replay format and reads the states back
+ */
+public class GameReplayFileTest extends CardTestPlayerBase {
+
+    @Test
+    public void testWriteAndRead() throws Exception {
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 2);
+        addCard(Zone.HAND, playerA, "Lightning Bolt");
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Lightning Bolt", playerB);
+        setStopAt(3, PhaseStep.END_TURN);
+        currentGame.setSaveGame(true);
+        execute();
+
+        assertLife(playerB, 17);
+
+        GameStates states = currentGame.getGameStates();
+        Assert.assertTrue("the game must have saved states", states.getSize() > 1);
+
+        File file = File.createTempFile("replay", ".game");
+        try {
+            GameReplayFile.write(currentGame, file);
+            try (GameReplayFile replay = new GameReplayFile(file, getClass().getClassLoader())) {
+                Assert.assertEquals(currentGame.getId(), replay.getGame().getId());
+                Assert.assertEquals(states.getSize(), replay.getSize());
+                // read backwards, each state is loaded from its own frame
+                for (int i = replay.getSize() - 1; i >= 0; i--) {
+                    GameState state = replay.getState(i);
+                    Assert.assertNotNull(state);
+                    Assert.assertEquals(states.get(i).getTurnNum(), state.getTurnNum());
+                    Assert.assertEquals(states.get(i).getPlayer(playerB.getId()).getLife(), state.getPlayer(playerB.getId()).getLife());
+                }
+                Assert.assertNull(replay.getState(replay.getSize()));
+            }
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void testReadOldFormat() throws Exception {
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 2);
+        addCard(Zone.HAND, playerA, "Lightning Bolt");
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Lightning Bolt", playerB);
+        setStopAt(2, PhaseStep.END_TURN);
+        currentGame.setSaveGame(true);
+        execute();
+
+        GameStates states = currentGame.getGameStates();
+        File file = File.createTempFile("replay", ".game");
+        try {
+            // the game and its states in one gzipped stream, as saved before the replay format
+            try (ObjectOutputStream output = new ObjectOutputStream(new GZIPOutputStream(new FileOutputStream(file)))) {
+                output.writeObject(currentGame);
+                output.writeObject(states);
+            }
+            try (GameReplayFile replay = new GameReplayFile(file, getClass().getClassLoader())) {
+                Assert.assertEquals(currentGame.getId(), replay.getGame().getId());
+                Assert.assertEquals(states.getSize(), replay.getSize());
+                GameState last = replay.getState(replay.getSize() - 1);
+                Assert.assertEquals(17, last.getPlayer(playerB.getId()).getLife());
+            }
+        } finally {
+            file.delete();
+        }
+    }
+}
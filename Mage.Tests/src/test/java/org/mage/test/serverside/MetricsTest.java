@@ -0,0 +1,60 @@
+package org.mage.test.serverside;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.server.MetricsServer;
+import mage.util.Metrics;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Records the engine timers while a game is played and exports them
+ */
+public class MetricsTest extends CardTestPlayerBase {
+
+    @Before
+    public void enableMetrics() {
+        Metrics.instance.setEnabled(true);
+    }
+
+    @After
+    public void disableMetrics() {
+        Metrics.instance.setEnabled(false);
+    }
+
+    @Test
+    public void testEngineTimers() {
+        Metrics.Timer applyEffects = Metrics.instance.timer("game_apply_effects");
+        long before = applyEffects.getCount();
+
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain");
+        addCard(Zone.HAND, playerA, "Lightning Bolt");
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Lightning Bolt", playerB);
+        setStopAt(1, PhaseStep.BEGIN_COMBAT);
+        execute();
+
+        assertLife(playerB, 17);
+        Assert.assertTrue("applyEffects calls must be counted", applyEffects.getCount() > before);
+        Assert.assertTrue(applyEffects.getTotalSeconds() > 0);
+    }
+
+    @Test
+    public void testPrometheusText() {
+        Metrics.Timer timer = Metrics.instance.timer("test_timer");
+        timer.record(5_000_000L); // 5 ms
+        Metrics.instance.counter("test_counter").increment();
+        Metrics.instance.gauge("test_gauge", () -> 42);
+
+        String text = MetricsServer.toPrometheusText();
+        Assert.assertTrue(text, text.contains("# TYPE xmage_test_timer_seconds histogram\n"));
+        Assert.assertTrue(text, text.contains("xmage_test_timer_seconds_bucket{le=\"0.001\"} 0\n"));
+        Assert.assertTrue(text, text.contains("xmage_test_timer_seconds_bucket{le=\"0.01\"} 1\n"));
+        Assert.assertTrue(text, text.contains("xmage_test_timer_seconds_bucket{le=\"+Inf\"} 1\n"));
+        Assert.assertTrue(text, text.contains("xmage_test_timer_seconds_count 1\n"));
+        Assert.assertTrue(text, text.contains("xmage_test_counter_total 1\n"));
+        Assert.assertTrue(text, text.contains("xmage_test_gauge 42\n"));
+    }
+}
@@ -0,0 +1,158 @@
+package org.mage.test.serverside;
+
+import java.io.DataOutputStream;
+import java.io.InputStream;
+import java.lang.reflect.Proxy;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import mage.MageException;
+import mage.interfaces.MageServer;
+import mage.interfaces.callback.ClientCallback;
+import mage.interfaces.callback.ClientCallbackMethod;
+import mage.remote.nio.NioClient;
+import mage.server.NioTransportServer;
+import mage.server.Session;
+import mage.server.SessionManager;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Sends requests and callbacks between a {@link NioClient} and a
+ * {@link NioTransportServer} over a local socket.
+ */
+public class NioTransportTest {
+
+    private NioTransportServer server;
+    private NioClient client;
+    private final BlockingQueue<ClientCallback> callbacks = new LinkedBlockingQueue<>();
+
+    @Before
+    public void setUp() throws Exception {
+        MageServer target = (MageServer) Proxy.newProxyInstance(MageServer.class.getClassLoader(), new Class<?>[]{MageServer.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "ping":
+                    return "info".equals(args[1]);
+                case "getServerState":
+                    throw new MageException("no state");
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+        server = new NioTransportServer(target, "localhost", 0, 50);
+        server.start();
+        client = new NioClient("localhost", server.getPort(), 5000, 10000, callbacks::add, throwable -> {
+        });
+    }
+
+    @After
+    public void tearDown() {
+        client.disconnect();
+        server.stop();
+    }
+
+    @Test
+    public void testRequests() throws Exception {
+        Assert.assertNotNull(client.getSessionId());
+        Assert.assertTrue(client.getServer().ping(client.getSessionId(), "info"));
+        Assert.assertFalse(client.getServer().ping(client.getSessionId(), "other"));
+        try {
+            client.getServer().getServerState();
+            Assert.fail("exception of the server must be thrown by the client");
+        } catch (MageException ex) {
+            Assert.assertEquals("no state", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testConcurrentRequests() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                String info = i % 2 == 0 ? "info" : "other";
+                Callable<Boolean> call = () -> client.getServer().ping(client.getSessionId(), info);
+                results.add(executor.submit(call));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                Assert.assertEquals(i % 2 == 0, results.get(i).get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testCallbacks() throws Exception {
+        Session session = SessionManager.instance.getSession(client.getSessionId()).orElse(null);
+        Assert.assertNotNull("connection must create a session", session);
+        for (int i = 0; i < 10; i++) {
+            session.fireCallback(new ClientCallback(ClientCallbackMethod.SHOW_USERMESSAGE, null, i));
+        }
+        for (int i = 0; i < 10; i++) {
+            ClientCallback callback = callbacks.poll(10, TimeUnit.SECONDS);
+            Assert.assertNotNull(callback);
+            Assert.assertEquals(ClientCallbackMethod.SHOW_USERMESSAGE, callback.getMethod());
+            Assert.assertEquals(i, callback.getData());
+        }
+    }
+
+    @Test
+    public void testCallbackCallingTheServer() throws Exception {
+        // e.g. the client requests the full game view while handling a game update
+        BlockingQueue<Boolean> results = new LinkedBlockingQueue<>();
+        AtomicReference<NioClient> self = new AtomicReference<>();
+        NioClient callingClient = new NioClient("localhost", server.getPort(), 5000, 10000, callback -> {
+            results.add(self.get().getServer().ping(self.get().getSessionId(), "info"));
+        }, throwable -> {
+        });
+        self.set(callingClient);
+        try {
+            Session session = SessionManager.instance.getSession(callingClient.getSessionId()).orElse(null);
+            Assert.assertNotNull(session);
+            session.fireCallback(new ClientCallback(ClientCallbackMethod.SHOW_USERMESSAGE, null, 0));
+            Assert.assertEquals(Boolean.TRUE, results.poll(10, TimeUnit.SECONDS));
+        } finally {
+            callingClient.disconnect();
+        }
+    }
+
+    @Test
+    public void testLargeRequestIsReadInParts() throws Exception {
+        // larger than the first frame buffer, smaller than the limit before the login
+        // (random, so the codec can't compress it)
+        Random random = new Random(1);
+        char[] info = new char[200 * 1024];
+        for (int i = 0; i < info.length; i++) {
+            info[i] = (char) ('a' + random.nextInt(26));
+        }
+        Assert.assertFalse(client.getServer().ping(client.getSessionId(), new String(info)));
+        Assert.assertTrue(client.getServer().ping(client.getSessionId(), "info"));
+    }
+
+    @Test
+    public void testLargeFrameBeforeLoginClosesConnection() throws Exception {
+        try (Socket socket = new Socket("localhost", server.getPort())) {
+            socket.setSoTimeout(10000);
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            out.writeInt(32 * 1024 * 1024);
+            out.flush();
+            InputStream in = socket.getInputStream();
+            // skip the hello frame until the server closes the connection
+            byte[] buffer = new byte[1024];
+            while (in.read(buffer) >= 0) {
+            }
+        }
+    }
+}
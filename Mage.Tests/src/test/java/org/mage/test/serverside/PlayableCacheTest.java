@@ -0,0 +1,37 @@
+package org.mage.test.serverside;
+
+import java.util.Set;
+import java.util.UUID;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.permanent.Permanent;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Tests that the cached playable cards of a player are recalculated if
+ * something happens in the game.
+ */
+public class PlayableCacheTest extends CardTestPlayerBase {
+
+    @Test
+    public void testPlayableInHandChangesWithTappedLand() {
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 1);
+        addCard(Zone.HAND, playerA, "Llanowar Elves", 1);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        UUID elvesId = playerA.getHand().getCards(currentGame).iterator().next().getId();
+        Set<UUID> playable = playerA.getPlayableInHand(currentGame);
+        Assert.assertTrue("Llanowar Elves must be playable", playable.contains(elvesId));
+        Assert.assertEquals(playable, playerA.getPlayableInHand(currentGame));
+
+        Permanent forest = getPermanent("Forest", playerA);
+        forest.tap(currentGame); // fires the tapped event
+
+        Assert.assertFalse("Llanowar Elves can't be paid with the tapped Forest",
+                playerA.getPlayableInHand(currentGame).contains(elvesId));
+    }
+}
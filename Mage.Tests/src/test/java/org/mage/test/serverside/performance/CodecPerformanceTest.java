@@ -0,0 +1,84 @@
+package org.mage.test.serverside.performance;
+
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.TwoPlayerMatch;
+import mage.game.match.Match;
+import mage.game.match.MatchOptions;
+import mage.game.match.MatchPlayer;
+import mage.players.Player;
+import mage.remote.traffic.Codec;
+import mage.remote.traffic.Codecs;
+import mage.remote.traffic.DeflaterCodec;
+import mage.remote.traffic.GzipCodec;
+import mage.view.CardsView;
+import mage.view.GameView;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Compares the size and the encode/decode time of the codecs for the
+ * compressed callback data on a mid game view.
+ */
+@Ignore
+public class CodecPerformanceTest extends CardTestPlayerBase {
+
+    private static final int RUNS = 2000;
+
+    @Test
+    public void testCodecs() throws Exception {
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 7);
+        addCard(Zone.BATTLEFIELD, playerA, "Island", 7);
+        addCard(Zone.BATTLEFIELD, playerA, "Llanowar Elves", 3);
+        addCard(Zone.BATTLEFIELD, playerA, "Glorious Anthem", 2);
+        addCard(Zone.BATTLEFIELD, playerA, "Silvercoat Lion", 4);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 4);
+        addCard(Zone.GRAVEYARD, playerA, "Lightning Bolt", 3);
+
+        addCard(Zone.BATTLEFIELD, playerB, "Mountain", 7);
+        addCard(Zone.BATTLEFIELD, playerB, "Swamp", 7);
+        addCard(Zone.BATTLEFIELD, playerB, "Bloodfire Colossus", 1);
+        addCard(Zone.BATTLEFIELD, playerB, "Dragon Whelp", 3);
+        addCard(Zone.HAND, playerB, "Lightning Bolt", 4);
+
+        setStopAt(3, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        Match match = new TwoPlayerMatch(new MatchOptions("test", "Two Player Duel", false, 2));
+        for (Player player : currentGame.getPlayers().values()) {
+            player.setMatchPlayer(new MatchPlayer(player, null, match));
+        }
+        GameView gameView = new GameView(currentGame.getState(), currentGame, playerA.getId(), null);
+        gameView.setHand(new CardsView(currentGame, playerA.getHand().getCards(currentGame)));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(gameView);
+        }
+        System.out.println("uncompressed: " + bytes.size() + " bytes");
+
+        measure(Codecs.get(GzipCodec.ID), gameView);
+        measure(Codecs.get(DeflaterCodec.ID), gameView);
+    }
+
+    private void measure(Codec codec, GameView gameView) throws Exception {
+        byte[] data = null;
+        for (int i = 0; i < RUNS / 10; i++) { // warm up
+            data = codec.encode(gameView);
+            codec.decode(data);
+        }
+        long t1 = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            data = codec.encode(gameView);
+        }
+        long t2 = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            codec.decode(data);
+        }
+        long t3 = System.nanoTime();
+        System.out.println(codec.getName() + ": " + data.length + " bytes, encode " + (t2 - t1) / RUNS / 1000 + " us/op, decode " + (t3 - t2) / RUNS / 1000 + " us/op");
+    }
+}
@@ -0,0 +1,48 @@
+package org.mage.test.serverside.performance;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.GameState;
+import mage.util.Copier;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Compares the copy by serialization with the copy method that Copier uses
+ * for Copyable objects.
+ */
+@Ignore
+public class CopierPerformanceTest extends CardTestPlayerBase {
+
+    private static final int COPIES = 500;
+
+    @Test
+    public void testCopyGameState() {
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 7);
+        addCard(Zone.BATTLEFIELD, playerA, "Llanowar Elves", 3);
+        addCard(Zone.BATTLEFIELD, playerA, "Glorious Anthem", 2);
+        addCard(Zone.BATTLEFIELD, playerB, "Mountain", 7);
+        addCard(Zone.BATTLEFIELD, playerB, "Dragon Whelp", 3);
+
+        setStopAt(3, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        GameState state = currentGame.getState();
+        Copier<GameState> copier = new Copier<>();
+
+        long t1 = System.nanoTime();
+        for (int i = 0; i < COPIES; i++) {
+            copier.copySerialized(state);
+        }
+        long t2 = System.nanoTime();
+        System.out.println("Copier.copySerialized: " + (t2 - t1) / COPIES + " ns/copy");
+
+        t1 = System.nanoTime();
+        for (int i = 0; i < COPIES; i++) {
+            copier.copy(state);
+        }
+        t2 = System.nanoTime();
+        System.out.println("Copier.copy: " + (t2 - t1) / COPIES + " ns/copy");
+    }
+}
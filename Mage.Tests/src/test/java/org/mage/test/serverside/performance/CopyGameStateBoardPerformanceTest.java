@@ -0,0 +1,63 @@
+package org.mage.test.serverside.performance;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.GameState;
+import mage.game.GameStates;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Measures the copy costs of a game state with a mid game board (the state
+ * copy is done for each saved state / bookmark).
+ *
+ * Run it on different revisions to compare the copy costs.
+ */
+@Ignore
+public class CopyGameStateBoardPerformanceTest extends CardTestPlayerBase {
+
+    private static final int COPIES = 5000;
+
+    @Test
+    public void testCopyMidGameBoard() {
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 7);
+        addCard(Zone.BATTLEFIELD, playerA, "Island", 7);
+        addCard(Zone.BATTLEFIELD, playerA, "Llanowar Elves", 3);
+        addCard(Zone.BATTLEFIELD, playerA, "Glorious Anthem", 2);
+        addCard(Zone.BATTLEFIELD, playerA, "Silvercoat Lion", 4);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 4);
+
+        addCard(Zone.BATTLEFIELD, playerB, "Mountain", 7);
+        addCard(Zone.BATTLEFIELD, playerB, "Swamp", 7);
+        addCard(Zone.BATTLEFIELD, playerB, "Bloodfire Colossus", 1);
+        addCard(Zone.BATTLEFIELD, playerB, "Dragon Whelp", 3);
+        addCard(Zone.HAND, playerB, "Lightning Bolt", 4);
+
+        setStopAt(3, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        GameState state = currentGame.getState();
+        for (int i = 0; i < COPIES / 10; i++) { // warm up
+            state.copy();
+        }
+
+        long t1 = System.nanoTime();
+        for (int i = 0; i < COPIES; i++) {
+            state.copy();
+        }
+        long t2 = System.nanoTime();
+        System.out.println("GameState.copy: " + (t2 - t1) / COPIES + " ns/copy");
+
+        GameStates states = new GameStates();
+        t1 = System.nanoTime();
+        for (int i = 0; i < COPIES; i++) {
+            states.save(state);
+            if (states.getSize() > 50) {
+                states.clear();
+            }
+        }
+        t2 = System.nanoTime();
+        System.out.println("GameStates.save: " + (t2 - t1) / COPIES + " ns/save");
+    }
+}
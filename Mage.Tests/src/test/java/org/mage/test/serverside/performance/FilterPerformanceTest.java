@@ -0,0 +1,73 @@
+package org.mage.test.serverside.performance;
+
+import java.util.ArrayList;
+import java.util.List;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.filter.FilterPermanent;
+import mage.filter.StaticFilters;
+import mage.filter.predicate.Predicates;
+import mage.game.permanent.Permanent;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Compares the compiled predicates of common filters with the former
+ * evaluation that wrapped the predicate list with Predicates.and for each
+ * match.
+ */
+@Ignore
+public class FilterPerformanceTest extends CardTestPlayerBase {
+
+    private static final int ROUNDS = 20000;
+
+    @Test
+    public void testMatchCommonFilters() {
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 7);
+        addCard(Zone.BATTLEFIELD, playerA, "Llanowar Elves", 3);
+        addCard(Zone.BATTLEFIELD, playerA, "Glorious Anthem", 2);
+        addCard(Zone.BATTLEFIELD, playerB, "Mountain", 7);
+        addCard(Zone.BATTLEFIELD, playerB, "Dragon Whelp", 3);
+        addCard(Zone.BATTLEFIELD, playerB, "Ornithopter", 2);
+
+        setStopAt(3, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        List<FilterPermanent> filters = new ArrayList<>();
+        filters.add(StaticFilters.FILTER_PERMANENT_CREATURE);
+        filters.add(StaticFilters.FILTER_PERMANENT_ARTIFACT_OR_CREATURE);
+        filters.add(StaticFilters.FILTER_CONTROLLED_CREATURE);
+        filters.add(StaticFilters.FILTER_OPPONENTS_PERMANENT_CREATURE);
+        filters.add(StaticFilters.FILTER_LANDS);
+        List<Permanent> permanents = currentGame.getBattlefield().getAllActivePermanents();
+
+        long t1 = System.nanoTime();
+        int matches = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            for (FilterPermanent filter : filters) {
+                for (Permanent permanent : permanents) {
+                    if (Predicates.and(filter.getCompiledPredicates().getComponents()).apply(permanent, currentGame)) {
+                        matches++;
+                    }
+                }
+            }
+        }
+        long t2 = System.nanoTime();
+        System.out.println("Predicates.and per match: " + (t2 - t1) / ROUNDS + " ns/round, matches " + matches);
+
+        t1 = System.nanoTime();
+        matches = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            for (FilterPermanent filter : filters) {
+                for (Permanent permanent : permanents) {
+                    if (filter.match(permanent, currentGame)) {
+                        matches++;
+                    }
+                }
+            }
+        }
+        t2 = System.nanoTime();
+        System.out.println("FilterImpl.match (compiled): " + (t2 - t1) / ROUNDS + " ns/round, matches " + matches);
+    }
+}
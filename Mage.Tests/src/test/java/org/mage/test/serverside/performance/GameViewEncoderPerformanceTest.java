@@ -0,0 +1,90 @@
+package org.mage.test.serverside.performance;
+
+import java.util.ArrayList;
+import java.util.List;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.TwoPlayerMatch;
+import mage.game.match.Match;
+import mage.game.match.MatchOptions;
+import mage.game.match.MatchPlayer;
+import mage.players.Player;
+import mage.view.CardsView;
+import mage.view.GameView;
+import mage.view.GameViewDigests;
+import mage.view.GameViewEncoder;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Compares the time to encode one update for both players and a watcher with
+ * an own digest per receiver and with the digests shared by all receivers.
+ */
+@Ignore
+public class GameViewEncoderPerformanceTest extends CardTestPlayerBase {
+
+    private static final int RUNS = 2000;
+
+    @Test
+    public void testSharedDigests() throws Exception {
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 7);
+        addCard(Zone.BATTLEFIELD, playerA, "Island", 7);
+        addCard(Zone.BATTLEFIELD, playerA, "Llanowar Elves", 3);
+        addCard(Zone.BATTLEFIELD, playerA, "Glorious Anthem", 2);
+        addCard(Zone.BATTLEFIELD, playerA, "Silvercoat Lion", 4);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 4);
+        addCard(Zone.GRAVEYARD, playerA, "Lightning Bolt", 3);
+
+        addCard(Zone.BATTLEFIELD, playerB, "Mountain", 7);
+        addCard(Zone.BATTLEFIELD, playerB, "Swamp", 7);
+        addCard(Zone.BATTLEFIELD, playerB, "Bloodfire Colossus", 1);
+        addCard(Zone.BATTLEFIELD, playerB, "Dragon Whelp", 3);
+        addCard(Zone.HAND, playerB, "Lightning Bolt", 4);
+
+        setStopAt(3, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        Match match = new TwoPlayerMatch(new MatchOptions("test", "Two Player Duel", false, 2));
+        for (Player player : currentGame.getPlayers().values()) {
+            player.setMatchPlayer(new MatchPlayer(player, null, match));
+        }
+
+        measure("own digests", false);
+        measure("shared digests", true);
+    }
+
+    private List<GameView> createViews() {
+        List<GameView> views = new ArrayList<>();
+        for (Player player : currentGame.getPlayers().values()) {
+            GameView gameView = new GameView(currentGame.getState(), currentGame, player.getId(), null);
+            gameView.setHand(new CardsView(currentGame, player.getHand().getCards(currentGame)));
+            views.add(gameView);
+        }
+        views.add(new GameView(currentGame.getState(), currentGame, null, null));
+        return views;
+    }
+
+    private void measure(String name, boolean shared) {
+        List<GameViewEncoder> encoders = new ArrayList<>();
+        for (int i = 0; i < createViews().size(); i++) {
+            encoders.add(new GameViewEncoder());
+        }
+        long time = 0;
+        int hits = 0;
+        for (int run = 0; run < RUNS + RUNS / 10; run++) {
+            List<GameView> views = createViews();
+            encoders.forEach(GameViewEncoder::reset);
+            long start = System.nanoTime();
+            GameViewDigests digests = shared ? new GameViewDigests() : null;
+            for (int i = 0; i < views.size(); i++) {
+                encoders.get(i).encode(views.get(i), digests);
+            }
+            if (run >= RUNS / 10) { // after the warm up
+                time += System.nanoTime() - start;
+                hits += shared ? digests.getHits() : 0;
+            }
+        }
+        System.out.println(name + ": encode " + time / RUNS / 1000 + " us/update, " + hits / RUNS + " shared card views/update");
+    }
+}
@@ -0,0 +1,57 @@
+package org.mage.test.serverside.performance;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Measures the copies per second of a game as done by the AI for each
+ * simulated action, for a normal game and for a simulated game (copied
+ * without the parts only shown to the users).
+ */
+@Ignore
+public class SimulationCopyPerformanceTest extends CardTestPlayerBase {
+
+    private static final int COPIES = 5000;
+
+    @Test
+    public void testCopySimulatedGame() {
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 7);
+        addCard(Zone.BATTLEFIELD, playerA, "Island", 7);
+        addCard(Zone.BATTLEFIELD, playerA, "Llanowar Elves", 3);
+        addCard(Zone.BATTLEFIELD, playerA, "Glorious Anthem", 2);
+        addCard(Zone.BATTLEFIELD, playerA, "Silvercoat Lion", 4);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 4);
+
+        addCard(Zone.BATTLEFIELD, playerB, "Mountain", 7);
+        addCard(Zone.BATTLEFIELD, playerB, "Swamp", 7);
+        addCard(Zone.BATTLEFIELD, playerB, "Bloodfire Colossus", 1);
+        addCard(Zone.BATTLEFIELD, playerB, "Dragon Whelp", 3);
+        addCard(Zone.HAND, playerB, "Lightning Bolt", 4);
+
+        setStopAt(3, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        Game game = currentGame.copy();
+        measure("Game.copy", game);
+
+        Game sim = currentGame.copy();
+        sim.setSimulation(true);
+        measure("Game.copy (simulation)", sim);
+    }
+
+    private void measure(String name, Game game) {
+        for (int i = 0; i < COPIES / 10; i++) { // warm up
+            game.copy();
+        }
+        long t1 = System.nanoTime();
+        for (int i = 0; i < COPIES; i++) {
+            game.copy();
+        }
+        long t2 = System.nanoTime();
+        System.out.println(name + ": " + (long) (COPIES / ((t2 - t1) / 1000000000.0)) + " copies/s");
+    }
+}
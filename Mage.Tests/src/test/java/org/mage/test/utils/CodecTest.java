@@ -0,0 +1,120 @@
+package org.mage.test.utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.List;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.TwoPlayerMatch;
+import mage.game.match.Match;
+import mage.game.match.MatchOptions;
+import mage.game.match.MatchPlayer;
+import mage.players.Player;
+import mage.remote.traffic.Codec;
+import mage.remote.traffic.Codecs;
+import mage.remote.traffic.DeflaterCodec;
+import mage.remote.traffic.GzipCodec;
+import mage.remote.traffic.ZippedObjectImpl;
+import mage.utils.CompressUtil;
+import mage.view.CardsView;
+import mage.view.GameView;
+import mage.view.PlayerView;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Encodes a game view with every {@link Codec} and decodes it again.
+ */
+public class CodecTest extends CardTestPlayerBase {
+
+    private GameView createGameView() {
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 3);
+        addCard(Zone.BATTLEFIELD, playerA, "Silvercoat Lion", 2);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 1);
+        addCard(Zone.BATTLEFIELD, playerB, "Mountain", 2);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        Match match = new TwoPlayerMatch(new MatchOptions("test", "Two Player Duel", false, 2));
+        for (Player player : currentGame.getPlayers().values()) {
+            player.setMatchPlayer(new MatchPlayer(player, null, match));
+        }
+        GameView gameView = new GameView(currentGame.getState(), currentGame, playerA.getId(), null);
+        gameView.setHand(new CardsView(currentGame, playerA.getHand().getCards(currentGame)));
+        return gameView;
+    }
+
+    private void assertSameView(GameView expected, GameView actual) {
+        Assert.assertEquals(expected.getTurn(), actual.getTurn());
+        Assert.assertEquals(expected.getStep(), actual.getStep());
+        Assert.assertEquals(expected.getHand().keySet(), actual.getHand().keySet());
+        Assert.assertEquals(expected.getPlayers().size(), actual.getPlayers().size());
+        for (int i = 0; i < expected.getPlayers().size(); i++) {
+            PlayerView expectedPlayer = expected.getPlayers().get(i);
+            PlayerView actualPlayer = actual.getPlayers().get(i);
+            Assert.assertEquals(expectedPlayer.getName(), actualPlayer.getName());
+            Assert.assertEquals(expectedPlayer.getLife(), actualPlayer.getLife());
+            Assert.assertEquals(expectedPlayer.getBattlefield().keySet(), actualPlayer.getBattlefield().keySet());
+        }
+    }
+
+    private byte[] serialize(Object object) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        GameView gameView = createGameView();
+        for (Codec codec : Arrays.asList(Codecs.get(GzipCodec.ID), Codecs.get(DeflaterCodec.ID))) {
+            GameView decoded = (GameView) codec.decode(codec.encode(gameView));
+            assertSameView(gameView, decoded);
+            // buffers are reused, so a second run must give the same result
+            decoded = (GameView) codec.decode(codec.encode(gameView));
+            assertSameView(gameView, decoded);
+
+            List<String> messages = Arrays.asList("first", "second");
+            Assert.assertEquals(messages, codec.decode(codec.encode(messages)));
+        }
+    }
+
+    @Test
+    public void testCompressedTransfer() throws Exception {
+        GameView gameView = createGameView();
+        Object compressed = CompressUtil.compress(gameView);
+        Assert.assertTrue(compressed instanceof ZippedObjectImpl);
+        Assert.assertTrue("Compressed view must be smaller", serialize(compressed).length < serialize(gameView).length);
+
+        Object transferred;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialize(compressed)))) {
+            transferred = in.readObject();
+        }
+        assertSameView(gameView, (GameView) CompressUtil.decompress(transferred));
+    }
+
+    @Test
+    public void testInvalidLengthIsRejectedBeforeAllocation() throws Exception {
+        Codec codec = Codecs.get(DeflaterCodec.ID);
+        byte[][] payloads = {
+            {0x7f, -1, -1, -1, 1, 2, 3, 4}, // claims 2 GB
+            {-1, -1, -1, -1, 1, 2, 3, 4} // negative
+        };
+        for (byte[] payload : payloads) {
+            try {
+                codec.decode(payload);
+                Assert.fail("length " + payload[0] + " must be rejected");
+            } catch (IOException ex) {
+                // expected
+            }
+        }
+    }
+}
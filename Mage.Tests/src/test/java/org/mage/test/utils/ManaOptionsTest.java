@@ -27,6 +27,7 @@
  */
 package org.mage.test.utils;
 
+import mage.Mana;
 import mage.abilities.mana.ManaOptions;
 import mage.constants.PhaseStep;
 import mage.constants.Zone;
@@ -401,4 +402,28 @@ public class ManaOptionsTest extends CardTestPlayerBase {
         Assert.assertEquals("mana variations don't fit", 1, manaOptions.size());
         assertManaOptions("{B}{B}", manaOptions);
     }
+
+    @Test
+    public void testCalculatedManaIsReusedUntilSourcesChange() {
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 2);
+        addCard(Zone.BATTLEFIELD, playerA, "Plains", 1);
+
+        setStopAt(1, PhaseStep.UPKEEP);
+        execute();
+
+        ManaOptions manaOptions = playerA.getManaAvailable(currentGame);
+        Assert.assertEquals("mana variations don't fit", 1, manaOptions.size());
+        assertManaOptions("{W}{G}{G}", manaOptions);
+
+        // the result of the last calculation must not change with the returned options
+        manaOptions.addMana(Mana.RedMana(1));
+        manaOptions = playerA.getManaAvailable(currentGame);
+        Assert.assertEquals("mana variations don't fit", 1, manaOptions.size());
+        assertManaOptions("{W}{G}{G}", manaOptions);
+
+        getPermanent("Forest", playerA).tap(currentGame);
+        manaOptions = playerA.getManaAvailable(currentGame);
+        Assert.assertEquals("mana variations don't fit", 1, manaOptions.size());
+        assertManaOptions("{W}{G}", manaOptions);
+    }
 }
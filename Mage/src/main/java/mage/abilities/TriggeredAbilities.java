@@ -34,6 +34,7 @@ import mage.MageObject;
 import mage.constants.Zone;
 import mage.game.Game;
 import mage.game.events.GameEvent;
+import mage.game.events.GameEvent.EventType;
 import mage.game.events.NumberOfTriggersEvent;
 import mage.game.permanent.Permanent;
 import mage.game.stack.Spell;
@@ -44,11 +45,26 @@ import mage.game.stack.Spell;
  * This class uses ConcurrentHashMap to avoid ConcurrentModificationExceptions.
  * See ticket https://github.com/magefree/mage/issues/966 and
  * https://github.com/magefree/mage/issues/473
+ * <p>
+ * The abilities are indexed by the event types they check (see
+ * {@link TriggeredAbility#checkEventType}), so for an event only the abilities
+ * interested in its type are checked. The index of an event type is built with
+ * the first event of that type and is not copied with the state.
  */
 public class TriggeredAbilities extends ConcurrentHashMap<String, TriggeredAbility> {
 
     private final Map<String, List<UUID>> sources = new HashMap<>();
 
+    // event type -> keys of the abilities that check events of this type
+    private transient Map<EventType, Set<String>> eventTypeIndex;
+    // first event of each indexed type, used to index abilities added later
+    private transient Map<EventType, GameEvent> indexedEvents;
+    // keys of the abilities added since the last check, not indexed yet
+    private transient Set<String> notIndexed;
+
+    private transient long checkedEvents;
+    private transient long checkedAbilities;
+
     public TriggeredAbilities() {
     }
 
@@ -71,12 +87,88 @@ public class TriggeredAbilities extends ConcurrentHashMap<String, TriggeredAbili
     }
 
     public void checkTriggers(GameEvent event, Game game) {
-        for (Iterator<TriggeredAbility> it = this.values().iterator(); it.hasNext();) {
-            TriggeredAbility ability = it.next();
-            if (ability.checkEventType(event, game)) {
-                checkTrigger(ability, event, game);
+        checkedEvents++;
+        if (eventTypeIndex == null) {
+            eventTypeIndex = new EnumMap<>(EventType.class);
+            indexedEvents = new EnumMap<>(EventType.class);
+        }
+        updateIndex(game);
+        Set<String> keys = eventTypeIndex.get(event.getType());
+        if (keys == null) {
+            keys = new LinkedHashSet<>();
+            for (Map.Entry<String, TriggeredAbility> entry : this.entrySet()) {
+                if (entry.getValue().checkEventType(event, game)) {
+                    keys.add(entry.getKey());
+                }
+            }
+            checkedAbilities += this.size();
+            eventTypeIndex.put(event.getType(), keys);
+            indexedEvents.put(event.getType(), event);
+        }
+        for (String key : keys.toArray(new String[keys.size()])) {
+            TriggeredAbility ability = this.get(key);
+            if (ability == null) { // removed in the meantime
+                keys.remove(key);
+                continue;
+            }
+            checkedAbilities++;
+            checkTrigger(ability, event, game);
+        }
+    }
+
+    private void updateIndex(Game game) {
+        if (notIndexed == null || notIndexed.isEmpty()) {
+            return;
+        }
+        for (String key : notIndexed) {
+            TriggeredAbility ability = this.get(key);
+            for (Map.Entry<EventType, Set<String>> entry : eventTypeIndex.entrySet()) {
+                if (ability != null && ability.checkEventType(indexedEvents.get(entry.getKey()), game)) {
+                    entry.getValue().add(key);
+                } else {
+                    entry.getValue().remove(key);
+                }
             }
         }
+        notIndexed.clear();
+    }
+
+    @Override
+    public TriggeredAbility put(String key, TriggeredAbility ability) {
+        if (eventTypeIndex != null) {
+            if (notIndexed == null) {
+                notIndexed = new LinkedHashSet<>();
+            }
+            notIndexed.add(key);
+        }
+        return super.put(key, ability);
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        eventTypeIndex = null;
+        indexedEvents = null;
+        notIndexed = null;
+    }
+
+    /**
+     * Only used for diagnostic purposes
+     *
+     * @return number of events checked for triggers
+     */
+    public long getCheckedEvents() {
+        return checkedEvents;
+    }
+
+    /**
+     * Only used for diagnostic purposes
+     *
+     * @return number of abilities checked for the events, including the
+     * abilities checked to index an event type
+     */
+    public long getCheckedAbilities() {
+        return checkedAbilities;
     }
 
     private void checkTrigger(TriggeredAbility ability, GameEvent event, Game game) {
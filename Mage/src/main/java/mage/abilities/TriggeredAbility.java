@@ -42,7 +42,11 @@ public interface TriggeredAbility extends Ability {
     /**
      * This check for the relevant event types is called at first to prevent
      * further actions if the current event is ignored from this triggered
-     * ability
+     * ability.
+     *
+     * The result may only depend on the event type, because it's cached per
+     * event type (see TriggeredAbilities). All other checks of the event have
+     * to be done in checkTrigger.
      *
      * @param event
      * @param game
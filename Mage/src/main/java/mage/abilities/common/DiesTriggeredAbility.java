@@ -55,8 +55,12 @@ public class DiesTriggeredAbility extends ZoneChangeTriggeredAbility {
 
     @Override
     public boolean isInUseableZone(Game game, MageObject source, GameEvent event) {
+        ZoneChangeEvent zEvent = (ZoneChangeEvent) event;
+        if (zEvent.getFromZone() != Zone.BATTLEFIELD || zEvent.getToZone() != Zone.GRAVEYARD) {
+            return false;
+        }
         // check it was previously on battlefield
-        Permanent before = ((ZoneChangeEvent) event).getTarget();
+        Permanent before = zEvent.getTarget();
         if (before == null) {
             return false;
         }
@@ -73,14 +77,6 @@ public class DiesTriggeredAbility extends ZoneChangeTriggeredAbility {
         }
     }
 
-    @Override
-    public boolean checkEventType(GameEvent event, Game game) {
-        if (super.checkEventType(event, game)) {
-            return ((ZoneChangeEvent) event).getFromZone() == Zone.BATTLEFIELD && ((ZoneChangeEvent) event).getToZone() == Zone.GRAVEYARD;
-        }
-        return false;
-    }
-
     @Override
     public DiesTriggeredAbility copy() {
         return new DiesTriggeredAbility(this);
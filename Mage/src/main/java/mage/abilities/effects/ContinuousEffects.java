@@ -30,7 +30,6 @@ package mage.abilities.effects;
 import java.io.Serializable;
 import java.util.*;
 import java.util.Map.Entry;
-import java.util.stream.Collectors;
 import mage.MageObject;
 import mage.abilities.*;
 import mage.abilities.effects.common.continuous.BecomesFaceDownCreatureEffect;
@@ -82,7 +81,8 @@ public class ContinuousEffects implements Serializable {
 //    private final PlaneswalkerRedirectionEffect planeswalkerRedirectionEffect;
     private final AuraReplacementEffect auraReplacementEffect;
 
-    private final List<ContinuousEffect> previous = new ArrayList<>();
+    // effects returned by the last getLayeredEffects call (effects don't override equals, so it's an identity check)
+    private final Set<ContinuousEffect> previous = new HashSet<>();
 
     // note all effect/abilities that were only added temporary
     private final Map<ContinuousEffect, Set<Ability>> temporaryEffects = new HashMap<>();
@@ -244,7 +244,13 @@ public class ContinuousEffects implements Serializable {
     }
 
     private List<ContinuousEffect> filterLayeredEffects(List<ContinuousEffect> effects, Layer layer) {
-        return effects.stream().filter(effect -> effect.hasLayer(layer)).collect(Collectors.toList());
+        List<ContinuousEffect> layerEffects = new ArrayList<>();
+        for (ContinuousEffect effect : effects) {
+            if (effect.hasLayer(layer)) {
+                layerEffects.add(effect);
+            }
+        }
+        return layerEffects;
     }
 
     public Map<RequirementEffect, Set<Ability>> getApplicableRequirementEffects(Permanent permanent, boolean playerRealted, Game game) {
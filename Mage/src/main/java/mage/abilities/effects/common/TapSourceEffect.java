@@ -67,6 +67,7 @@ public class TapSourceEffect extends OneShotEffect {
         if (permanent != null) {
             if (withoutTrigger) {
                 permanent.setTapped(true);
+                game.getBattlefield().invalidateIndexes();
             } else {
                 permanent.tap(game);
             }
@@ -134,6 +134,7 @@ class NinjutsuEffect extends OneShotEffect {
                 if (defendingPlayerId != null) {
                     game.getCombat().addAttackerToCombat(permanent.getId(), defendingPlayerId, game);
                     permanent.setTapped(true);
+                    game.getBattlefield().invalidateIndexes();
                     return true;
                 }
             }
@@ -28,6 +28,7 @@
 package mage.abilities.mana;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -331,17 +332,122 @@ public class ManaOptions extends ArrayList<Mana> {
     }
 
 
-    public void removeDuplicated(){
-        Set<String> list = new HashSet<>();
+    /**
+     * Removes the options with the same amount of mana of each type, the
+     * last option is kept
+     */
+    public void removeDuplicated() {
+        Set<ManaKey> keys = new HashSet<>();
+        List<Mana> unique = new ArrayList<>(this.size());
+        for (int i = this.size() - 1; i >= 0; i--) {
+            if (keys.add(new ManaKey(this.get(i)))) {
+                unique.add(this.get(i));
+            }
+        }
+        if (unique.size() < this.size()) {
+            Collections.reverse(unique);
+            this.clear();
+            this.addAll(unique);
+        }
+    }
 
-        for(int i = this.size() - 1; i >= 0; i--){
-            String s = this.get(i).toString();
-            if (list.contains(s)){
-                // remove duplicated
-                this.remove(i);
-            }else{
-                list.add(s);
+    /**
+     * Removes the options that have in every mana type less or equal mana
+     * than another option (and duplicates). All costs that can be paid with a
+     * removed option can be paid with the option that dominates it.
+     *
+     * Only for options of available mana, not for options of costs.
+     */
+    public void removeDominated() {
+        if (this.size() < 2) {
+            return;
+        }
+        removeDuplicated();
+        List<Mana> kept = new ArrayList<>(this.size());
+        for (int i = 0; i < this.size(); i++) {
+            Mana mana = this.get(i);
+            boolean dominated = false;
+            for (int j = 0; j < this.size(); j++) {
+                if (i != j && dominates(this.get(j), mana)) {
+                    dominated = true;
+                    break;
+                }
             }
+            if (!dominated) {
+                kept.add(mana);
+            }
+        }
+        if (kept.size() < this.size()) {
+            this.clear();
+            this.addAll(kept);
+        }
+    }
+
+    /**
+     * @return true if mana has in every type at least the mana of other (after
+     * removeDuplicated there are no equal options)
+     */
+    private static boolean dominates(Mana mana, Mana other) {
+        return mana.getWhite() >= other.getWhite()
+                && mana.getBlue() >= other.getBlue()
+                && mana.getBlack() >= other.getBlack()
+                && mana.getRed() >= other.getRed()
+                && mana.getGreen() >= other.getGreen()
+                && mana.getColorless() >= other.getColorless()
+                && mana.getGeneric() >= other.getGeneric()
+                && mana.getAny() >= other.getAny();
+    }
+
+    /**
+     * Amount of mana of each type of an option, used to find equal options
+     * without comparing their text
+     */
+    private static final class ManaKey {
+
+        private final int white;
+        private final int blue;
+        private final int black;
+        private final int red;
+        private final int green;
+        private final int colorless;
+        private final int generic;
+        private final int any;
+
+        ManaKey(Mana mana) {
+            this.white = mana.getWhite();
+            this.blue = mana.getBlue();
+            this.black = mana.getBlack();
+            this.red = mana.getRed();
+            this.green = mana.getGreen();
+            this.colorless = mana.getColorless();
+            this.generic = mana.getGeneric();
+            this.any = mana.getAny();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ManaKey)) {
+                return false;
+            }
+            ManaKey key = (ManaKey) o;
+            return white == key.white && blue == key.blue && black == key.black && red == key.red
+                    && green == key.green && colorless == key.colorless && generic == key.generic && any == key.any;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = white;
+            result = 31 * result + blue;
+            result = 31 * result + black;
+            result = 31 * result + red;
+            result = 31 * result + green;
+            result = 31 * result + colorless;
+            result = 31 * result + generic;
+            result = 31 * result + any;
+            return result;
         }
     }
 }
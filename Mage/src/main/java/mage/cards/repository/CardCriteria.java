@@ -335,4 +335,151 @@ public class CardCriteria {
             qb.orderBy(sortBy, true);
         }
     }
+
+    /**
+     * @return true if the in-memory card index can answer the criteria, that
+     * is no sort order and no SQL wildcards in the text conditions
+     */
+    boolean isIndexable() {
+        if (sortBy != null) {
+            return false;
+        }
+        if (hasWildcard(name) || hasWildcard(nameExact) || hasWildcard(rules)) {
+            return false;
+        }
+        for (List<String> texts : Arrays.asList(supertypes, notSupertypes, subtypes)) {
+            for (String text : texts) {
+                if (hasWildcard(text)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return bits (by ordinal) of the types of which a card must have one,
+     * 0 if the type isn't restricted
+     */
+    int getTypeBits() {
+        int bits = 0;
+        if (types.size() != 7) {
+            for (CardType type : types) {
+                bits |= 1 << type.ordinal();
+            }
+        }
+        return bits;
+    }
+
+    List<String> getSetCodes() {
+        return setCodes;
+    }
+
+    String getNameExact() {
+        return nameExact;
+    }
+
+    Long getStart() {
+        return start;
+    }
+
+    Long getCount() {
+        return count;
+    }
+
+    /**
+     * Checks a card the same way as the query of {@link #buildQuery}, without
+     * start and count
+     *
+     * @param card
+     * @return
+     */
+    boolean matches(CardInfo card) {
+        if (card.nightCard || card.splitCardHalf) {
+            return false;
+        }
+        if (name != null && !like(card.name, name)) {
+            return false;
+        }
+        if (nameExact != null && !nameExact.equals(card.name)) {
+            return false;
+        }
+        if (rules != null && !like(card.rules, rules)) {
+            return false;
+        }
+        if (doubleFaced != null && card.doubleFaced != doubleFaced) {
+            return false;
+        }
+        if (!rarities.isEmpty() && !rarities.contains(card.rarity)) {
+            return false;
+        }
+        if (!setCodes.isEmpty() && !setCodes.contains(card.setCode)) {
+            return false;
+        }
+        if (types.size() != 7 && !types.isEmpty()) {
+            boolean found = false;
+            for (CardType type : types) {
+                if (like(card.types, type.name())) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        for (CardType type : notTypes) {
+            if (!notLike(card.types, type.name())) {
+                return false;
+            }
+        }
+        for (String superType : supertypes) {
+            if (!like(card.supertypes, superType)) {
+                return false;
+            }
+        }
+        for (String superType : notSupertypes) {
+            if (!notLike(card.supertypes, superType)) {
+                return false;
+            }
+        }
+        for (String subType : subtypes) {
+            if (!like(card.subtypes, subType)) {
+                return false;
+            }
+        }
+        if (convertedManaCost != null && card.convertedManaCost != convertedManaCost) {
+            return false;
+        }
+        // as in buildQuery, no color condition if all color flags are off
+        if ((!black || !blue || !green || !red || !white || !colorless)
+                && (black || blue || green || red || white || colorless)) {
+            boolean isColorless = !card.black && !card.blue && !card.green && !card.red && !card.white;
+            if (!(black && card.black || blue && card.blue || green && card.green
+                    || red && card.red || white && card.white || colorless && isColorless)) {
+                return false;
+            }
+        }
+        if (minCardNumber != Integer.MIN_VALUE && card.getCardNumberAsInt() < minCardNumber) {
+            return false;
+        }
+        if (maxCardNumber != Integer.MAX_VALUE && card.getCardNumberAsInt() > maxCardNumber) {
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean hasWildcard(String text) {
+        return text != null && (text.indexOf('%') >= 0 || text.indexOf('_') >= 0 || text.indexOf('\\') >= 0);
+    }
+
+    // like '%part%', null never matches as in SQL
+    private static boolean like(String value, String part) {
+        return value != null && value.contains(part);
+    }
+
+    // not like '%part%', null never matches as in SQL
+    private static boolean notLike(String value, String part) {
+        return value != null && !value.contains(part);
+    }
 }
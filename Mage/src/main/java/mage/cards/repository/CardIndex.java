@@ -0,0 +1,121 @@
+package mage.cards.repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import mage.constants.CardType;
+
+/**
+ * Immutable in-memory index of all cards of the card database, so the
+ * frequent lookups by name, set and number or {@link CardCriteria} of deck
+ * loading, boosters and the deck editor don't need a SQL query.
+ *
+ * {@link CardRepository} builds it on first use and drops it if cards are
+ * added or the content version changes.
+ */
+final class CardIndex {
+
+    private final List<CardInfo> cards;
+    private final int[] typeBits; // per card, bits by CardType ordinal
+    private final Map<CardInfo, Integer> positions;
+    private final Map<String, List<CardInfo>> byName;
+    private final Map<String, List<CardInfo>> byLowerName;
+    private final Map<String, List<CardInfo>> bySet;
+    private final Map<String, CardInfo> bySetAndNumber;
+
+    CardIndex(List<CardInfo> allCards) {
+        this.cards = new ArrayList<>(allCards);
+        this.typeBits = new int[cards.size()];
+        this.positions = new IdentityHashMap<>(cards.size() * 2);
+        Map<String, List<CardInfo>> names = new HashMap<>();
+        Map<String, List<CardInfo>> lowerNames = new HashMap<>();
+        Map<String, List<CardInfo>> sets = new HashMap<>();
+        Map<String, CardInfo> setAndNumbers = new HashMap<>();
+        for (int i = 0; i < cards.size(); i++) {
+            CardInfo card = cards.get(i);
+            positions.put(card, i);
+            for (CardType type : CardType.values()) {
+                if (card.types != null && card.types.contains(type.name())) {
+                    typeBits[i] |= 1 << type.ordinal();
+                }
+            }
+            if (card.name != null) {
+                names.computeIfAbsent(card.name, key -> new ArrayList<>(1)).add(card);
+                lowerNames.computeIfAbsent(card.name.toLowerCase(Locale.ENGLISH), key -> new ArrayList<>(1)).add(card);
+            }
+            sets.computeIfAbsent(card.setCode, key -> new ArrayList<>()).add(card);
+            if (!card.nightCard) {
+                setAndNumbers.putIfAbsent(card.setCode + '|' + card.cardNumber, card);
+            }
+        }
+        this.byName = names;
+        this.byLowerName = lowerNames;
+        this.bySet = sets;
+        this.bySetAndNumber = setAndNumbers;
+    }
+
+    List<CardInfo> findCards(String name) {
+        return copy(byName.get(name));
+    }
+
+    List<CardInfo> findCardsCaseInsensitive(String name) {
+        return copy(byLowerName.get(name.toLowerCase(Locale.ENGLISH)));
+    }
+
+    CardInfo findCard(String setCode, String cardNumber) {
+        return bySetAndNumber.get(setCode + '|' + cardNumber);
+    }
+
+    /**
+     * @param criteria must be indexable (see {@link CardCriteria#isIndexable()})
+     * @return matching cards in database order
+     */
+    List<CardInfo> findCards(CardCriteria criteria) {
+        List<CardInfo> candidates;
+        if (criteria.getNameExact() != null) {
+            candidates = byName.getOrDefault(criteria.getNameExact(), Collections.emptyList());
+        } else if (!criteria.getSetCodes().isEmpty()) {
+            candidates = new ArrayList<>();
+            for (String setCode : criteria.getSetCodes()) {
+                candidates.addAll(bySet.getOrDefault(setCode, Collections.emptyList()));
+            }
+            if (criteria.getSetCodes().size() > 1) {
+                candidates.sort((one, two) -> Integer.compare(positions.get(one), positions.get(two)));
+            }
+        } else {
+            candidates = cards;
+        }
+        int requiredTypes = criteria.getTypeBits();
+        long skip = criteria.getStart() != null ? criteria.getStart() : 0;
+        long limit = criteria.getCount() != null ? criteria.getCount() : Long.MAX_VALUE;
+        List<CardInfo> result = new ArrayList<>();
+        for (CardInfo card : candidates) {
+            if (result.size() >= limit) {
+                break;
+            }
+            if (requiredTypes != 0 && (typeBits[positions.get(card)] & requiredTypes) == 0) {
+                continue;
+            }
+            if (criteria.matches(card)) {
+                if (skip > 0) {
+                    skip--;
+                } else {
+                    result.add(card);
+                }
+            }
+        }
+        return result;
+    }
+
+    int size() {
+        return cards.size();
+    }
+
+    private static List<CardInfo> copy(List<CardInfo> cards) {
+        return cards == null ? new ArrayList<>() : new ArrayList<>(cards);
+    }
+}
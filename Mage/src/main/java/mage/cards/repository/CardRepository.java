@@ -43,6 +43,7 @@ import java.util.*;
 import mage.cards.CardSetInfo;
 import mage.constants.CardType;
 import mage.constants.SetType;
+import mage.util.Metrics;
 import mage.util.RandomUtil;
 import org.apache.log4j.Logger;
 
@@ -53,6 +54,7 @@ public enum CardRepository {
 
     instance;
 
+    private static final Metrics.Timer QUERY_TIMER = Metrics.instance.timer("db_card_query");
     private static final String JDBC_URL = "jdbc:h2:file:./db/cards.h2;AUTO_SERVER=TRUE";
     private static final String VERSION_ENTITY_NAME = "card";
     // raise this if db structure was changed
@@ -61,6 +63,7 @@ public enum CardRepository {
     private static final long CARD_CONTENT_VERSION = 109;
     private Dao<CardInfo, Object> cardDao;
     private Set<String> classNames;
+    private volatile CardIndex cardIndex; // built on first use, dropped if the cards change
 
     CardRepository() {
         File file = new File("db");
@@ -73,6 +76,7 @@ public enum CardRepository {
 
             if (obsolete) {
                 TableUtils.dropTable(connectionSource, CardInfo.class, true);
+                RepositoryUtil.updateVersion(connectionSource, CardScanner.CHECKSUM_ENTITY, 0);
             }
 
             TableUtils.createTableIfNotExists(connectionSource, CardInfo.class);
@@ -99,6 +103,33 @@ public enum CardRepository {
             });
         } catch (Exception ex) {
         }
+        cardIndex = null;
+    }
+
+    /**
+     * @return index of all cards, null if the cards can't be read from the
+     * DB
+     */
+    private CardIndex getCardIndex() {
+        CardIndex index = cardIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = cardIndex;
+                if (index == null) {
+                    long start = QUERY_TIMER.start();
+                    try {
+                        index = new CardIndex(cardDao.queryForAll());
+                        cardIndex = index;
+                        Logger.getLogger(CardRepository.class).debug("Card index built with " + index.size() + " cards");
+                    } catch (SQLException ex) {
+                        Logger.getLogger(CardRepository.class).error("Error building card index - ", ex);
+                    } finally {
+                        QUERY_TIMER.stop(start);
+                    }
+                }
+            }
+        }
+        return index;
     }
 
     public boolean cardExists(String className) {
@@ -273,6 +304,10 @@ public enum CardRepository {
     }
 
     public CardInfo findCard(String setCode, String cardNumber) {
+        CardIndex index = getCardIndex();
+        if (index != null) {
+            return index.findCard(setCode, cardNumber);
+        }
         try {
             QueryBuilder<CardInfo, Object> queryBuilder = cardDao.queryBuilder();
             queryBuilder.limit(1L).where().eq("setCode", new SelectArg(setCode)).and().eq("cardNumber", cardNumber).and().eq("nightCard", false);
@@ -386,16 +421,28 @@ public enum CardRepository {
     }
 
     public List<CardInfo> findCards(String name) {
+        CardIndex index = getCardIndex();
+        if (index != null) {
+            return index.findCards(name);
+        }
+        long start = QUERY_TIMER.start();
         try {
             QueryBuilder<CardInfo, Object> queryBuilder = cardDao.queryBuilder();
             queryBuilder.where().eq("name", new SelectArg(name));
             return cardDao.query(queryBuilder.prepare());
         } catch (SQLException ex) {
+        } finally {
+            QUERY_TIMER.stop(start);
         }
         return Collections.emptyList();
     }
 
     public List<CardInfo> findCardsCaseInsensitive(String name) {
+        CardIndex index = getCardIndex();
+        if (index != null) {
+            return index.findCardsCaseInsensitive(name);
+        }
+        long start = QUERY_TIMER.start();
         try {
             String sqlName = name.toLowerCase(Locale.ENGLISH).replaceAll("\'", "\'\'");
             GenericRawResults<CardInfo> rawResults = cardDao.queryRaw(
@@ -408,11 +455,18 @@ public enum CardRepository {
             return result;
         } catch (SQLException ex) {
             Logger.getLogger(CardRepository.class).error("Error during execution of raw sql statement", ex);
+        } finally {
+            QUERY_TIMER.stop(start);
         }
         return Collections.emptyList();
     }
 
     public List<CardInfo> findCards(CardCriteria criteria) {
+        CardIndex index = criteria.isIndexable() ? getCardIndex() : null;
+        if (index != null) {
+            return index.findCards(criteria);
+        }
+        long start = QUERY_TIMER.start();
         try {
             QueryBuilder<CardInfo, Object> queryBuilder = cardDao.queryBuilder();
             criteria.buildQuery(queryBuilder);
@@ -420,6 +474,8 @@ public enum CardRepository {
             return cardDao.query(queryBuilder.prepare());
         } catch (SQLException ex) {
             Logger.getLogger(CardRepository.class).error("Error during execution of card repository query statement", ex);
+        } finally {
+            QUERY_TIMER.stop(start);
         }
         return Collections.emptyList();
     }
@@ -438,6 +494,7 @@ public enum CardRepository {
         try {
             ConnectionSource connectionSource = new JdbcConnectionSource(JDBC_URL);
             RepositoryUtil.updateVersion(connectionSource, VERSION_ENTITY_NAME + "Content", version);
+            cardIndex = null;
         } catch (SQLException ex) {
             Logger.getLogger(CardRepository.class).error("Error getting content version - ", ex);
         }
@@ -447,6 +504,29 @@ public enum CardRepository {
         return CARD_CONTENT_VERSION;
     }
 
+    /**
+     * @return checksum of the sets and cards of the last complete card scan,
+     * 0 if unknown
+     */
+    public long getScanChecksum() {
+        try {
+            ConnectionSource connectionSource = new JdbcConnectionSource(JDBC_URL);
+            return RepositoryUtil.getDatabaseVersion(connectionSource, CardScanner.CHECKSUM_ENTITY);
+        } catch (SQLException ex) {
+            Logger.getLogger(CardRepository.class).error("Error getting scan checksum from DB - ", ex);
+        }
+        return 0;
+    }
+
+    public void setScanChecksum(long checksum) {
+        try {
+            ConnectionSource connectionSource = new JdbcConnectionSource(JDBC_URL);
+            RepositoryUtil.updateVersion(connectionSource, CardScanner.CHECKSUM_ENTITY, checksum);
+        } catch (SQLException ex) {
+            Logger.getLogger(CardRepository.class).error("Error setting scan checksum - ", ex);
+        }
+    }
+
     public void closeDB() {
         try {
             if (cardDao != null && cardDao.getConnectionSource() != null) {
@@ -460,6 +540,7 @@ public enum CardRepository {
     }
 
     public void openDB() {
+        cardIndex = null;
         try {
             ConnectionSource connectionSource = new JdbcConnectionSource(JDBC_URL);
             cardDao = DaoManager.createDao(connectionSource, CardInfo.class);
@@ -27,12 +27,22 @@
  */
 package mage.cards.repository;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import mage.cards.*;
 import org.apache.log4j.Logger;
 
 /**
+ * Adds the sets and cards of the set classes that are missing in the DB.
+ *
+ * A checksum of all sets and set card infos is saved after a complete scan.
+ * If it didn't change since the last start, the DB is up to date and the
+ * scan is skipped, so the cards aren't checked one by one.
  *
  * @author North
  */
@@ -42,6 +52,9 @@ public final class CardScanner {
 
     private static final Logger logger = Logger.getLogger(CardScanner.class);
 
+    // DB version entry of the checksum, reset if the card or expansion table is recreated
+    static final String CHECKSUM_ENTITY = "cardScanChecksum";
+
     public static void scan() {
         scan(null);
     }
@@ -52,6 +65,13 @@ public final class CardScanner {
         }
         scanned = true;
 
+        long checksum = getChecksum();
+        if (checksum != 0 && checksum == CardRepository.instance.getScanChecksum()) {
+            logger.info("DB: sets and cards are up to date");
+            return;
+        }
+
+        boolean complete = true;
         List<CardInfo> cardsToAdd = new ArrayList<>();
         int setsUpdatedCount = 0;
         int setsAddedCount = 0;
@@ -95,6 +115,8 @@ public final class CardScanner {
                             cardsToAdd.add(new CardInfo(splitCard.getLeftHalfCard()));
                             cardsToAdd.add(new CardInfo(splitCard.getRightHalfCard()));
                         }
+                    } else {
+                        complete = false;
                     }
                 }
             }
@@ -105,5 +127,43 @@ public final class CardScanner {
             CardRepository.instance.addCards(cardsToAdd);
         }
         CardRepository.instance.setContentVersion(CardRepository.instance.getContentVersionConstant());
+        if (complete) { // cards that couldn't be created are tried again on next start
+            CardRepository.instance.setScanChecksum(checksum);
+        }
+    }
+
+    /**
+     * @return checksum of everything the scan writes to the DB, 0 if it
+     * can't be calculated
+     */
+    private static long getChecksum() {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            return 0;
+        }
+        update(digest, CardRepository.instance.getContentVersionConstant());
+        update(digest, ExpansionRepository.instance.getContentVersionConstant());
+        List<ExpansionSet> sets = new ArrayList<>(Sets.getInstance().values());
+        sets.sort(Comparator.comparing(ExpansionSet::getCode));
+        for (ExpansionSet set : sets) {
+            update(digest, set.getCode(), set.getName(), set.getBlockName(), set.getReleaseDate(),
+                    set.getSetType(), set.hasBoosters(), set.hasBasicLands());
+            for (ExpansionSet.SetCardInfo setInfo : set.getSetCardInfo()) {
+                CardGraphicInfo graphicInfo = setInfo.getGraphicInfo();
+                update(digest, setInfo.getName(), setInfo.getCardNumber(), setInfo.getRarity(), setInfo.getCardClass().getName(),
+                        graphicInfo == null ? null : graphicInfo.getFrameStyle() + " " + graphicInfo.getFrameColor() + ' ' + graphicInfo.getUsesVariousArt());
+            }
+        }
+        long checksum = ByteBuffer.wrap(digest.digest()).getLong();
+        return checksum != 0 ? checksum : 1;
+    }
+
+    private static void update(MessageDigest digest, Object... values) {
+        for (Object value : values) {
+            digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
     }
 }
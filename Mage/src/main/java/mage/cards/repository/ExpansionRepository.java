@@ -44,6 +44,7 @@ public enum ExpansionRepository {
 
             if (obsolete) {
                 TableUtils.dropTable(connectionSource, ExpansionInfo.class, true);
+                RepositoryUtil.updateVersion(connectionSource, CardScanner.CHECKSUM_ENTITY, 0);
             }
 
             TableUtils.createTableIfNotExists(connectionSource, ExpansionInfo.class);
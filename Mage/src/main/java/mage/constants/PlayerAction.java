@@ -85,5 +85,6 @@ public enum PlayerAction {
     HOLD_PRIORITY,
     UNHOLD_PRIORITY,
     VIEW_LIMITED_DECK,
+    REQUEST_FULL_GAME_VIEW,
     TOGGLE_RECORD_MACRO
 }
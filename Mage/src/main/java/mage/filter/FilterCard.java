@@ -33,6 +33,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import mage.cards.Card;
+import mage.filter.predicate.CompiledPredicate;
 import mage.filter.predicate.ObjectPlayer;
 import mage.filter.predicate.ObjectPlayerPredicate;
 import mage.filter.predicate.ObjectSourcePlayer;
@@ -47,6 +48,7 @@ public class FilterCard extends FilterObject<Card> {
 
     private static final long serialVersionUID = 1L;
     protected List<ObjectPlayerPredicate<ObjectPlayer<Card>>> extraPredicates = new ArrayList<>();
+    private transient CompiledPredicate<ObjectPlayer<Card>> compiledExtraPredicates;
 
     public FilterCard() {
         super("card");
@@ -83,14 +85,14 @@ public class FilterCard extends FilterObject<Card> {
             return false;
         }
 
-        return Predicates.and(extraPredicates).apply(new ObjectPlayer(card, playerId), game);
+        return getCompiledExtraPredicates().apply(new ObjectPlayer(card, playerId), game);
     }
 
     public boolean match(Card card, UUID sourceId, UUID playerId, Game game) {
         if (!this.match(card, game)) {
             return false;
         }
-        return Predicates.and(extraPredicates).apply(new ObjectSourcePlayer(card, sourceId, playerId), game);
+        return getCompiledExtraPredicates().apply(new ObjectSourcePlayer(card, sourceId, playerId), game);
     }
 
     public void add(ObjectPlayerPredicate predicate) {
@@ -106,6 +108,12 @@ public class FilterCard extends FilterObject<Card> {
         return !predicates.isEmpty();
     }
 
+    private CompiledPredicate<ObjectPlayer<Card>> getCompiledExtraPredicates() {
+        CompiledPredicate<ObjectPlayer<Card>> compiled = Predicates.compile(extraPredicates, compiledExtraPredicates);
+        compiledExtraPredicates = compiled;
+        return compiled;
+    }
+
     @Override
     public FilterCard copy() {
         return new FilterCard(this);
@@ -28,7 +28,9 @@
 package mage.filter;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import mage.filter.predicate.CompiledPredicate;
 import mage.filter.predicate.Predicate;
 import mage.filter.predicate.Predicates;
 import mage.game.Game;
@@ -44,6 +46,7 @@ public abstract class FilterImpl<E> implements Filter<E> {
     protected List<Predicate<Object>> predicates = new ArrayList<>();
     protected String message;
     protected boolean lockedFilter = false; // Helps to prevent to "accidently" modify the StaticFilters objects
+    private transient CompiledPredicate<Object> compiledPredicates; // shared by all games for the StaticFilters objects
 
     @Override
     public abstract FilterImpl<E> copy();
@@ -61,7 +64,7 @@ public abstract class FilterImpl<E> implements Filter<E> {
     @Override
     public boolean match(E e, Game game) {
         if (checkObjectClass(e)) {
-            return Predicates.and(predicates).apply(e, game);
+            return getCompiledPredicates().apply(e, game);
         }
         return false;
     }
@@ -75,6 +78,20 @@ public abstract class FilterImpl<E> implements Filter<E> {
         return this;
     }
 
+    public List<Predicate<Object>> getPredicates() {
+        return Collections.unmodifiableList(predicates);
+    }
+
+    /**
+     * @return the predicates as one predicate with the cheap predicates first
+     * @see Predicates#compile(List, CompiledPredicate)
+     */
+    public CompiledPredicate<Object> getCompiledPredicates() {
+        CompiledPredicate<Object> compiled = Predicates.compile(predicates, compiledPredicates);
+        compiledPredicates = compiled;
+        return compiled;
+    }
+
     @Override
     public String getMessage() {
         return message;
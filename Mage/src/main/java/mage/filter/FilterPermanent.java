@@ -28,11 +28,13 @@
 package mage.filter;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
 import mage.constants.SubType;
+import mage.filter.predicate.CompiledPredicate;
 import mage.filter.predicate.ObjectPlayer;
 import mage.filter.predicate.ObjectPlayerPredicate;
 import mage.filter.predicate.ObjectSourcePlayer;
@@ -48,6 +50,7 @@ import mage.game.permanent.Permanent;
 public class FilterPermanent extends FilterObject<Permanent> implements FilterInPlay<Permanent> {
 
     protected List<ObjectPlayerPredicate<ObjectPlayer<Permanent>>> extraPredicates = new ArrayList<>();
+    private transient CompiledPredicate<ObjectPlayer<Permanent>> compiledExtraPredicates;
 
     public FilterPermanent() {
         super("permanent");
@@ -85,13 +88,23 @@ public class FilterPermanent extends FilterObject<Permanent> implements FilterIn
             return false;
         }
 
-        return Predicates.and(extraPredicates).apply(new ObjectSourcePlayer(permanent, sourceId, playerId), game);
+        return getCompiledExtraPredicates().apply(new ObjectSourcePlayer(permanent, sourceId, playerId), game);
     }
 
     public void add(ObjectPlayerPredicate predicate) {
         extraPredicates.add(predicate);
     }
 
+    public List<ObjectPlayerPredicate<ObjectPlayer<Permanent>>> getExtraPredicates() {
+        return Collections.unmodifiableList(extraPredicates);
+    }
+
+    private CompiledPredicate<ObjectPlayer<Permanent>> getCompiledExtraPredicates() {
+        CompiledPredicate<ObjectPlayer<Permanent>> compiled = Predicates.compile(extraPredicates, compiledExtraPredicates);
+        compiledExtraPredicates = compiled;
+        return compiled;
+    }
+
     @Override
     public FilterPermanent copy() {
         return new FilterPermanent(this);
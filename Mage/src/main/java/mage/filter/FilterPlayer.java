@@ -30,6 +30,7 @@ package mage.filter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import mage.filter.predicate.CompiledPredicate;
 import mage.filter.predicate.ObjectPlayer;
 import mage.filter.predicate.ObjectPlayerPredicate;
 import mage.filter.predicate.ObjectSourcePlayer;
@@ -45,6 +46,7 @@ import mage.players.Player;
 public class FilterPlayer extends FilterImpl<Player> {
 
     protected List<ObjectPlayerPredicate<ObjectPlayer<Player>>> extraPredicates = new ArrayList<>();
+    private transient CompiledPredicate<ObjectPlayer<Player>> compiledExtraPredicates;
 
     public FilterPlayer() {
         this("player");
@@ -73,7 +75,13 @@ public class FilterPlayer extends FilterImpl<Player> {
             return false;
         }
 
-        return Predicates.and(extraPredicates).apply(new ObjectSourcePlayer(player, sourceId, playerId), game);
+        return getCompiledExtraPredicates().apply(new ObjectSourcePlayer(player, sourceId, playerId), game);
+    }
+
+    private CompiledPredicate<ObjectPlayer<Player>> getCompiledExtraPredicates() {
+        CompiledPredicate<ObjectPlayer<Player>> compiled = Predicates.compile(extraPredicates, compiledExtraPredicates);
+        compiledExtraPredicates = compiled;
+        return compiled;
     }
 
     @Override
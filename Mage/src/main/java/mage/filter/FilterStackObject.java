@@ -30,6 +30,7 @@ package mage.filter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import mage.filter.predicate.CompiledPredicate;
 import mage.filter.predicate.ObjectPlayer;
 import mage.filter.predicate.ObjectPlayerPredicate;
 import mage.filter.predicate.ObjectSourcePlayer;
@@ -45,6 +46,7 @@ import mage.game.stack.StackObject;
 public class FilterStackObject extends FilterObject<StackObject> {
 
     protected List<ObjectPlayerPredicate<ObjectPlayer<Permanent>>> extraPredicates = new ArrayList<>();
+    private transient CompiledPredicate<ObjectPlayer<Permanent>> compiledExtraPredicates;
 
     public FilterStackObject() {
         super("spell or ability");
@@ -64,13 +66,19 @@ public class FilterStackObject extends FilterObject<StackObject> {
             return false;
         }
 
-        return Predicates.and(extraPredicates).apply(new ObjectSourcePlayer(stackObject, sourceId, playerId), game);
+        return getCompiledExtraPredicates().apply(new ObjectSourcePlayer(stackObject, sourceId, playerId), game);
     }
 
     public void add(ObjectPlayerPredicate predicate) {
         extraPredicates.add(predicate);
     }
 
+    private CompiledPredicate<ObjectPlayer<Permanent>> getCompiledExtraPredicates() {
+        CompiledPredicate<ObjectPlayer<Permanent>> compiled = Predicates.compile(extraPredicates, compiledExtraPredicates);
+        compiledExtraPredicates = compiled;
+        return compiled;
+    }
+
     @Override
     public FilterStackObject copy() {
         return new FilterStackObject(this);
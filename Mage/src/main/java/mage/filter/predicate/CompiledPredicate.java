@@ -0,0 +1,64 @@
+package mage.filter.predicate;
+
+import java.util.List;
+import mage.game.Game;
+
+/**
+ * The predicates of a filter combined with "and" after
+ * {@link Predicates#compile(List, CompiledPredicate)}: the nested and/or/not
+ * combinators are flattened and the cheap predicates are evaluated first.
+ *
+ * Immutable, so the compiled predicates of the shared filters of
+ * {@link mage.filter.StaticFilters} can be used by all games.
+ *
+ * @param <T>
+ */
+public final class CompiledPredicate<T> implements Predicate<T> {
+
+    private static final long serialVersionUID = 0;
+
+    private final Predicate<? super T>[] components;
+    private final int sourceSize;
+
+    @SuppressWarnings("unchecked")
+    CompiledPredicate(List<Predicate<? super T>> components, int sourceSize) {
+        this.components = components.toArray(new Predicate[components.size()]);
+        this.sourceSize = sourceSize;
+    }
+
+    @Override
+    public boolean apply(T input, Game game) {
+        for (Predicate<? super T> component : components) {
+            if (!component.apply(input, game)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return number of predicates of the filter this was compiled from
+     */
+    public int getSourceSize() {
+        return sourceSize;
+    }
+
+    /**
+     * @return the predicates in the order they are evaluated
+     */
+    public Predicate<? super T>[] getComponents() {
+        return components.clone();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Compiled(");
+        for (int i = 0; i < components.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(components[i]);
+        }
+        return sb.append(')').toString();
+    }
+}
@@ -27,11 +27,27 @@
  */
 package mage.filter.predicate;
 
+import mage.filter.predicate.mageobject.CardIdPredicate;
+import mage.filter.predicate.mageobject.CardTypePredicate;
+import mage.filter.predicate.mageobject.ColorPredicate;
+import mage.filter.predicate.mageobject.ColorlessPredicate;
+import mage.filter.predicate.mageobject.MonocoloredPredicate;
+import mage.filter.predicate.mageobject.MulticoloredPredicate;
+import mage.filter.predicate.mageobject.SubtypePredicate;
+import mage.filter.predicate.mageobject.SupertypePredicate;
+import mage.filter.predicate.permanent.ControllerIdPredicate;
+import mage.filter.predicate.permanent.ControllerPredicate;
+import mage.filter.predicate.permanent.PermanentIdPredicate;
+import mage.filter.predicate.permanent.TappedPredicate;
+import mage.filter.predicate.permanent.TokenPredicate;
 import mage.game.Game;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Static utility methods pertaining to {@code Predicate} instances.
@@ -42,9 +58,123 @@ import java.util.List;
  */
 public final class Predicates {
 
+    /**
+     * predicates that only read a field of the object, evaluated first by
+     * compiled filters
+     */
+    private static final Set<Class<?>> CHEAP_PREDICATES = new HashSet<>(Arrays.asList(
+            CardIdPredicate.class,
+            CardTypePredicate.class,
+            ColorPredicate.class,
+            ColorlessPredicate.class,
+            ControllerIdPredicate.class,
+            ControllerPredicate.class,
+            MonocoloredPredicate.class,
+            MulticoloredPredicate.class,
+            PermanentIdPredicate.class,
+            SupertypePredicate.class,
+            TappedPredicate.class,
+            TokenPredicate.class
+    ));
+    private static final int COST_CHEAP = 0;
+    private static final int COST_SUBTYPE = 1; // changeling and "all creature types" need the abilities
+    private static final int COST_OTHER = 2;
+
     private Predicates() {
     }
 
+    /**
+     * Compiles the predicates of a filter to one predicate that is equal to
+     * {@link #and(Iterable)}. Nested and/or/not predicates are flattened and
+     * the cheap predicates (card type, color, controller...) of the "and" are
+     * moved to the front, the order of the other predicates is kept.
+     *
+     * The predicates of a filter can only be added, so a compiled predicate is
+     * reused as long as the number of predicates didn't change.
+     *
+     * @param <T>
+     * @param predicates
+     * @param compiled last compiled predicate of the list, can be null
+     * @return compiled predicate for the current predicates
+     */
+    public static <T> CompiledPredicate<T> compile(List<? extends Predicate<? super T>> predicates, CompiledPredicate<T> compiled) {
+        if (compiled != null && compiled.getSourceSize() == predicates.size()) {
+            return compiled;
+        }
+        List<Predicate<? super T>> components = new ArrayList<>();
+        for (Predicate<? super T> predicate : predicates) {
+            addFlattened(components, optimize(predicate), AndPredicate.class);
+        }
+        components.sort(Comparator.comparingInt(Predicates::cost));
+        return new CompiledPredicate<>(components, predicates.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Predicate<T> optimize(Predicate<T> predicate) {
+        if (predicate instanceof NotPredicate) {
+            Predicate<T> inner = optimize(((NotPredicate<T>) predicate).predicate);
+            if (inner instanceof NotPredicate) {
+                return ((NotPredicate<T>) inner).predicate;
+            }
+            return new NotPredicate<>(inner);
+        }
+        if (predicate instanceof AndPredicate) {
+            List<Predicate<? super T>> components = new ArrayList<>();
+            for (Predicate<? super T> component : ((AndPredicate<T>) predicate).components) {
+                addFlattened(components, optimize(component), AndPredicate.class);
+            }
+            components.sort(Comparator.comparingInt(Predicates::cost));
+            return new AndPredicate<>(components);
+        }
+        if (predicate instanceof OrPredicate) {
+            // the order of "or" is kept, a component may only be valid if the ones before didn't match
+            List<Predicate<? super T>> components = new ArrayList<>();
+            for (Predicate<? super T> component : ((OrPredicate<T>) predicate).components) {
+                addFlattened(components, optimize(component), OrPredicate.class);
+            }
+            return new OrPredicate<>(components);
+        }
+        return predicate;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void addFlattened(List<Predicate<? super T>> components, Predicate<? super T> predicate, Class<?> combinator) {
+        if (predicate.getClass() == combinator) {
+            List<? extends Predicate<? super T>> nested = predicate instanceof AndPredicate
+                    ? ((AndPredicate<T>) predicate).components
+                    : ((OrPredicate<T>) predicate).components;
+            components.addAll(nested);
+        } else {
+            components.add(predicate);
+        }
+    }
+
+    private static int cost(Predicate<?> predicate) {
+        if (predicate instanceof NotPredicate) {
+            return cost(((NotPredicate<?>) predicate).predicate);
+        }
+        List<? extends Predicate<?>> components = null;
+        if (predicate instanceof AndPredicate) {
+            components = ((AndPredicate<?>) predicate).components;
+        } else if (predicate instanceof OrPredicate) {
+            components = ((OrPredicate<?>) predicate).components;
+        }
+        if (components != null) {
+            int cost = COST_CHEAP;
+            for (Predicate<?> component : components) {
+                cost = Math.max(cost, cost(component));
+            }
+            return cost;
+        }
+        if (CHEAP_PREDICATES.contains(predicate.getClass())) {
+            return COST_CHEAP;
+        }
+        if (predicate.getClass() == SubtypePredicate.class) {
+            return COST_SUBTYPE;
+        }
+        return COST_OTHER;
+    }
+
     /**
      * Returns a predicate that evaluates to {@code true} if the given predicate evaluates to {@code false}.
      * @param <T>
@@ -168,8 +298,12 @@ public final class Predicates {
 
         @Override
         public boolean apply(T t, Game game) {
-            return components.stream().allMatch(predicate -> predicate.apply(t, game));
-
+            for (Predicate<? super T> predicate : components) {
+                if (!predicate.apply(t, game)) {
+                    return false;
+                }
+            }
+            return true;
         }
 
         @Override
@@ -192,7 +326,12 @@ public final class Predicates {
 
         @Override
         public boolean apply(T t, Game game) {
-            return components.stream().anyMatch(predicate -> predicate.apply(t, game));
+            for (Predicate<? super T> predicate : components) {
+                if (predicate.apply(t, game)) {
+                    return true;
+                }
+            }
+            return false;
         }
 
         @Override
@@ -49,6 +49,10 @@ public class CardTypePredicate implements Predicate<MageObject> {
         return input.getCardType().contains(cardType);
     }
 
+    public CardType getCardType() {
+        return cardType;
+    }
+
     @Override
     public String toString() {
         return "CardType(" + cardType.toString() + ')';
@@ -50,6 +50,10 @@ public class SubtypePredicate implements Predicate<MageObject> {
         return input.hasSubtype(subtype, game);
     }
 
+    public SubType getSubtype() {
+        return subtype;
+    }
+
     @Override
     public String toString() {
         return "Subtype(" + subtype + ')';
@@ -56,6 +56,10 @@ public class ControllerIdPredicate implements Predicate<Permanent> {
         return controllerId.equals(input.getControllerId());
     }
 
+    public UUID getControllerId() {
+        return controllerId;
+    }
+
     @Override
     public String toString() {
         return "ControllerId(" + controllerId + ')';
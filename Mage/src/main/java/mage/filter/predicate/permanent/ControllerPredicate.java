@@ -81,6 +81,10 @@ public class ControllerPredicate implements ObjectPlayerPredicate<ObjectPlayer<C
         return false;
     }
 
+    public TargetController getController() {
+        return controller;
+    }
+
     @Override
     public String toString() {
         return "TargetController(" + controller.toString() + ')';
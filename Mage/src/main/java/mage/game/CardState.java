@@ -27,8 +27,12 @@ public class CardState implements Serializable {
     }
 
     public CardState(final CardState state) {
+        this(state, true);
+    }
+
+    public CardState(final CardState state, boolean withInfo) {
         this.faceDown = state.faceDown;
-        if (state.info != null) {
+        if (withInfo && state.info != null) {
             info = new HashMap<>();
             info.putAll(state.info);
         }
@@ -45,6 +49,15 @@ public class CardState implements Serializable {
         return new CardState(this);
     }
 
+    /**
+     * @param withInfo false to leave out the info texts (only shown to the
+     * users)
+     * @return
+     */
+    public CardState copy(boolean withInfo) {
+        return new CardState(this, withInfo);
+    }
+
     public void setFaceDown(boolean value) {
         faceDown = value;
     }
@@ -90,6 +90,7 @@ import mage.target.TargetPermanent;
 import mage.target.TargetPlayer;
 import mage.util.GameLog;
 import mage.util.MessageToClient;
+import mage.util.Metrics;
 import mage.util.RandomUtil;
 import mage.util.functions.ApplyToPermanent;
 import mage.watchers.Watchers;
@@ -101,6 +102,8 @@ public abstract class GameImpl implements Game, Serializable {
     private static final int ROLLBACK_TURNS_MAX = 4;
 
     private static final Logger logger = Logger.getLogger(GameImpl.class);
+    private static final Metrics.Timer APPLY_EFFECTS_TIMER = Metrics.instance.timer("game_apply_effects");
+    private static final Metrics.Timer CHECK_STATE_TIMER = Metrics.instance.timer("game_check_state_and_triggered");
 
     private transient Object customData;
     protected boolean simulation = false;
@@ -191,7 +194,8 @@ public abstract class GameImpl implements Game, Serializable {
         this.range = game.range;
         this.freeMulligans = game.freeMulligans;
         this.attackOption = game.attackOption;
-        this.state = game.state.copy();
+        // copies of simulated games are only used by the AI, they don't need the parts shown to the users
+        this.state = game.simulation ? game.state.copyForSimulation() : game.state.copy();
         this.gameCards = game.gameCards;
         this.simulation = game.simulation;
         this.gameOptions = game.gameOptions;
@@ -334,14 +338,9 @@ public abstract class GameImpl implements Game, Serializable {
         if (getPermanentsEntering().containsKey(objectId)) {
             return getPermanentEntering(objectId);
         }
-        for (StackObject item : state.getStack()) {
-            if (item.getId().equals(objectId)) {
-                //  state.setZone(objectId, Zone.STACK); // why is this neccessary?
-                return item;
-            }
-            if (item.getSourceId().equals(objectId) && item instanceof Spell) {
-                return item;
-            }
+        StackObject item = state.getStack().getObject(objectId);
+        if (item != null) {
+            return item;
         }
 
         for (CommandObject commandObject : state.getCommand()) {
@@ -554,7 +553,7 @@ public abstract class GameImpl implements Game, Serializable {
     public void saveState(boolean bookmark) {
         if (!simulation && gameStates != null) {
             if (bookmark || saveGame) {
-                gameStates.save(state);
+                gameStates.save(state, bookmark);
             }
         }
     }
@@ -701,6 +700,10 @@ public abstract class GameImpl implements Game, Serializable {
                     if (restore != null) {
                         state.restore(restore);
                         playerList.setCurrent(state.getPlayerByOrderId());
+                    } else {
+                        // bookmarked states are never thinned out, so the state should always exist
+                        logger.error("It was not possible to do the requested undo operation (state " + stateNum + " of bookmark " + (bookmark - 1) + " was not saved) context: " + context);
+                        informPlayers("It was not possible to undo the last action");
                     }
                 }
             }
@@ -1514,8 +1517,11 @@ public abstract class GameImpl implements Game, Serializable {
 
     @Override
     public synchronized void applyEffects() {
+        // the games simulated by the AI are measured as part of its think time
+        long start = isSimulation() ? 0 : APPLY_EFFECTS_TIMER.start();
         resetShortLivingLKI();
         state.applyEffects(this);
+        APPLY_EFFECTS_TIMER.stop(start);
     }
 
     @Override
@@ -1742,6 +1748,7 @@ public abstract class GameImpl implements Game, Serializable {
      */
     @Override
     public boolean checkStateAndTriggered() {
+        long start = isSimulation() ? 0 : CHECK_STATE_TIMER.start();
         boolean somethingHappened = false;
         //20091005 - 115.5
         while (!isPaused() && !checkIfGameIsOver()) {
@@ -1757,6 +1764,7 @@ public abstract class GameImpl implements Game, Serializable {
             somethingHappened = true;
         }
         checkConcede();
+        CHECK_STATE_TIMER.stop(start);
         return somethingHappened;
     }
 
@@ -1829,9 +1837,7 @@ public abstract class GameImpl implements Game, Serializable {
 
         // 704.5e If a copy of a spell is in a zone other than the stack, it ceases to exist. If a copy of a card is in any zone other than the stack or the battlefield, it ceases to exist.
         // (Isochron Scepter) 12/1/2004: If you don't want to cast the copy, you can choose not to; the copy ceases to exist the next time state-based actions are checked.
-        Iterator<Card> copiedCards = this.getState().getCopiedCards().iterator();
-        while (copiedCards.hasNext()) {
-            Card card = copiedCards.next();
+        for (Card card : new ArrayList<>(this.getState().getCopiedCards())) {
             if (card instanceof SplitCardHalf) {
                 continue; // only the main card is moves, not the halves
             }
@@ -1866,7 +1872,7 @@ public abstract class GameImpl implements Game, Serializable {
                         getExile().removeCard(card, this);
                         break;
                 }
-                copiedCards.remove();
+                state.removeCopiedCardReference(card.getId());
             }
         }
 
@@ -38,6 +38,7 @@ import mage.abilities.effects.Effect;
 import mage.cards.Card;
 import mage.cards.SplitCard;
 import mage.constants.Zone;
+import mage.counters.Counter;
 import mage.designations.Designation;
 import mage.game.combat.Combat;
 import mage.game.combat.CombatGroup;
@@ -57,6 +58,7 @@ import mage.players.Player;
 import mage.players.PlayerList;
 import mage.players.Players;
 import mage.target.Target;
+import mage.util.CopyOnWriteMap;
 import mage.util.Copyable;
 import mage.util.ThreadLocalStringBuilder;
 import mage.watchers.Watcher;
@@ -76,6 +78,13 @@ public class GameState implements Serializable, Copyable<GameState> {
 
     private static final ThreadLocalStringBuilder threadLocalBuilder = new ThreadLocalStringBuilder(1024);
 
+    /**
+     * If set (-Dmage.checkIndexes=true, used by the tests), the lookups of the
+     * object indexes (stack, battlefield) are compared with a full search and
+     * an IllegalStateException is thrown if they differ.
+     */
+    public static final boolean CHECK_INDEXES = Boolean.getBoolean("mage.checkIndexes");
+
     private final Players players;
     private final PlayerList playerList;
     private UUID choosingPlayerId; // player that makes a choice at game start
@@ -112,15 +121,16 @@ public class GameState implements Serializable, Copyable<GameState> {
     private List<TriggeredAbility> triggered = new ArrayList<>();
     private Combat combat;
     private Map<String, Object> values = new HashMap<>();
-    private Map<UUID, Zone> zones = new HashMap<>();
+    private CopyOnWriteMap<UUID, Zone> zones = new CopyOnWriteMap<>();
     private List<GameEvent> simultaneousEvents = new ArrayList<>();
     private Map<UUID, CardState> cardState = new HashMap<>();
     private Map<UUID, CardAttribute> cardAttribute = new HashMap<>();
-    private Map<UUID, Integer> zoneChangeCounter = new HashMap<>();
-    private Map<UUID, Card> copiedCards = new HashMap<>();
+    private CopyOnWriteMap<UUID, Integer> zoneChangeCounter = new CopyOnWriteMap<>();
+    private CopyOnWriteMap<UUID, Card> copiedCards = new CopyOnWriteMap<>();
     private int permanentOrderNumber;
 
     private int applyEffectsCounter; // Upcounting number of each applyEffects execution
+    private int eventCounter; // Upcounting number of each handled event
 
     public GameState() {
         players = new Players();
@@ -142,11 +152,22 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public GameState(final GameState state) {
+        this(state, false);
+    }
+
+    /**
+     * @param state
+     * @param simulation true to leave out the parts only shown to the users
+     * (looked at cards, card infos), used for copies of AI simulations
+     */
+    protected GameState(final GameState state, boolean simulation) {
         this.players = state.players.copy();
         this.playerList = state.playerList.copy();
         this.choosingPlayerId = state.choosingPlayerId;
         this.revealed = state.revealed.copy();
-        this.lookedAt.putAll(state.lookedAt);
+        if (!simulation) {
+            this.lookedAt.putAll(state.lookedAt);
+        }
         this.gameOver = state.gameOver;
         this.paused = state.paused;
 
@@ -184,18 +205,19 @@ public class GameState implements Serializable, Copyable<GameState> {
                 this.values.put(entry.getKey(), entry.getValue());
             }
         }
-        this.zones.putAll(state.zones);
+        this.zones = state.zones.copy();
         this.simultaneousEvents.addAll(state.simultaneousEvents);
         for (Map.Entry<UUID, CardState> entry : state.cardState.entrySet()) {
-            cardState.put(entry.getKey(), entry.getValue().copy());
+            cardState.put(entry.getKey(), entry.getValue().copy(!simulation));
         }
         for (Map.Entry<UUID, CardAttribute> entry : state.cardAttribute.entrySet()) {
             cardAttribute.put(entry.getKey(), entry.getValue().copy());
         }
-        this.zoneChangeCounter.putAll(state.zoneChangeCounter);
-        this.copiedCards.putAll(state.copiedCards);
+        this.zoneChangeCounter = state.zoneChangeCounter.copy();
+        this.copiedCards = state.copiedCards.copy();
         this.permanentOrderNumber = state.permanentOrderNumber;
         this.applyEffectsCounter = state.applyEffectsCounter;
+        this.eventCounter = state.eventCounter;
     }
 
     public void restoreForRollBack(GameState state) {
@@ -233,14 +255,15 @@ public class GameState implements Serializable, Copyable<GameState> {
             Player origPlayer = players.get(copyPlayer.getId());
             origPlayer.restore(copyPlayer);
         }
-        this.zones = state.zones;
+        this.zones = state.zones.copy();
         this.simultaneousEvents = state.simultaneousEvents;
         this.cardState = state.cardState;
         this.cardAttribute = state.cardAttribute;
-        this.zoneChangeCounter = state.zoneChangeCounter;
-        this.copiedCards = state.copiedCards;
+        this.zoneChangeCounter = state.zoneChangeCounter.copy();
+        this.copiedCards = state.copiedCards.copy();
         this.permanentOrderNumber = state.permanentOrderNumber;
         this.applyEffectsCounter = state.applyEffectsCounter;
+        this.eventCounter = state.eventCounter;
     }
 
     @Override
@@ -248,6 +271,15 @@ public class GameState implements Serializable, Copyable<GameState> {
         return new GameState(this);
     }
 
+    /**
+     * Copy for AI simulations without the parts only shown to the users.
+     *
+     * @return
+     */
+    public GameState copyForSimulation() {
+        return new GameState(this, true);
+    }
+
     public void addPlayer(Player player) {
         players.put(player.getId(), player);
         playerList.add(player.getId());
@@ -397,6 +429,128 @@ public class GameState implements Serializable, Copyable<GameState> {
         return sb.toString();
     }
 
+    /**
+     * 64 bit hash of the state as seen by the given player, covering the same
+     * parts as {@link #getValue(Game, UUID)} without building a string. The
+     * permanents and cards of a zone are combined independent of their order,
+     * so the AI recognizes positions reached by different orders of actions.
+     * The hash is only comparable within the running JVM.
+     *
+     * @param game
+     * @param playerId player whose hand is known, null to include all hands
+     * @return
+     */
+    public long getHash(Game game, UUID playerId) {
+        long hash = mix(turnNum);
+        hash = mix(hash ^ turn.getPhaseType().hashCode());
+        hash = mix(hash ^ turn.getStepType().hashCode());
+        hash = mix(hash ^ hash(activePlayerId));
+        hash = mix(hash ^ hash(priorityPlayerId));
+        hash = mix(hash ^ hash(playerByOrderId));
+
+        for (Player player : players.values()) {
+            hash = mix(hash ^ (player.isPassed() ? 1 : 2));
+            hash = mix(hash ^ player.getLife());
+            if (playerId == null || playerId.equals(player.getId())) {
+                hash = mix(hash ^ hashCardNames(player.getHand(), game));
+            } else {
+                hash = mix(hash ^ player.getHand().size());
+            }
+            hash = mix(hash ^ player.getLibrary().size());
+            hash = mix(hash ^ hashCardNames(player.getGraveyard(), game));
+        }
+
+        long permanentsHash = 0;
+        for (Permanent permanent : battlefield.getAllPermanents()) {
+            permanentsHash += mix(hashPermanent(permanent, game));
+        }
+        hash = mix(hash ^ permanentsHash);
+
+        for (StackObject spell : stack) {
+            hash = mix(hash ^ hash(spell.getControllerId()));
+            hash = mix(hash ^ spell.getName().hashCode());
+            Ability stackAbility = spell.getStackAbility();
+            hash = mix(hash ^ hash(stackAbility.getOriginalId()));
+            for (UUID modeId : stackAbility.getModes().getSelectedModes()) {
+                Mode mode = stackAbility.getModes().get(modeId);
+                for (Target target : mode.getTargets()) {
+                    for (UUID targetId : target.getTargets()) {
+                        hash = mix(hash ^ hash(targetId));
+                    }
+                }
+            }
+        }
+
+        long exileHash = 0;
+        for (ExileZone zone : exile.getExileZones()) {
+            exileHash += mix(zone.getName().hashCode() ^ hashCardNames(zone, game));
+        }
+        hash = mix(hash ^ exileHash);
+
+        for (CombatGroup group : combat.getGroups()) {
+            hash = mix(hash ^ hash(group.getDefenderId()));
+            for (UUID attackerId : group.getAttackers()) {
+                hash = mix(hash ^ hash(attackerId));
+            }
+            for (UUID blockerId : group.getBlockers()) {
+                hash = mix(hash ^ hash(blockerId));
+            }
+        }
+        return hash;
+    }
+
+    private long hashPermanent(Permanent permanent, Game game) {
+        long hash = hash(permanent.getControllerId());
+        hash = mix(hash ^ permanent.getName().hashCode());
+        hash = mix(hash ^ (permanent.isTapped() ? 1 : 2));
+        hash = mix(hash ^ (permanent.hasSummoningSickness() ? 1 : 2));
+        hash = mix(hash ^ permanent.getDamage());
+        hash = mix(hash ^ permanent.getCardType().hashCode());
+        hash = mix(hash ^ permanent.getSubtype(game).hashCode());
+        hash = mix(hash ^ permanent.getPower().getValue());
+        hash = mix(hash ^ permanent.getToughness().getValue());
+        long abilitiesHash = 0;
+        for (Ability ability : permanent.getAbilities()) {
+            abilitiesHash += mix(ability.getClass().getName().hashCode());
+        }
+        hash = mix(hash ^ abilitiesHash);
+        long countersHash = 0;
+        for (Counter counter : permanent.getCounters(this).values()) {
+            countersHash += mix(counter.getName().hashCode() * 31L + counter.getCount());
+        }
+        hash = mix(hash ^ countersHash);
+        long attachmentsHash = 0;
+        for (UUID attachmentId : permanent.getAttachments()) {
+            attachmentsHash += hash(attachmentId);
+        }
+        return mix(hash ^ attachmentsHash);
+    }
+
+    private static long hashCardNames(Collection<UUID> cardIds, Game game) {
+        long hash = cardIds.size();
+        for (UUID cardId : cardIds) {
+            Card card = game.getCard(cardId);
+            if (card != null) {
+                hash += mix(card.getName().hashCode());
+            }
+        }
+        return hash;
+    }
+
+    private static long hash(UUID id) {
+        if (id == null) {
+            return 0;
+        }
+        return mix(id.getMostSignificantBits() ^ mix(id.getLeastSignificantBits()));
+    }
+
+    // finalizer of the SplitMix64 generator, spreads every input bit over the whole result
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+
     public Players getPlayers() {
         return players;
     }
@@ -579,6 +733,7 @@ public class GameState implements Serializable, Copyable<GameState> {
 
     public void applyEffects(Game game) {
         applyEffectsCounter++;
+        battlefield.invalidateIndexes();
         for (Player player : players.values()) {
             player.reset();
         }
@@ -587,6 +742,7 @@ public class GameState implements Serializable, Copyable<GameState> {
         this.reset();
         effects.apply(game);
         combat.checkForRemoveFromCombat(game);
+        battlefield.effectsApplied(game);
     }
 
     // Remove End of Combat effects
@@ -678,7 +834,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public Zone getZone(UUID id) {
-        if (id != null && zones.containsKey(id)) {
+        if (id != null) {
             return zones.get(id);
         }
         return null;
@@ -715,6 +871,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public void handleEvent(GameEvent event, Game game) {
+        eventCounter++;
         watchers.watch(event, game);
         delayed.checkTriggers(event, game);
         triggers.checkTriggers(event, game);
@@ -1157,6 +1314,15 @@ public class GameState implements Serializable, Copyable<GameState> {
         return copiedCards.values();
     }
 
+    /**
+     * Removes only the copied card reference, e.g. if the copy ceased to exist
+     *
+     * @param cardId
+     */
+    public void removeCopiedCardReference(UUID cardId) {
+        copiedCards.remove(cardId);
+    }
+
     public Card copyCard(Card cardToCopy, Ability source, Game game) {
         Card copiedCard = cardToCopy.copy();
         copiedCard.assignNewId();
@@ -1183,4 +1349,12 @@ public class GameState implements Serializable, Copyable<GameState> {
         return applyEffectsCounter;
     }
 
+    /**
+     * @return number of the events handled so far, changes with each action
+     * of the game (zone changes, tapping, mana added or paid...)
+     */
+    public int getEventCounter() {
+        return eventCounter;
+    }
+
 }
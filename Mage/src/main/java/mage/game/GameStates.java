@@ -28,26 +28,72 @@
 package mage.game;
 
 import java.io.Serializable;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import mage.util.Metrics;
 import org.apache.log4j.Logger;
 
 /**
+ * Saved game states of a game (bookmarks for undo and if the game is saved
+ * all states for the replay).
+ *
+ * The states are accessed by index in constant time. If a maximum is set and
+ * more states are stored, the older states are thinned out so that only every
+ * n-th state (keyframe) is kept. The newest half of the maximum and the
+ * bookmarked states are never thinned out, so undo keeps working. The
+ * bookmarked states don't count for the maximum. A replay
+ * shows the nearest older keyframe for a thinned out state.
  *
  * @author BetaSteward_at_googlemail.com
  */
 public class GameStates implements Serializable {
 
     private static final Logger logger = Logger.getLogger(GameStates.class);
+    private static final int KEYFRAME_INTERVAL = 8;
+    private static final Metrics.Counter SAVED_COUNTER = Metrics.instance.counter("game_states_saved");
+
     private final List<GameState> states;
+    private final List<Integer> keyframes; // index of the nearest stored state for every state
+    private final BitSet bookmarks = new BitSet();
+    private int maxStates; // 0 = no limit
+    private int keyframeInterval = KEYFRAME_INTERVAL;
+    private int storedStates; // number of states not thinned out
 
     public GameStates() {
-        this.states = new LinkedList<>();
+        this.states = new ArrayList<>();
+        this.keyframes = new ArrayList<>();
+    }
+
+    public void setMaxStates(int maxStates) {
+        this.maxStates = Math.max(0, maxStates);
+    }
+
+    public int getMaxStates() {
+        return maxStates;
     }
 
     public void save(GameState gameState) {
+        save(gameState, false);
+    }
+
+    /**
+     * @param gameState
+     * @param bookmark the state can be restored by undo, so it's never thinned
+     * out
+     */
+    public void save(GameState gameState, boolean bookmark) {
 //        states.add(new Copier<GameState>().copyCompressed(gameState));
         states.add(gameState.copy());
+        keyframes.add(states.size() - 1);
+        if (bookmark) {
+            bookmarks.set(states.size() - 1);
+        }
+        storedStates++;
+        SAVED_COUNTER.increment();
+        if (maxStates > 0 && storedStates > getMaxStoredStates()) {
+            thinOut();
+        }
         logger.trace("Saved game state: " + states.size());
     }
 
@@ -55,23 +101,26 @@ public class GameStates implements Serializable {
         return states.size();
     }
 
+    /**
+     * @return number of states that are not thinned out
+     */
+    public int getStoredSize() {
+        return storedStates;
+    }
+
     public GameState rollback(int index) {
         if (!states.isEmpty() && index < states.size()) {
-            while (states.size() > index + 1) {
-                states.remove(states.size() - 1);
-            }
+            truncate(index + 1);
             logger.trace("Rolling back state: " + index);
 //            return new Copier<GameState>().uncompressCopy(states.get(index));
-            return states.get(index);
+            return states.get(index); // null if thinned out (never for a bookmark), a keyframe would be a wrong state to restore
         }
         return null;
     }
 
     public int remove(int index) {
         if (!states.isEmpty() && index < states.size()) {
-            while (states.size() > index && !states.isEmpty()) {
-                states.remove(states.size() - 1);
-            }
+            truncate(index);
         }
         return states.size();
     }
@@ -79,12 +128,69 @@ public class GameStates implements Serializable {
     public GameState get(int index) {
         if (index < states.size()) {
 //             return new Copier<GameState>().uncompressCopy(states.get(index));
-            return states.get(index);
+            return states.get(keyframes.get(index)); // nearest keyframe if the state was thinned out
         }
         return null;
     }
 
+    /**
+     * @param index
+     * @return index of the state that is shown for the given state, the state
+     * itself or the nearest older keyframe if it was thinned out
+     */
+    int getKeyframe(int index) {
+        return keyframes.get(index);
+    }
+
     public void clear() {
         states.clear();
+        keyframes.clear();
+        bookmarks.clear();
+        storedStates = 0;
+        keyframeInterval = KEYFRAME_INTERVAL;
+    }
+
+    private void truncate(int size) {
+        List<GameState> removed = states.subList(size, states.size());
+        for (GameState state : removed) {
+            if (state != null) {
+                storedStates--;
+            }
+        }
+        removed.clear();
+        keyframes.subList(size, keyframes.size()).clear();
+        bookmarks.clear(size, Math.max(size, bookmarks.length()));
+    }
+
+    /**
+     * @return maximum plus the bookmarked states, as they can't be thinned
+     * out, otherwise each save would scan all states once the bookmarks
+     * exceed the maximum
+     */
+    private int getMaxStoredStates() {
+        return maxStates + bookmarks.cardinality();
+    }
+
+    private void thinOut() {
+        int protectedFrom = states.size() - maxStates / 2;
+        int maxStoredStates = getMaxStoredStates();
+        while (storedStates > maxStoredStates) {
+            for (int i = 1; i < protectedFrom; i++) {
+                if (i % keyframeInterval != 0 && states.get(i) != null && !bookmarks.get(i)) {
+                    states.set(i, null);
+                    storedStates--;
+                }
+                if (states.get(i) == null) {
+                    keyframes.set(i, keyframes.get(i - 1));
+                }
+            }
+            if (storedStates > maxStoredStates) {
+                if (keyframeInterval > protectedFrom) {
+                    break; // only the first state and the protected ones are left
+                }
+                keyframeInterval *= 2;
+            }
+        }
+        logger.trace("Thinned out game states: " + storedStates + " of " + states.size() + " stored");
     }
 }
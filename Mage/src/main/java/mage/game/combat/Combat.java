@@ -293,6 +293,7 @@ public class Combat implements Serializable, Copyable<Combat> {
                     Permanent attackingPermanent = game.getPermanent(attacker);
                     if (attackingPermanent != null) {
                         attackingPermanent.setTapped(false);
+                        game.getBattlefield().invalidateIndexes();
                         attackingPermanent.tap(game); // to tap with event finally here is needed to prevent abusing of Vampire Envoy like cards
                     }
                 }
@@ -1250,6 +1251,7 @@ public class Combat implements Serializable, Copyable<Combat> {
             if (!attacker.getAbilities().containsKey(VigilanceAbility.getInstance().getId()) && !attacker.getAbilities().containsKey(JohanVigilanceAbility.getInstance().getId())) {
                 if (!attacker.isTapped()) {
                     attacker.setTapped(true);
+                    game.getBattlefield().invalidateIndexes();
                     attackersTappedByAttack.add(attacker.getId());
                 }
             }
@@ -1583,6 +1585,7 @@ public class Combat implements Serializable, Copyable<Combat> {
                     creature.setAttacking(false);
                     if (attackersTappedByAttack.contains(creature.getId())) {
                         creature.setTapped(false);
+                        game.getBattlefield().invalidateIndexes();
                         attackersTappedByAttack.remove(creature.getId());
                     }
                 }
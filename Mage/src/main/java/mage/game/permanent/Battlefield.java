@@ -32,10 +32,12 @@ import mage.constants.CardType;
 import mage.constants.RangeOfInfluence;
 import mage.filter.FilterPermanent;
 import mage.game.Game;
+import mage.game.GameState;
 
 import java.io.Serializable;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -44,6 +46,7 @@ import java.util.stream.Collectors;
 public class Battlefield implements Serializable {
 
     private final Map<UUID, Permanent> field = new LinkedHashMap<>();
+    private transient BattlefieldIndex index; // not copied, built again for the copy
 
     public Battlefield() {
     }
@@ -66,6 +69,64 @@ public class Battlefield implements Serializable {
 
     public void clear() {
         field.clear();
+        invalidateIndexes();
+    }
+
+    /**
+     * The indexes of the filter queries can be used until the next event is
+     * handled.
+     *
+     * @param game
+     * @see BattlefieldIndex
+     */
+    public void effectsApplied(Game game) {
+        getIndex().effectsApplied(game);
+    }
+
+    /**
+     * Has to be called if a value of a permanent that is indexed (controller,
+     * card type, subtype, tapped) is changed without an event (e.g.
+     * {@link Permanent#setTapped(boolean)}) or by the continuous effects.
+     */
+    public void invalidateIndexes() {
+        if (index != null) {
+            index.invalidate();
+        }
+    }
+
+    private BattlefieldIndex getIndex() {
+        if (index == null) {
+            index = new BattlefieldIndex();
+        }
+        return index;
+    }
+
+    /**
+     * Runs the query with the permanents the indexes select for the filter.
+     * With {@link GameState#CHECK_INDEXES} the query runs with all permanents
+     * too and an IllegalStateException is thrown if the results differ.
+     *
+     * @param filter
+     * @param playerId player the extra predicates of the filter are matched
+     * with, null if they are not matched by the query
+     * @param controllerId controller the query is restricted to, or null
+     * @param game
+     * @param query
+     * @return result of the query
+     */
+    private <T> T query(FilterPermanent filter, UUID playerId, UUID controllerId, Game game, Function<Collection<Permanent>, T> query) {
+        Collection<Permanent> candidates = getIndex().getCandidates(field, filter, playerId, controllerId, game);
+        if (candidates == null) {
+            return query.apply(field.values());
+        }
+        T result = query.apply(candidates);
+        if (GameState.CHECK_INDEXES) {
+            T expected = query.apply(field.values());
+            if (!expected.equals(result)) {
+                throw new IllegalStateException("Battlefield index for " + filter + " gives " + result + " instead of " + expected);
+            }
+        }
+        return result;
     }
 
     /**
@@ -82,13 +143,12 @@ public class Battlefield implements Serializable {
      * @return count
      */
     public int countAll(FilterPermanent filter, UUID controllerId, Game game) {
-        return (int) field.values()
+        return query(filter, null, controllerId, game, permanents -> (int) permanents
                 .stream()
                 .filter(permanent -> permanent.getControllerId().equals(controllerId)
                         && filter.match(permanent, game)
                         && permanent.isPhasedIn())
-                .count();
-
+                .count());
     }
 
     /**
@@ -104,18 +164,18 @@ public class Battlefield implements Serializable {
      */
     public int count(FilterPermanent filter, UUID sourceId, UUID sourcePlayerId, Game game) {
         if (game.getRangeOfInfluence() == RangeOfInfluence.ALL) {
-            return (int) field.values()
+            return query(filter, sourcePlayerId, null, game, permanents -> (int) permanents
                     .stream()
                     .filter(permanent -> filter.match(permanent, sourceId, sourcePlayerId, game)
                             && permanent.isPhasedIn())
-                    .count();
+                    .count());
         } else {
             Set<UUID> range = game.getPlayer(sourcePlayerId).getInRange();
-            return  (int) field.values()
+            return query(filter, sourcePlayerId, null, game, permanents -> (int) permanents
                     .stream()
                     .filter(permanent -> range.contains(permanent.getControllerId())
                             && filter.match(permanent, sourceId, sourcePlayerId, game)
-                            && permanent.isPhasedIn()).count();
+                            && permanent.isPhasedIn()).count());
         }
     }
 
@@ -129,11 +189,13 @@ public class Battlefield implements Serializable {
      * @return boolean
      */
     public boolean contains(FilterPermanent filter, int num, Game game) {
-        return field.values()
+        if (num <= 0) {
+            return true;
+        }
+        return query(filter, null, null, game, permanents -> permanents
                 .stream()
                 .filter(permanent -> filter.match(permanent, game)
-                        && permanent.isPhasedIn()).count() >= num;
-
+                        && permanent.isPhasedIn()).limit(num).count() >= num);
     }
 
     /**
@@ -148,13 +210,15 @@ public class Battlefield implements Serializable {
      * @return boolean
      */
     public boolean contains(FilterPermanent filter, UUID controllerId, int num, Game game) {
-        return field.values()
+        if (num <= 0) {
+            return true;
+        }
+        return query(filter, null, controllerId, game, permanents -> permanents
                 .stream()
                 .filter(permanent -> permanent.getControllerId().equals(controllerId)
                         && filter.match(permanent, game)
                         && permanent.isPhasedIn())
-                .count() >= num;
-
+                .limit(num).count() >= num);
     }
 
     /**
@@ -169,23 +233,27 @@ public class Battlefield implements Serializable {
      * @return boolean
      */
     public boolean contains(FilterPermanent filter, UUID sourcePlayerId, Game game, int num) {
+        if (num <= 0) {
+            return true;
+        }
         if (game.getRangeOfInfluence() == RangeOfInfluence.ALL) {
-            return field.values().stream()
+            return query(filter, sourcePlayerId, null, game, permanents -> permanents.stream()
                     .filter(permanent -> filter.match(permanent, null, sourcePlayerId, game)
-                            && permanent.isPhasedIn()).count() >= num;
+                            && permanent.isPhasedIn()).limit(num).count() >= num);
 
         } else {
             Set<UUID> range = game.getPlayer(sourcePlayerId).getInRange();
-            return field.values().stream()
+            return query(filter, sourcePlayerId, null, game, permanents -> permanents.stream()
                     .filter(permanent -> range.contains(permanent.getControllerId())
                             && filter.match(permanent, null, sourcePlayerId, game)
                             && permanent.isPhasedIn())
-                    .count() >= num;
+                    .limit(num).count() >= num);
         }
     }
 
     public void addPermanent(Permanent permanent) {
         field.put(permanent.getId(), permanent);
+        invalidateIndexes();
     }
 
     public Permanent getPermanent(UUID key) {
@@ -194,6 +262,7 @@ public class Battlefield implements Serializable {
 
     public void removePermanent(UUID key) {
         field.remove(key);
+        invalidateIndexes();
     }
 
     public boolean containsPermanent(UUID key) {
@@ -268,10 +337,10 @@ public class Battlefield implements Serializable {
      * @see Permanent
      */
     public List<Permanent> getAllActivePermanents(FilterPermanent filter, Game game) {
-        return field.values()
+        return query(filter, null, null, game, permanents -> permanents
                 .stream()
                 .filter(perm -> perm.isPhasedIn() && filter.match(perm, game))
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     /**
@@ -285,10 +354,10 @@ public class Battlefield implements Serializable {
      * @see Permanent
      */
     public List<Permanent> getAllActivePermanents(FilterPermanent filter, UUID controllerId, Game game) {
-        return field.values()
+        return query(filter, null, controllerId, game, permanents -> permanents
                 .stream()
                 .filter(perm -> perm.isPhasedIn() && perm.getControllerId().equals(controllerId) && filter.match(perm, game))
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     /**
@@ -318,16 +387,16 @@ public class Battlefield implements Serializable {
      */
     public List<Permanent> getActivePermanents(FilterPermanent filter, UUID sourcePlayerId, UUID sourceId, Game game) {
         if (game.getRangeOfInfluence() == RangeOfInfluence.ALL) {
-            return field.values()
+            return query(filter, sourcePlayerId, null, game, permanents -> permanents
                     .stream()
                     .filter(perm -> perm.isPhasedIn() && filter.match(perm, sourceId, sourcePlayerId, game))
-                    .collect(Collectors.toList());
+                    .collect(Collectors.toList()));
         } else {
             Set<UUID> range = game.getPlayer(sourcePlayerId).getInRange();
-            return  field.values()
+            return query(filter, sourcePlayerId, null, game, permanents -> permanents
                     .stream()
                     .filter(perm -> perm.isPhasedIn() && range.contains(perm.getControllerId())
-                            && filter.match(perm, sourceId, sourcePlayerId, game)).collect(Collectors.toList());
+                            && filter.match(perm, sourceId, sourcePlayerId, game)).collect(Collectors.toList()));
         }
     }
 
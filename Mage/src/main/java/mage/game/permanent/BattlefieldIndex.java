@@ -0,0 +1,162 @@
+package mage.game.permanent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import mage.abilities.keyword.ChangelingAbility;
+import mage.constants.CardType;
+import mage.constants.SubType;
+import mage.constants.SubTypeSet;
+import mage.constants.TargetController;
+import mage.filter.FilterPermanent;
+import mage.filter.predicate.ObjectPlayerPredicate;
+import mage.filter.predicate.Predicate;
+import mage.filter.predicate.mageobject.CardTypePredicate;
+import mage.filter.predicate.mageobject.SubtypePredicate;
+import mage.filter.predicate.permanent.ControllerIdPredicate;
+import mage.filter.predicate.permanent.ControllerPredicate;
+import mage.filter.predicate.permanent.TappedPredicate;
+import mage.game.Game;
+
+/**
+ * Secondary indexes of the {@link Battlefield} by controller, card type,
+ * subtype and tapped state. The filter queries take the smallest bucket
+ * selected by the predicates of the filter as candidates and match only
+ * them with the filter.
+ *
+ * The continuous effects change the values of the permanents in place, so
+ * the indexes are only used between the end of an application of the effects
+ * and the next handled event (e.g. a tapped permanent or a control change).
+ * They are built on the first query in that time with the current values.
+ * Changes of the indexed values without an event (e.g.
+ * {@link Permanent#setTapped(boolean)}) have to invalidate the indexes.
+ */
+class BattlefieldIndex {
+
+    private final Map<UUID, Set<UUID>> byController = new HashMap<>();
+    private final Map<CardType, Set<UUID>> byCardType = new EnumMap<>(CardType.class);
+    private final Map<SubType, Set<UUID>> bySubtype = new EnumMap<>(SubType.class);
+    private final Set<UUID> tapped = new LinkedHashSet<>();
+    private boolean allCreatureTypes; // a permanent has all creature types (e.g. changeling)
+
+    private boolean applied; // effects were applied since the last change of the battlefield
+    private int appliedEventCounter;
+    private boolean built;
+
+    /**
+     * The battlefield or the values of its permanents change, the indexes
+     * can't be used until the effects are applied again.
+     */
+    void invalidate() {
+        applied = false;
+        built = false;
+    }
+
+    /**
+     * The continuous effects were applied, the indexes can be used until the
+     * next event is handled.
+     */
+    void effectsApplied(Game game) {
+        applied = true;
+        appliedEventCounter = game.getState().getEventCounter();
+        built = false;
+    }
+
+    /**
+     * @param field
+     * @param filter
+     * @param playerId player of a query that matches the controller
+     * predicates of the filter, null otherwise
+     * @param controllerId controller of the permanents of the query, null for
+     * all controllers
+     * @param game
+     * @return the permanents in battlefield order that can match the query,
+     * null if the indexes can't be used and all permanents have to be matched
+     */
+    Collection<Permanent> getCandidates(Map<UUID, Permanent> field, FilterPermanent filter, UUID playerId, UUID controllerId, Game game) {
+        if (!applied || appliedEventCounter != game.getState().getEventCounter()) {
+            return null;
+        }
+        if (!built) {
+            build(field.values(), game);
+        }
+        Set<UUID> best = null;
+        if (controllerId != null) {
+            best = smaller(best, byController.get(controllerId));
+        }
+        for (Predicate<?> predicate : filter.getPredicates()) {
+            if (predicate instanceof CardTypePredicate) {
+                best = smaller(best, byCardType.get(((CardTypePredicate) predicate).getCardType()));
+            } else if (predicate instanceof SubtypePredicate) {
+                SubType subtype = ((SubtypePredicate) predicate).getSubtype();
+                if (!allCreatureTypes || subtype.getSubTypeSet() != SubTypeSet.CreatureType) {
+                    best = smaller(best, bySubtype.get(subtype));
+                }
+            } else if (predicate instanceof ControllerIdPredicate) {
+                UUID id = ((ControllerIdPredicate) predicate).getControllerId();
+                best = smaller(best, id == null ? null : byController.get(id));
+            } else if (predicate instanceof TappedPredicate) {
+                best = smaller(best, tapped);
+            }
+        }
+        if (playerId != null) {
+            for (ObjectPlayerPredicate<?> predicate : filter.getExtraPredicates()) {
+                if (predicate instanceof ControllerPredicate) {
+                    TargetController controller = ((ControllerPredicate) predicate).getController();
+                    if (controller == TargetController.YOU) {
+                        best = smaller(best, byController.get(playerId));
+                    } else if (controller == TargetController.ACTIVE) {
+                        best = smaller(best, byController.get(game.getActivePlayerId()));
+                    }
+                }
+            }
+        }
+        if (best == null) {
+            return null;
+        }
+        List<Permanent> candidates = new ArrayList<>(best.size());
+        for (UUID id : best) {
+            candidates.add(field.get(id));
+        }
+        return candidates;
+    }
+
+    private static Set<UUID> smaller(Set<UUID> best, Set<UUID> bucket) {
+        if (bucket == null) {
+            return Collections.emptySet();
+        }
+        return best == null || bucket.size() < best.size() ? bucket : best;
+    }
+
+    private void build(Collection<Permanent> permanents, Game game) {
+        byController.clear();
+        byCardType.clear();
+        bySubtype.clear();
+        tapped.clear();
+        allCreatureTypes = false;
+        for (Permanent permanent : permanents) {
+            UUID id = permanent.getId();
+            byController.computeIfAbsent(permanent.getControllerId(), key -> new LinkedHashSet<>()).add(id);
+            for (CardType cardType : permanent.getCardType()) {
+                byCardType.computeIfAbsent(cardType, key -> new LinkedHashSet<>()).add(id);
+            }
+            for (SubType subtype : permanent.getSubtype(game)) {
+                bySubtype.computeIfAbsent(subtype, key -> new LinkedHashSet<>()).add(id);
+            }
+            if (permanent.isAllCreatureTypes() || permanent.getAbilities().contains(ChangelingAbility.getInstance())) {
+                allCreatureTypes = true;
+            }
+            if (permanent.isTapped()) {
+                tapped.add(id);
+            }
+        }
+        built = true;
+    }
+}
@@ -54,7 +54,8 @@ public interface Permanent extends Card, Controllable {
      * use tap(game)
      * <p>
      * setTapped doesn't trigger TAPPED event and should be used only if you
-     * want permanent to enter battlefield tapped</p>
+     * want permanent to enter battlefield tapped. For a permanent on the
+     * battlefield call {@link Battlefield#invalidateIndexes()} after it.</p>
      *
      * @param tapped
      * @deprecated
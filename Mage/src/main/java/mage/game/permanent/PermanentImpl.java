@@ -608,6 +608,7 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
 
         if (newController != null && (!newController.hasLeft() || !newController.hasLost())) {
             this.controllerId = controllerId;
+            game.getBattlefield().invalidateIndexes();
             return true;
         }
         return false;
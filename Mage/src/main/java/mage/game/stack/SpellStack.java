@@ -28,16 +28,26 @@
 package mage.game.stack;
 
 import java.util.ArrayDeque;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Predicate;
 import mage.MageObject;
 import mage.constants.Zone;
 import mage.constants.ZoneDetail;
 import mage.game.Game;
+import mage.game.GameState;
 import mage.game.events.GameEvent;
 import org.apache.log4j.Logger;
 
 /**
+ * The stack keeps an index of its objects by id and source id for the
+ * lookups of {@link #getStackObject}, {@link #getSpell} and
+ * {@link #getObject}, they are done much more often than the stack changes.
+ * The index is built on the first lookup after a change.
  *
  * @author BetaSteward_at_googlemail.com
  */
@@ -46,6 +56,7 @@ public class SpellStack extends ArrayDeque<StackObject> {
     private static final Logger logger = Logger.getLogger(SpellStack.class);
 
     protected Date dateLastAdded;
+    private transient Index index; // null if the stack was changed since the last lookup
 
     public SpellStack() {
     }
@@ -124,6 +135,14 @@ public class SpellStack extends ArrayDeque<StackObject> {
     }
 
     public StackObject getStackObject(UUID id) {
+        StackObject found = getIndex().stackObjects.get(id);
+        if (GameState.CHECK_INDEXES) {
+            checkIndex(id, found, findStackObject(id));
+        }
+        return found;
+    }
+
+    private StackObject findStackObject(UUID id) {
         for (StackObject stackObject : this) {
             UUID objectId = stackObject.getId();
             if (objectId.equals(id)) {
@@ -138,6 +157,14 @@ public class SpellStack extends ArrayDeque<StackObject> {
     }
 
     public Spell getSpell(UUID id) {
+        Spell found = getIndex().spells.get(id);
+        if (GameState.CHECK_INDEXES) {
+            checkIndex(id, found, findSpell(id));
+        }
+        return found;
+    }
+
+    private Spell findSpell(UUID id) {
         for (StackObject stackObject : this) {
             if (stackObject instanceof Spell) {
                 if (stackObject.getId().equals(id) || stackObject.getSourceId().equals(id)) {
@@ -148,6 +175,41 @@ public class SpellStack extends ArrayDeque<StackObject> {
         return null;
     }
 
+    /**
+     * @param id
+     * @return the stack object with the id or the spell of the card with the
+     * id (used by {@link Game#getObject(UUID)})
+     */
+    public StackObject getObject(UUID id) {
+        StackObject found = getIndex().objects.get(id);
+        if (GameState.CHECK_INDEXES) {
+            StackObject expected = null;
+            for (StackObject item : this) {
+                if (item.getId().equals(id) || item.getSourceId().equals(id) && item instanceof Spell) {
+                    expected = item;
+                    break;
+                }
+            }
+            checkIndex(id, found, expected);
+        }
+        return found;
+    }
+
+    private Index getIndex() {
+        Index current = index;
+        if (current == null) {
+            current = new Index(this);
+            index = current;
+        }
+        return current;
+    }
+
+    private void checkIndex(UUID id, StackObject found, StackObject expected) {
+        if (found != expected) {
+            throw new IllegalStateException("Stack index is inconsistent for " + id + ": " + found + " instead of " + expected);
+        }
+    }
+
     public SpellStack copy() {
         return new SpellStack(this);
     }
@@ -158,8 +220,191 @@ public class SpellStack extends ArrayDeque<StackObject> {
         this.dateLastAdded = new Date();
     }
 
+    // all changes of the stack drop the index
+    @Override
+    public void addFirst(StackObject e) {
+        index = null;
+        super.addFirst(e);
+    }
+
+    @Override
+    public void addLast(StackObject e) {
+        index = null;
+        super.addLast(e);
+    }
+
+    @Override
+    public boolean offerFirst(StackObject e) {
+        index = null;
+        return super.offerFirst(e);
+    }
+
+    @Override
+    public boolean offerLast(StackObject e) {
+        index = null;
+        return super.offerLast(e);
+    }
+
+    @Override
+    public StackObject removeFirst() {
+        index = null;
+        return super.removeFirst();
+    }
+
+    @Override
+    public StackObject removeLast() {
+        index = null;
+        return super.removeLast();
+    }
+
+    @Override
+    public StackObject pollFirst() {
+        index = null;
+        return super.pollFirst();
+    }
+
+    @Override
+    public StackObject pollLast() {
+        index = null;
+        return super.pollLast();
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        index = null;
+        return super.removeFirstOccurrence(o);
+    }
+
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        index = null;
+        return super.removeLastOccurrence(o);
+    }
+
+    @Override
+    public boolean add(StackObject e) {
+        index = null;
+        return super.add(e);
+    }
+
+    @Override
+    public boolean offer(StackObject e) {
+        index = null;
+        return super.offer(e);
+    }
+
+    @Override
+    public StackObject remove() {
+        index = null;
+        return super.remove();
+    }
+
+    @Override
+    public StackObject poll() {
+        index = null;
+        return super.poll();
+    }
+
+    @Override
+    public StackObject pop() {
+        index = null;
+        return super.pop();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        index = null;
+        return super.remove(o);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends StackObject> c) {
+        index = null;
+        return super.addAll(c);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        index = null;
+        return super.removeAll(c);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        index = null;
+        return super.retainAll(c);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super StackObject> filter) {
+        index = null;
+        return super.removeIf(filter);
+    }
+
+    @Override
+    public void clear() {
+        index = null;
+        super.clear();
+    }
+
+    @Override
+    public Iterator<StackObject> iterator() {
+        return new IndexDroppingIterator(super.iterator());
+    }
+
+    @Override
+    public Iterator<StackObject> descendingIterator() {
+        return new IndexDroppingIterator(super.descendingIterator());
+    }
+
     public Date getDateLastAdded() {
         return dateLastAdded;
     }
 
+    private class IndexDroppingIterator implements Iterator<StackObject> {
+
+        private final Iterator<StackObject> iterator;
+
+        IndexDroppingIterator(Iterator<StackObject> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public StackObject next() {
+            return iterator.next();
+        }
+
+        @Override
+        public void remove() {
+            index = null;
+            iterator.remove();
+        }
+    }
+
+    private static final class Index {
+
+        // first object from the top with the id or source id
+        private final Map<UUID, StackObject> stackObjects = new HashMap<>();
+        private final Map<UUID, Spell> spells = new HashMap<>();
+        // first object from the top with the id or spell with the source id
+        private final Map<UUID, StackObject> objects = new HashMap<>();
+
+        Index(SpellStack stack) {
+            for (StackObject stackObject : stack) {
+                stackObjects.putIfAbsent(stackObject.getId(), stackObject);
+                stackObjects.putIfAbsent(stackObject.getSourceId(), stackObject);
+                objects.putIfAbsent(stackObject.getId(), stackObject);
+                if (stackObject instanceof Spell) {
+                    spells.putIfAbsent(stackObject.getId(), (Spell) stackObject);
+                    spells.putIfAbsent(stackObject.getSourceId(), (Spell) stackObject);
+                    objects.putIfAbsent(stackObject.getSourceId(), stackObject);
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,70 @@
+package mage.players;
+
+import java.util.Objects;
+import java.util.UUID;
+import mage.constants.PhaseStep;
+import mage.game.Game;
+import mage.game.GameState;
+import mage.game.turn.Step;
+
+/**
+ * Result of a playable calculation of {@link PlayerImpl} with the game state
+ * it was calculated for.
+ *
+ * Each action of the game fires events (zone changes, tapping, mana added or
+ * paid, counters, life...), so the result can be reused as long as no event
+ * was handled and the step, the priority, the stack and the mana pool didn't
+ * change, e.g. for the repeated requests of the client to mark the playable
+ * cards.
+ *
+ * @param <T> type of the result
+ */
+final class PlayableCache<T> {
+
+    private final GameState state;
+    private final int eventCounter;
+    private final int turnNum;
+    private final PhaseStep step;
+    private final Step.StepPart stepPart;
+    private final UUID priorityPlayerId;
+    private final int stackSize;
+    private final int revealedSize;
+    private final int mana;
+    private final int conditionalMana;
+    private final T result;
+
+    PlayableCache(Game game, ManaPool manaPool, T result) {
+        this.state = game.getState();
+        this.eventCounter = state.getEventCounter();
+        this.turnNum = state.getTurnNum();
+        this.step = game.getStep() == null ? null : game.getStep().getType();
+        this.stepPart = game.getStep() == null ? null : game.getStep().getStepPart();
+        this.priorityPlayerId = state.getPriorityPlayerId();
+        this.stackSize = state.getStack().size();
+        this.revealedSize = state.getRevealed().size();
+        this.mana = manaPool.count();
+        this.conditionalMana = manaPool.getConditionalMana().size();
+        this.result = result;
+    }
+
+    /**
+     * @return true if nothing changed since the result was calculated
+     */
+    boolean isValid(Game game, ManaPool manaPool) {
+        GameState current = game.getState();
+        return state == current
+                && eventCounter == current.getEventCounter()
+                && turnNum == current.getTurnNum()
+                && step == (game.getStep() == null ? null : game.getStep().getType())
+                && stepPart == (game.getStep() == null ? null : game.getStep().getStepPart())
+                && Objects.equals(priorityPlayerId, current.getPriorityPlayerId())
+                && stackSize == current.getStack().size()
+                && revealedSize == current.getRevealed().size()
+                && mana == manaPool.count()
+                && conditionalMana == manaPool.getConditionalMana().size();
+    }
+
+    T getResult() {
+        return result;
+    }
+}
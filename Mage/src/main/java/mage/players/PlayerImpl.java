@@ -31,6 +31,7 @@ import java.io.Serializable;
 import java.text.SimpleDateFormat;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.stream.Collectors;
 import mage.ConditionalMana;
 import mage.MageObject;
 import mage.Mana;
@@ -214,6 +215,13 @@ public abstract class PlayerImpl implements Player, Serializable {
         }
     };
 
+    // last results of getPlayable and getPlayableInHand, reused until something happens in the game
+    private transient PlayableCache<List<Ability>> playableCache;
+    private transient PlayableCache<Set<UUID>> playableInHandCache;
+    // last result of getManaAvailable with the mana of its sources it was calculated from
+    private transient List<Object> manaAvailableKey;
+    private transient ManaOptions manaAvailable;
+
     public PlayerImpl(String name, RangeOfInfluence range) {
         this(UUID.randomUUID());
         this.name = name;
@@ -312,6 +320,10 @@ public abstract class PlayerImpl implements Player, Serializable {
 
     @Override
     public void restore(Player player) {
+        this.playableCache = null;
+        this.playableInHandCache = null;
+        this.manaAvailableKey = null;
+        this.manaAvailable = null;
         this.name = player.getName();
         this.human = player.isHuman();
         this.life = player.getLife();
@@ -2591,19 +2603,63 @@ public abstract class PlayerImpl implements Player, Serializable {
             }
         }
 
+        // the options only depend on the mana the sources can produce, so big boards are only calculated once
+        List<Object> key = getManaAvailableKey(sourceWithoutManaCosts, sourceWithCosts, game);
+        if (manaAvailable != null && key.equals(manaAvailableKey)) {
+            return manaAvailable.copy();
+        }
+
         for (Abilities<ActivatedManaAbilityImpl> manaAbilities : sourceWithoutManaCosts) {
             available.addMana(manaAbilities, game);
+            if (sourceWithCosts.isEmpty()) {
+                // options with less mana of each type than another option can't pay more costs
+                available.removeDominated();
+            }
         }
         for (Abilities<ActivatedManaAbilityImpl> manaAbilities : sourceWithCosts) {
             available.addManaWithCost(manaAbilities, game);
         }
 
-        // remove duplicated variants (see ManaOptionsTest for info - when thats rises)
-        available.removeDuplicated();
+        // remove duplicated and dominated variants (see ManaOptionsTest for info - when thats rises)
+        available.removeDominated();
 
+        manaAvailableKey = key;
+        manaAvailable = available.copy();
         return available;
     }
 
+    private static List<Object> getManaAvailableKey(List<Abilities<ActivatedManaAbilityImpl>> sourceWithoutManaCosts,
+            List<Abilities<ActivatedManaAbilityImpl>> sourceWithCosts, Game game) {
+        List<Object> key = new ArrayList<>();
+        for (Abilities<ActivatedManaAbilityImpl> manaAbilities : sourceWithoutManaCosts) {
+            List<Object> sourceKey = new ArrayList<>(manaAbilities.size());
+            for (ActivatedManaAbilityImpl ability : manaAbilities) {
+                sourceKey.add(copyNetMana(ability, game));
+            }
+            key.add(sourceKey);
+        }
+        key.add(Boolean.TRUE); // sources with costs follow
+        for (Abilities<ActivatedManaAbilityImpl> manaAbilities : sourceWithCosts) {
+            List<Object> sourceKey = new ArrayList<>(manaAbilities.size() * 4);
+            for (ActivatedManaAbilityImpl ability : manaAbilities) {
+                sourceKey.add(copyNetMana(ability, game));
+                sourceKey.add(ability.getManaCosts().getText());
+                sourceKey.add(ability.getManaCosts().getMana());
+                sourceKey.add(ability.getCosts().isEmpty());
+            }
+            key.add(sourceKey);
+        }
+        return key;
+    }
+
+    private static List<Mana> copyNetMana(ActivatedManaAbilityImpl ability, Game game) {
+        List<Mana> netMana = new ArrayList<>();
+        for (Mana mana : ability.getNetMana(game)) {
+            netMana.add(mana.copy());
+        }
+        return netMana;
+    }
+
     // returns only mana producers that don't require mana payment
     protected List<MageObject> getAvailableManaProducers(Game game) {
         List<MageObject> result = new ArrayList<>();
@@ -2852,6 +2908,22 @@ public abstract class PlayerImpl implements Player, Serializable {
 
     @Override
     public List<Ability> getPlayable(Game game, boolean hidden) {
+        if (!hidden || game.isSimulation()) { // only the own view of the player is requested repeatedly
+            return calculatePlayable(game, hidden);
+        }
+        PlayableCache<List<Ability>> cache = playableCache;
+        if (cache != null && cache.isValid(game, manaPool)) {
+            if (GameState.CHECK_INDEXES) {
+                checkPlayableCache(cache.getResult(), calculatePlayable(game, hidden));
+            }
+        } else {
+            cache = new PlayableCache<>(game, manaPool, calculatePlayable(game, hidden));
+            playableCache = cache;
+        }
+        return new ArrayList<>(cache.getResult());
+    }
+
+    private List<Ability> calculatePlayable(Game game, boolean hidden) {
         List<Ability> playable = new ArrayList<>();
 
         if (!shouldSkipGettingPlayable(game)) {
@@ -2992,8 +3064,32 @@ public abstract class PlayerImpl implements Player, Serializable {
      * @return A Set of cardIds that are playable
      */
     @Override
-    public Set<UUID> getPlayableInHand(Game game
-    ) {
+    public Set<UUID> getPlayableInHand(Game game) {
+        if (game.isSimulation()) {
+            return calculatePlayableInHand(game);
+        }
+        PlayableCache<Set<UUID>> cache = playableInHandCache;
+        if (cache != null && cache.isValid(game, manaPool)) {
+            if (GameState.CHECK_INDEXES && !cache.getResult().equals(calculatePlayableInHand(game))) {
+                throw new IllegalStateException("Playable cards in hand of " + getName() + " changed without game event");
+            }
+        } else {
+            cache = new PlayableCache<>(game, manaPool, calculatePlayableInHand(game));
+            playableInHandCache = cache;
+        }
+        return new HashSet<>(cache.getResult());
+    }
+
+    private void checkPlayableCache(List<Ability> cached, List<Ability> calculated) {
+        List<UUID> cachedIds = cached.stream().map(Ability::getId).collect(Collectors.toList());
+        List<UUID> calculatedIds = calculated.stream().map(Ability::getId).collect(Collectors.toList());
+        if (!cachedIds.equals(calculatedIds)) {
+            throw new IllegalStateException("Playable abilities of " + getName() + " changed without game event: "
+                    + cached + " -> " + calculated);
+        }
+    }
+
+    private Set<UUID> calculatePlayableInHand(Game game) {
         Set<UUID> playable = new HashSet<>();
         if (!shouldSkipGettingPlayable(game)) {
             ManaOptions available = getManaAvailable(game);
@@ -48,7 +48,28 @@ public class Copier<T> {
         Copier.loader = loader;
     }
 
+    /**
+     * Returns a deep copy of the object. Copyable objects are copied with
+     * their own copy method (much faster), all others by serialization.
+     *
+     * @param obj
+     * @return
+     */
     public T copy(T obj) {
+        if (obj instanceof Copyable) {
+            return ((Copyable<T>) obj).copy();
+        }
+        return copySerialized(obj);
+    }
+
+    /**
+     * Returns a deep copy of the object by serialization, also for Copyable
+     * objects.
+     *
+     * @param obj
+     * @return
+     */
+    public T copySerialized(T obj) {
         T copy = null;
 
         FastByteArrayOutputStream fbos = null;
@@ -0,0 +1,111 @@
+package mage.util;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Map that shares its content with all copies made from it until one of them
+ * is changed. Only the changed instance gets its own (shallow) copy of the
+ * entries, so copying a game state with big but rarely changed maps (zones,
+ * zone change counters) is nearly free.
+ *
+ * The values are shared between the copies, so only use it for immutable
+ * values or values that are also shared by the state copy.
+ *
+ * @param <K>
+ * @param <V>
+ */
+public class CopyOnWriteMap<K, V> implements Serializable, Copyable<CopyOnWriteMap<K, V>> {
+
+    private Backing<K, V> backing;
+
+    public CopyOnWriteMap() {
+        this.backing = new Backing<>(new HashMap<>());
+    }
+
+    public CopyOnWriteMap(final CopyOnWriteMap<K, V> map) {
+        map.backing.shared = true;
+        this.backing = map.backing;
+    }
+
+    @Override
+    public CopyOnWriteMap<K, V> copy() {
+        return new CopyOnWriteMap<>(this);
+    }
+
+    public V get(K key) {
+        return backing.map.get(key);
+    }
+
+    public V getOrDefault(K key, V defaultValue) {
+        return backing.map.getOrDefault(key, defaultValue);
+    }
+
+    public boolean containsKey(K key) {
+        return backing.map.containsKey(key);
+    }
+
+    public int size() {
+        return backing.map.size();
+    }
+
+    public boolean isEmpty() {
+        return backing.map.isEmpty();
+    }
+
+    public Set<K> keySet() {
+        return Collections.unmodifiableSet(backing.map.keySet());
+    }
+
+    public Collection<V> values() {
+        return Collections.unmodifiableCollection(backing.map.values());
+    }
+
+    public V put(K key, V value) {
+        return writable().put(key, value);
+    }
+
+    public V remove(K key) {
+        if (!backing.map.containsKey(key)) {
+            return null;
+        }
+        return writable().remove(key);
+    }
+
+    public void clear() {
+        if (backing.shared) {
+            backing = new Backing<>(new HashMap<>());
+        } else {
+            backing.map.clear();
+        }
+    }
+
+    /**
+     * @return true if the content is currently shared with another copy
+     */
+    public boolean isShared() {
+        return backing.shared;
+    }
+
+    private Map<K, V> writable() {
+        if (backing.shared) {
+            // the other copies keep the old backing, it's never changed again
+            backing = new Backing<>(new HashMap<>(backing.map));
+        }
+        return backing.map;
+    }
+
+    private static class Backing<K, V> implements Serializable {
+
+        private final HashMap<K, V> map;
+        private volatile boolean shared;
+
+        Backing(HashMap<K, V> map) {
+            this.map = map;
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package mage.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Registry of the timers, counters and gauges of the game engine. The server
+ * enables it and exports the values (JMX, Prometheus text), without that the
+ * timers and counters don't record anything.
+ *
+ * Usage of a timer:
+ * <pre>
+ * long start = APPLY_EFFECTS_TIMER.start();
+ * ...
+ * APPLY_EFFECTS_TIMER.stop(start);
+ * </pre>
+ */
+public enum Metrics {
+
+    instance;
+
+    /**
+     * System property that enables the metrics (-Dmetrics=true)
+     */
+    public static final String METRICS_PROPERTY = "metrics";
+
+    private volatile boolean enabled = Boolean.getBoolean(METRICS_PROPERTY);
+    private final ConcurrentMap<String, Timer> timers = new ConcurrentSkipListMap<>();
+    private final ConcurrentMap<String, Counter> counters = new ConcurrentSkipListMap<>();
+    private final ConcurrentMap<String, Supplier<? extends Number>> gauges = new ConcurrentHashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @param name e.g. game_apply_effects, the unit (seconds) is added by the
+     * exporter
+     * @return timer with the name, created on first use
+     */
+    public Timer timer(String name) {
+        return timers.computeIfAbsent(name, Timer::new);
+    }
+
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(name, Counter::new);
+    }
+
+    /**
+     * Registers a value that is read when the metrics are exported, e.g. the
+     * number of running games
+     *
+     * @param name
+     * @param value
+     */
+    public void gauge(String name, Supplier<? extends Number> value) {
+        gauges.put(name, value);
+    }
+
+    /**
+     * @return timers sorted by name
+     */
+    public Map<String, Timer> getTimers() {
+        return timers;
+    }
+
+    /**
+     * @return counters sorted by name
+     */
+    public Map<String, Counter> getCounters() {
+        return counters;
+    }
+
+    /**
+     * @return current values of the gauges sorted by name
+     */
+    public Map<String, Number> getGaugeValues() {
+        Map<String, Number> values = new ConcurrentSkipListMap<>();
+        for (Map.Entry<String, Supplier<? extends Number>> entry : gauges.entrySet()) {
+            Number value = entry.getValue().get();
+            if (value != null) {
+                values.put(entry.getKey(), value);
+            }
+        }
+        return values;
+    }
+
+    public static final class Counter {
+
+        private final String name;
+        private final LongAdder count = new LongAdder();
+
+        private Counter(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void increment() {
+            if (instance.enabled) {
+                count.increment();
+            }
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+    }
+
+    /**
+     * Counts the calls and records their duration in a histogram
+     */
+    public static final class Timer {
+
+        /**
+         * upper bounds of the histogram buckets in seconds, the last bucket
+         * has no upper bound
+         */
+        public static final double[] BUCKETS = {0.0001, 0.001, 0.01, 0.1, 1, 10};
+        private static final long[] BUCKET_NANOS = new long[BUCKETS.length];
+
+        static {
+            for (int i = 0; i < BUCKETS.length; i++) {
+                BUCKET_NANOS[i] = (long) (BUCKETS[i] * 1_000_000_000L);
+            }
+        }
+
+        private final String name;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final LongAdder[] buckets = new LongAdder[BUCKETS.length + 1];
+
+        private Timer(String name) {
+            this.name = name;
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return start time for {@link #stop(long)}, 0 if the metrics are
+         * disabled
+         */
+        public long start() {
+            return instance.enabled ? System.nanoTime() : 0;
+        }
+
+        public void stop(long start) {
+            if (start != 0) {
+                record(System.nanoTime() - start);
+            }
+        }
+
+        public void record(long nanos) {
+            if (!instance.enabled) {
+                return;
+            }
+            count.increment();
+            totalNanos.add(nanos);
+            long max = maxNanos.get();
+            while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+                max = maxNanos.get();
+            }
+            int bucket = 0;
+            while (bucket < BUCKET_NANOS.length && nanos > BUCKET_NANOS[bucket]) {
+                bucket++;
+            }
+            buckets[bucket].increment();
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public double getTotalSeconds() {
+            return totalNanos.sum() / 1e9;
+        }
+
+        public double getMaxSeconds() {
+            return maxNanos.get() / 1e9;
+        }
+
+        /**
+         * @return number of calls per bucket of {@link #BUCKETS} (not
+         * cumulative), the last entry is the number of slower calls
+         */
+        public long[] getBucketCounts() {
+            long[] counts = new long[buckets.length];
+            for (int i = 0; i < buckets.length; i++) {
+                counts[i] = buckets[i].sum();
+            }
+            return counts;
+        }
+    }
+}
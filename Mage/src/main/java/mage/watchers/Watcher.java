@@ -28,6 +28,7 @@
 package mage.watchers;
 
 import java.io.Serializable;
+import java.util.Set;
 import java.util.UUID;
 import mage.constants.WatcherScope;
 import mage.game.Game;
@@ -98,6 +99,17 @@ public abstract class Watcher implements Serializable {
 
     public abstract void watch(GameEvent event, Game game);
 
+    /**
+     * The watcher is only informed about events of these types. Override it
+     * if the watcher checks only some event types, so it's not called for all
+     * other events.
+     *
+     * @return the watched event types or null to watch all events
+     */
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return null;
+    }
+
     public abstract Watcher copy();
 
 }
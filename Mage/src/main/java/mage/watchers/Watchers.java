@@ -27,10 +27,16 @@
  */
 package mage.watchers;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import mage.game.Game;
 import mage.game.events.GameEvent;
+import mage.game.events.GameEvent.EventType;
 
 /**
  *
@@ -38,6 +44,9 @@ import mage.game.events.GameEvent;
  */
 public class Watchers extends HashMap<String, Watcher> {
 
+    // event type -> watchers to inform, built lazily and reset if watchers are added or removed
+    private transient Map<EventType, List<Watcher>> eventTypeIndex;
+
     public Watchers() {
     }
 
@@ -54,11 +63,53 @@ public class Watchers extends HashMap<String, Watcher> {
     }
 
     public void watch(GameEvent event, Game game) {
-        for (Watcher watcher : this.values()) {
+        for (Watcher watcher : getWatchers(event.getType())) {
             watcher.watch(event, game);
         }
     }
 
+    private List<Watcher> getWatchers(EventType eventType) {
+        if (eventTypeIndex == null) {
+            eventTypeIndex = new EnumMap<>(EventType.class);
+        }
+        List<Watcher> watchers = eventTypeIndex.get(eventType);
+        if (watchers == null) {
+            watchers = new ArrayList<>();
+            for (Watcher watcher : this.values()) {
+                Set<EventType> eventTypes = watcher.getWatchedEventTypes();
+                if (eventTypes == null || eventTypes.contains(eventType)) {
+                    watchers.add(watcher);
+                }
+            }
+            eventTypeIndex.put(eventType, watchers);
+        }
+        return watchers;
+    }
+
+    @Override
+    public Watcher put(String key, Watcher watcher) {
+        eventTypeIndex = null;
+        return super.put(key, watcher);
+    }
+
+    @Override
+    public Watcher putIfAbsent(String key, Watcher watcher) {
+        eventTypeIndex = null;
+        return super.putIfAbsent(key, watcher);
+    }
+
+    @Override
+    public Watcher remove(Object key) {
+        eventTypeIndex = null;
+        return super.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        eventTypeIndex = null;
+        super.clear();
+    }
+
     public void reset() {
         this.values().forEach(Watcher::reset);
     }
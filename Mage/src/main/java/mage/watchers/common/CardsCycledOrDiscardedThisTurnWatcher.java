@@ -27,6 +27,7 @@
  */
 package mage.watchers.common;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -89,6 +90,11 @@ public class CardsCycledOrDiscardedThisTurnWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DISCARDED_CARD, GameEvent.EventType.CYCLED_CARD);
+    }
+
     public Cards getCardsCycledOrDiscardedThisTurn(UUID playerId) {
         return cycledOrDiscardedCardsThisTurn.getOrDefault(playerId, new CardsImpl());
     }
@@ -28,9 +28,11 @@
 
 package mage.watchers.common;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.UUID;
 
 import mage.constants.PhaseStep;
@@ -74,6 +76,11 @@ public class CardsDrawnDuringDrawStepWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DREW_CARD);
+    }
+
     public int getAmountCardsDrawn(UUID playerId) {
         return amountOfCardsDrawnThisTurn.getOrDefault(playerId, 0);
     }
@@ -73,6 +73,11 @@ public class CastSpellLastTurnWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST);
+    }
+
     @Override
     public void reset() {
         amountOfSpellsCastOnPrevTurn.clear();
@@ -27,9 +27,11 @@
  */
 package mage.watchers.common;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.UUID;
 import mage.constants.WatcherScope;
 import mage.game.Game;
@@ -68,6 +70,11 @@ public class CreatureAttackedWhichPlayerWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ATTACKER_DECLARED);
+    }
+
     public UUID getPlayerAttackedThisTurnByCreature(UUID creatureId) {
         return getPlayerAttackedThisTurnByCreature.getOrDefault(creatureId, null);
     }
@@ -32,6 +32,8 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.game.events.GameEvent.EventType;
 import mage.watchers.Watcher;
+import java.util.EnumSet;
+import java.util.Set;
 
 /**
  * The watcher checks if a specific phase event has already happened during the
@@ -64,4 +66,9 @@ public class FirstTimeStepWatcher extends Watcher {
             condition = true;
         }
     }
+
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(eventType);
+    }
 }
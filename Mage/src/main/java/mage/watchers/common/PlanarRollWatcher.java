@@ -27,9 +27,11 @@
  */
 package mage.watchers.common;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.UUID;
 import mage.constants.WatcherScope;
 import mage.game.Game;
@@ -73,6 +75,11 @@ public class PlanarRollWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.PLANAR_DIE_ROLLED);
+    }
+
     public int getNumberTimesPlanarDieRolled(UUID playerId) {
         return numberTimesPlanarDieRolled.getOrDefault(playerId, 0);
     }
@@ -1,5 +1,6 @@
 package mage.watchers.common;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -45,6 +46,11 @@ public class PlayLandWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.LAND_PLAYED);
+    }
+
     @Override
     public void reset() {
         playerPlayedLand.clear();
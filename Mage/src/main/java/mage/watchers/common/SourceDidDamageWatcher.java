@@ -68,6 +68,11 @@ public class SourceDidDamageWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_CREATURE, GameEvent.EventType.DAMAGED_PLANESWALKER, GameEvent.EventType.DAMAGED_PLAYER);
+    }
+
     @Override
     public void reset() {
         super.reset();
@@ -8,6 +8,8 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.game.events.ZoneChangeEvent;
 import mage.watchers.Watcher;
+import java.util.EnumSet;
+import java.util.Set;
 
 /**
  * Created by Eric on 9/24/2016.
@@ -40,6 +42,11 @@ public class ZuberasDiedWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE);
+    }
+
     @Override
     public void reset() {
         super.reset();
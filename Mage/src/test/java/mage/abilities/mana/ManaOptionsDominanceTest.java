@@ -0,0 +1,63 @@
+package mage.abilities.mana;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import mage.Mana;
+import org.junit.Test;
+
+/**
+ * Checks which mana options are removed as duplicated or dominated by
+ * another option.
+ */
+public class ManaOptionsDominanceTest {
+
+    @Test
+    public void shouldRemoveDuplicatedOptions() {
+        // given
+        ManaOptions options = new ManaOptions();
+        options.add(Mana.GreenMana(2));
+        options.add(Mana.RedMana(1));
+        options.add(Mana.GreenMana(2));
+
+        // when
+        options.removeDuplicated();
+
+        // then
+        assertEquals(2, options.size());
+        assertEquals(Mana.RedMana(1), options.get(0));
+        assertEquals(Mana.GreenMana(2), options.get(1));
+    }
+
+    @Test
+    public void shouldRemoveDominatedOptions() {
+        // given
+        ManaOptions options = new ManaOptions();
+        options.add(Mana.GreenMana(1));
+        options.add(new Mana(0, 2, 0, 0, 0, 0, 0, 0)); // {G}{G}
+        options.add(Mana.RedMana(1));
+        options.add(Mana.GreenMana(2));
+
+        // when
+        options.removeDominated();
+
+        // then
+        assertEquals(2, options.size());
+        assertTrue(options.contains(Mana.RedMana(1)));
+        assertTrue(options.contains(Mana.GreenMana(2)));
+    }
+
+    @Test
+    public void shouldKeepOptionsOfDifferentColors() {
+        // given
+        ManaOptions options = new ManaOptions();
+        options.add(new Mana(1, 1, 0, 0, 0, 0, 0, 0)); // {R}{G}
+        options.add(Mana.GreenMana(2));
+        options.add(Mana.ColorlessMana(3));
+
+        // when
+        options.removeDominated();
+
+        // then
+        assertEquals(3, options.size());
+    }
+}
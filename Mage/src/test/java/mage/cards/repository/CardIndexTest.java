@@ -0,0 +1,80 @@
+package mage.cards.repository;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import mage.constants.CardType;
+import mage.constants.Rarity;
+import org.junit.Test;
+
+/**
+ * Finds cards in the in-memory {@link CardIndex} by name, set and criteria.
+ */
+public class CardIndexTest {
+
+    private static CardInfo card(String name, String setCode, String cardNumber, Rarity rarity, boolean red, CardType... types) {
+        CardInfo card = new CardInfo();
+        card.name = name;
+        card.setCode = setCode;
+        card.cardNumber = cardNumber;
+        card.rarity = rarity;
+        card.red = red;
+        card.setTypes(EnumSet.copyOf(Arrays.asList(types)));
+        card.subtypes = "";
+        card.supertypes = "";
+        card.rules = "";
+        return card;
+    }
+
+    private final CardInfo boltM10 = card("Lightning Bolt", "M10", "146", Rarity.COMMON, true, CardType.INSTANT);
+    private final CardInfo boltLEA = card("Lightning Bolt", "LEA", "161", Rarity.COMMON, true, CardType.INSTANT);
+    private final CardInfo mountain = card("Mountain", "M10", "242", Rarity.LAND, false, CardType.LAND);
+    private final CardInfo golem = card("Bottle Golem", "M10", "206", Rarity.UNCOMMON, false, CardType.ARTIFACT, CardType.CREATURE);
+    private final CardIndex index = new CardIndex(Arrays.asList(boltM10, boltLEA, mountain, golem));
+
+    @Test
+    public void shouldFindByName() {
+        assertEquals(Arrays.asList(boltM10, boltLEA), index.findCards("Lightning Bolt"));
+        assertEquals(Arrays.asList(boltM10, boltLEA), index.findCardsCaseInsensitive("lightning BOLT"));
+        assertTrue(index.findCards("lightning bolt").isEmpty());
+    }
+
+    @Test
+    public void shouldFindBySetAndNumber() {
+        assertSame(boltLEA, index.findCard("LEA", "161"));
+        assertNull(index.findCard("LEA", "146"));
+    }
+
+    @Test
+    public void shouldMatchCriteria() {
+        assertEquals(Arrays.asList(boltM10, mountain, golem), index.findCards(new CardCriteria().setCodes("M10")));
+        assertEquals(Arrays.asList(golem), index.findCards(new CardCriteria().types(CardType.CREATURE)));
+        assertEquals(Arrays.asList(boltM10, golem), index.findCards(new CardCriteria().setCodes("M10").notTypes(CardType.LAND)));
+        assertEquals(Arrays.asList(boltLEA, golem), index.findCards(new CardCriteria().notTypes(CardType.LAND).start(1L).count(2L)));
+        assertEquals(Arrays.asList(boltM10, boltLEA), index.findCards(new CardCriteria().nameExact("Lightning Bolt")));
+        assertEquals(Arrays.asList(golem), index.findCards(new CardCriteria().name("Golem")));
+        assertEquals(Arrays.asList(boltM10, boltLEA), index.findCards(new CardCriteria().rarities(Rarity.COMMON)));
+        // red or colorless
+        List<CardInfo> cards = index.findCards(new CardCriteria().black(false).blue(false).green(false).white(false));
+        assertEquals(Arrays.asList(boltM10, boltLEA, mountain, golem), cards);
+        cards = index.findCards(new CardCriteria().black(false).blue(false).green(false).white(false).colorless(false));
+        assertEquals(Arrays.asList(boltM10, boltLEA), cards);
+        // no color selected adds no color clause to the query
+        cards = index.findCards(new CardCriteria().black(false).blue(false).green(false).red(false).white(false).colorless(false));
+        assertEquals(Arrays.asList(boltM10, boltLEA, mountain, golem), cards);
+        assertEquals(Arrays.asList(mountain, golem), index.findCards(new CardCriteria().minCardNumber(200)));
+    }
+
+    @Test
+    public void shouldNotIndexWildcards() {
+        assertTrue(new CardCriteria().name("Bolt").isIndexable());
+        assertFalse(new CardCriteria().name("Lightning%").isIndexable());
+        assertFalse(new CardCriteria().subtypes("Gob_in").isIndexable());
+        assertFalse(new CardCriteria().setOrderBy("name").isIndexable());
+    }
+}
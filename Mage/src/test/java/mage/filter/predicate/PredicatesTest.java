@@ -0,0 +1,105 @@
+package mage.filter.predicate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import mage.constants.CardType;
+import mage.filter.predicate.mageobject.CardTypePredicate;
+import mage.filter.predicate.permanent.TappedPredicate;
+import mage.game.Game;
+import org.junit.Test;
+
+/**
+ * Checks that compiled predicates are ordered by cost and evaluate like the
+ * original ones.
+ */
+public class PredicatesTest {
+
+    private static Predicate<Object> named(String name, boolean result) {
+        return new Predicate<Object>() {
+            @Override
+            public boolean apply(Object input, Game game) {
+                return result;
+            }
+
+            @Override
+            public String toString() {
+                return name;
+            }
+        };
+    }
+
+    @Test
+    public void shouldMoveCheapPredicatesToTheFront() {
+        // given
+        Predicate<Object> first = named("first", true);
+        Predicate<Object> second = named("second", true);
+        Predicate<Object> type = (Predicate) new CardTypePredicate(CardType.CREATURE);
+        List<Predicate<Object>> predicates = new ArrayList<>(Arrays.asList(first, type, second));
+
+        // when
+        CompiledPredicate<Object> compiled = Predicates.compile(predicates, null);
+
+        // then
+        Predicate<? super Object>[] components = compiled.getComponents();
+        assertEquals(3, components.length);
+        assertSame(type, components[0]);
+        assertSame("order of the other predicates is kept", first, components[1]);
+        assertSame(second, components[2]);
+    }
+
+    @Test
+    public void shouldFlattenNestedAndAndDoubleNot() {
+        // given
+        Predicate<Object> first = named("first", true);
+        Predicate<Object> second = named("second", true);
+        Predicate<Object> tapped = (Predicate) new TappedPredicate();
+        List<Predicate<Object>> predicates = new ArrayList<>();
+        predicates.add(Predicates.and(first, second));
+        predicates.add(Predicates.not(Predicates.not(tapped)));
+
+        // when
+        CompiledPredicate<Object> compiled = Predicates.compile(predicates, null);
+
+        // then
+        Predicate<? super Object>[] components = compiled.getComponents();
+        assertEquals(3, components.length);
+        assertSame(tapped, components[0]);
+        assertSame(first, components[1]);
+        assertSame(second, components[2]);
+    }
+
+    @Test
+    public void shouldEvaluateLikeAnd() {
+        // given
+        List<Predicate<Object>> predicates = new ArrayList<>();
+        predicates.add(Predicates.or(named("false", false), Predicates.or(named("false", false), named("true", true))));
+        predicates.add(Predicates.not(named("false", false)));
+
+        // when
+        CompiledPredicate<Object> compiled = Predicates.compile(predicates, null);
+
+        // then
+        assertTrue(compiled.apply(new Object(), null));
+        predicates.add(named("false", false));
+        assertFalse(Predicates.compile(predicates, compiled).apply(new Object(), null));
+    }
+
+    @Test
+    public void shouldReuseCompiledPredicateIfNothingWasAdded() {
+        // given
+        List<Predicate<Object>> predicates = new ArrayList<>();
+        predicates.add(named("true", true));
+        CompiledPredicate<Object> compiled = Predicates.compile(predicates, null);
+
+        // when
+        CompiledPredicate<Object> again = Predicates.compile(predicates, compiled);
+
+        // then
+        assertSame(compiled, again);
+    }
+}
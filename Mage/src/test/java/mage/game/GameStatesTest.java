@@ -0,0 +1,151 @@
+package mage.game;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Saves, thins out, rolls back and removes {@link GameStates}.
+ */
+public class GameStatesTest {
+
+    @Test
+    public void shouldKeepAllStatesWithoutLimit() {
+        // given
+        GameStates states = new GameStates();
+        GameState state = new GameState();
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            states.save(state);
+        }
+
+        // then
+        assertEquals(100, states.getSize());
+        assertEquals(100, states.getStoredSize());
+    }
+
+    @Test
+    public void shouldThinOutOldStates() {
+        // given
+        GameStates states = new GameStates();
+        states.setMaxStates(40);
+        GameState state = new GameState();
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            states.save(state);
+        }
+
+        // then
+        assertEquals(1000, states.getSize());
+        assertTrue(states.getStoredSize() <= 40);
+        assertNotNull(states.get(0));
+        assertNotNull(states.get(501)); // nearest keyframe
+        assertNotNull(states.rollback(999)); // newest states are never thinned out
+    }
+
+    @Test
+    public void shouldNotRollbackToThinnedOutState() {
+        // given
+        GameStates states = new GameStates();
+        states.setMaxStates(40);
+        GameState state = new GameState();
+        for (int i = 0; i < 1000; i++) {
+            states.save(state);
+        }
+
+        // when
+        GameState restored = states.rollback(501);
+
+        // then
+        assertNull(restored);
+        assertEquals(502, states.getSize());
+    }
+
+    @Test
+    public void shouldRemoveStates() {
+        // given
+        GameStates states = new GameStates();
+        GameState state = new GameState();
+        for (int i = 0; i < 10; i++) {
+            states.save(state);
+        }
+
+        // when
+        int size = states.remove(4);
+
+        // then
+        assertEquals(4, size);
+        assertEquals(4, states.getStoredSize());
+        assertNull(states.get(4));
+    }
+
+    @Test
+    public void shouldNeverThinOutBookmarkedStates() {
+        // given
+        GameStates states = new GameStates();
+        states.setMaxStates(40);
+        GameState state = new GameState();
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            states.save(state, i == 501);
+        }
+
+        // then
+        assertEquals(501, states.getKeyframe(501));
+        assertNotNull(states.rollback(501));
+        assertEquals(502, states.getSize());
+    }
+
+    @Test
+    public void shouldShowNearestOlderKeyframe() {
+        // given
+        GameStates states = new GameStates();
+        states.setMaxStates(40);
+        GameState state = new GameState();
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            states.save(state);
+        }
+
+        // then
+        int lastKeyframe = 0;
+        for (int i = 0; i < states.getSize(); i++) {
+            int keyframe = states.getKeyframe(i);
+            assertTrue(keyframe <= i);
+            assertTrue(keyframe >= lastKeyframe);
+            assertEquals(states.getKeyframe(keyframe), keyframe);
+            assertNotNull(states.get(i));
+            assertSame(states.get(keyframe), states.get(i));
+            lastKeyframe = keyframe;
+        }
+        assertNull(states.rollback(states.getKeyframe(501) + 1));
+    }
+
+    @Test
+    public void shouldNotCountBookmarksForTheMaximum() {
+        // given
+        GameStates states = new GameStates();
+        states.setMaxStates(4);
+        GameState state = new GameState();
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            states.save(state, true);
+        }
+        for (int i = 0; i < 40; i++) {
+            states.save(state);
+        }
+
+        // then
+        assertEquals(14, states.getStoredSize());
+        // the keyframes of the other states are thinned out as if there were no bookmarks
+        assertEquals(16, states.getKeyframe(17));
+    }
+}
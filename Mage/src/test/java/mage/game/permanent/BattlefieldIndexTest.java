@@ -0,0 +1,126 @@
+package mage.game.permanent;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import static org.junit.Assert.assertEquals;
+import mage.constants.CardType;
+import mage.constants.MultiplayerAttackOption;
+import mage.constants.RangeOfInfluence;
+import mage.constants.SubType;
+import mage.filter.FilterPermanent;
+import mage.filter.common.FilterCreaturePermanent;
+import mage.filter.predicate.mageobject.CardTypePredicate;
+import mage.filter.predicate.mageobject.SubtypePredicate;
+import mage.filter.predicate.permanent.ControllerIdPredicate;
+import mage.filter.predicate.permanent.TappedPredicate;
+import mage.game.Game;
+import mage.game.GameImpl;
+import mage.game.match.MatchType;
+import mage.game.permanent.token.GoblinToken;
+import mage.game.permanent.token.SoldierToken;
+import mage.game.permanent.token.TreasureToken;
+import mage.players.Player;
+import org.junit.Test;
+
+/**
+ * Checks that the filter queries of the {@link Battlefield} give the same
+ * results with the indexes as with a full search.
+ */
+public class BattlefieldIndexTest {
+
+    private final UUID playerA = UUID.randomUUID();
+    private final UUID playerB = UUID.randomUUID();
+
+    private static Game game() {
+        return new GameImpl(MultiplayerAttackOption.LEFT, RangeOfInfluence.ALL, 0, 20) {
+            @Override
+            public MatchType getGameType() {
+                return null;
+            }
+
+            @Override
+            public int getNumPlayers() {
+                return 2;
+            }
+
+            @Override
+            public Set<UUID> getOpponents(UUID playerId) {
+                return null;
+            }
+
+            @Override
+            public boolean isOpponent(Player player, UUID playerToCheck) {
+                return false;
+            }
+
+            @Override
+            public Game copy() {
+                return this;
+            }
+        };
+    }
+
+    @Test
+    public void shouldQueryTheIndexedPermanents() {
+        // given
+        Game game = game();
+        Battlefield battlefield = game.getBattlefield();
+        Permanent soldierA = new PermanentToken(new SoldierToken(), playerA, "M10", game);
+        Permanent goblinB = new PermanentToken(new GoblinToken(), playerB, "M10", game);
+        Permanent treasureB = new PermanentToken(new TreasureToken(), playerB, "XLN", game);
+        battlefield.addPermanent(soldierA);
+        battlefield.addPermanent(goblinB);
+        battlefield.addPermanent(treasureB);
+        goblinB.setTapped(true);
+
+        // when
+        battlefield.effectsApplied(game);
+
+        // then
+        FilterPermanent goblins = new FilterPermanent(SubType.GOBLIN, "Goblin");
+        FilterPermanent artifacts = new FilterPermanent();
+        artifacts.add(new CardTypePredicate(CardType.ARTIFACT));
+        FilterPermanent tapped = new FilterPermanent();
+        tapped.add(new TappedPredicate());
+        FilterPermanent controlledByA = new FilterPermanent();
+        controlledByA.add(new ControllerIdPredicate(playerA));
+        assertEquals(list(goblinB), battlefield.getAllActivePermanents(goblins, game));
+        assertEquals(list(treasureB), battlefield.getAllActivePermanents(artifacts, game));
+        assertEquals(list(goblinB), battlefield.getAllActivePermanents(tapped, game));
+        assertEquals(list(soldierA), battlefield.getAllActivePermanents(controlledByA, game));
+        assertEquals(list(goblinB), battlefield.getAllActivePermanents(new FilterCreaturePermanent(), playerB, game));
+        assertEquals(0, battlefield.countAll(goblins, playerA, game));
+        assertEquals(2, battlefield.count(new FilterCreaturePermanent(), null, playerA, game));
+    }
+
+    @Test
+    public void shouldNotUseIndexesAfterChanges() {
+        // given
+        Game game = game();
+        Battlefield battlefield = game.getBattlefield();
+        Permanent soldierA = new PermanentToken(new SoldierToken(), playerA, "M10", game);
+        battlefield.addPermanent(soldierA);
+        battlefield.effectsApplied(game);
+        FilterPermanent tapped = new FilterPermanent();
+        tapped.add(new TappedPredicate());
+        assertEquals(0, battlefield.getAllActivePermanents(tapped, game).size());
+
+        // when
+        soldierA.setTapped(true);
+        battlefield.invalidateIndexes();
+        Permanent soldierB = new PermanentToken(new SoldierToken(), playerB, "M10", game);
+        battlefield.addPermanent(soldierB);
+
+        // then
+        assertEquals(list(soldierA), battlefield.getAllActivePermanents(tapped, game));
+        FilterPermanent soldiers = new FilterPermanent();
+        soldiers.add(new SubtypePredicate(SubType.SOLDIER));
+        assertEquals(list(soldierA, soldierB), battlefield.getAllActivePermanents(soldiers, game));
+    }
+
+    private static List<Permanent> list(Permanent... permanents) {
+        return Arrays.asList(permanents);
+    }
+}
@@ -0,0 +1,86 @@
+package mage.game.stack;
+
+import java.util.Iterator;
+import java.util.UUID;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import mage.abilities.Ability;
+import mage.abilities.common.SimpleStaticAbility;
+import mage.abilities.effects.common.GainLifeEffect;
+import mage.constants.Zone;
+import org.junit.Test;
+
+/**
+ * Checks that the index of the {@link SpellStack} follows its changes.
+ */
+public class SpellStackTest {
+
+    private static StackAbility stackAbility(UUID sourceId) {
+        Ability ability = new SimpleStaticAbility(Zone.BATTLEFIELD, new GainLifeEffect(1));
+        ability.setSourceId(sourceId);
+        return new StackAbility(ability, UUID.randomUUID());
+    }
+
+    @Test
+    public void shouldFindTopObjectOfSource() {
+        // given
+        UUID sourceId = UUID.randomUUID();
+        SpellStack stack = new SpellStack();
+        StackAbility first = stackAbility(sourceId);
+        StackAbility second = stackAbility(sourceId);
+
+        // when
+        stack.push(first);
+        stack.push(second);
+
+        // then
+        assertSame(second, stack.getStackObject(sourceId));
+        assertSame(first, stack.getStackObject(first.getId()));
+        assertSame(first, stack.getObject(first.getId()));
+        assertNull("source of an ability isn't the ability", stack.getObject(sourceId));
+        assertNull(stack.getSpell(sourceId));
+    }
+
+    @Test
+    public void shouldUpdateIndexAfterChanges() {
+        // given
+        UUID sourceId = UUID.randomUUID();
+        SpellStack stack = new SpellStack();
+        StackAbility first = stackAbility(sourceId);
+        StackAbility second = stackAbility(sourceId);
+        stack.push(first);
+        stack.push(second);
+        assertSame(second, stack.getStackObject(sourceId));
+
+        // when
+        stack.pop();
+
+        // then
+        assertSame(first, stack.getStackObject(sourceId));
+        assertNull(stack.getStackObject(second.getId()));
+
+        // when
+        for (Iterator<StackObject> it = stack.iterator(); it.hasNext();) {
+            it.next();
+            it.remove();
+        }
+
+        // then
+        assertNull(stack.getStackObject(sourceId));
+    }
+
+    @Test
+    public void shouldIndexCopy() {
+        // given
+        SpellStack stack = new SpellStack();
+        StackAbility ability = stackAbility(UUID.randomUUID());
+        stack.push(ability);
+        stack.getStackObject(ability.getId());
+
+        // when
+        SpellStack copy = stack.copy();
+
+        // then
+        assertSame(copy.getFirst(), copy.getStackObject(ability.getId()));
+    }
+}
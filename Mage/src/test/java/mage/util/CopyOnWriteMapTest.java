@@ -0,0 +1,64 @@
+package mage.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Checks that copies of a {@link CopyOnWriteMap} share the content until
+ * one of them is changed.
+ */
+public class CopyOnWriteMapTest {
+
+    @Test
+    public void shouldShareContentUntilChanged() {
+        // given
+        CopyOnWriteMap<String, Integer> original = new CopyOnWriteMap<>();
+        original.put("a", 1);
+
+        // when
+        CopyOnWriteMap<String, Integer> copy = original.copy();
+
+        // then
+        assertTrue(original.isShared());
+        assertTrue(copy.isShared());
+        assertEquals(Integer.valueOf(1), copy.get("a"));
+    }
+
+    @Test
+    public void shouldNotSeeChangesOfCopy() {
+        // given
+        CopyOnWriteMap<String, Integer> original = new CopyOnWriteMap<>();
+        original.put("a", 1);
+        CopyOnWriteMap<String, Integer> copy = original.copy();
+
+        // when
+        copy.put("a", 2);
+        copy.put("b", 3);
+        original.remove("a");
+
+        // then
+        assertFalse(copy.isShared());
+        assertNull(original.get("a"));
+        assertNull(original.get("b"));
+        assertEquals(Integer.valueOf(2), copy.get("a"));
+        assertEquals(Integer.valueOf(3), copy.get("b"));
+    }
+
+    @Test
+    public void shouldNotClearSharedContent() {
+        // given
+        CopyOnWriteMap<String, Integer> original = new CopyOnWriteMap<>();
+        original.put("a", 1);
+        CopyOnWriteMap<String, Integer> copy = original.copy();
+
+        // when
+        original.clear();
+
+        // then
+        assertTrue(original.isEmpty());
+        assertEquals(1, copy.size());
+    }
+}